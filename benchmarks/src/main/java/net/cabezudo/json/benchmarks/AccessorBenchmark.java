@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import net.cabezudo.json.JSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the call to the getters of a property with {@link Method#invoke(Object, Object...)} against the functions generated by the library for the object, {@code int} and
+ * {@code long} getters. The generated functions are package private, so they are created with reflection in the setup.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+  private Bean bean;
+  private Method nameMethod;
+  private Method idMethod;
+  private Method sizeMethod;
+  private Function<Object, Object> nameFunction;
+  private ToIntFunction<Object> idFunction;
+  private ToLongFunction<Object> sizeFunction;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() throws ReflectiveOperationException {
+    bean = new Bean("Evolution", 1, 1L << 40);
+    nameMethod = Bean.class.getMethod("getName");
+    idMethod = Bean.class.getMethod("getId");
+    sizeMethod = Bean.class.getMethod("getSize");
+    Class<?> accessors = Class.forName("net.cabezudo.json.Accessors", true, JSON.class.getClassLoader());
+    nameFunction = (Function<Object, Object>) accessor(accessors, "function", nameMethod);
+    idFunction = (ToIntFunction<Object>) accessor(accessors, "toIntFunction", idMethod);
+    sizeFunction = (ToLongFunction<Object>) accessor(accessors, "toLongFunction", sizeMethod);
+  }
+
+  private static Object accessor(Class<?> accessors, String name, Method getter) throws ReflectiveOperationException {
+    Method method = accessors.getDeclaredMethod(name, Method.class);
+    method.setAccessible(true);
+    Object accessor = method.invoke(null, getter);
+    if (accessor == null) {
+      throw new IllegalStateException("The library can't generate a function for " + getter);
+    }
+    return accessor;
+  }
+
+  @Benchmark
+  public Object invokeObject() throws IllegalAccessException, InvocationTargetException {
+    return nameMethod.invoke(bean);
+  }
+
+  @Benchmark
+  public Object accessorObject() {
+    return nameFunction.apply(bean);
+  }
+
+  @Benchmark
+  public int invokeInt() throws IllegalAccessException, InvocationTargetException {
+    return (Integer) idMethod.invoke(bean);
+  }
+
+  @Benchmark
+  public int accessorInt() {
+    return idFunction.applyAsInt(bean);
+  }
+
+  @Benchmark
+  public long invokeLong() throws IllegalAccessException, InvocationTargetException {
+    return (Long) sizeMethod.invoke(bean);
+  }
+
+  @Benchmark
+  public long accessorLong() {
+    return sizeFunction.applyAsLong(bean);
+  }
+
+  public static class Bean {
+
+    private final String name;
+    private final int id;
+    private final long size;
+
+    public Bean(String name, int id, long size) {
+      this.name = name;
+      this.id = id;
+      this.size = size;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public long getSize() {
+      return size;
+    }
+  }
+}
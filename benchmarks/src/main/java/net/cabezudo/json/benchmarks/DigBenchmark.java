@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.Projection;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the time to find a property with {@link JSONObject#digValue(String)} in a deep object, a wide object and an array of records. The parse benchmarks compare a full
+ * parse with a lazy parse and a parse with a {@link Projection} when only one property of the document is read.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigBenchmark {
+
+  private JSONObject deep;
+  private JSONObject wide;
+  private JSONObject medium;
+  private String deepPath;
+  private String wideJSON;
+  private String mediumJSON;
+  private final Projection wideProjection = new Projection("key05000");
+  private final Projection arrayProjection = new Projection("records.[*].address.street");
+
+  @Setup
+  public void setup() throws JSONParseException {
+    deep = JSON.parse(Fixtures.load("deep")).toJSONObject();
+    wideJSON = Fixtures.load("wide");
+    wide = JSON.parse(wideJSON).toJSONObject();
+    mediumJSON = Fixtures.load("medium");
+    medium = JSON.parse(mediumJSON).toJSONObject();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      sb.append("child.");
+    }
+    deepPath = sb.append("level").toString();
+  }
+
+  @Benchmark
+  public JSONValue digDeep() throws PropertyNotExistException {
+    return deep.digValue(deepPath);
+  }
+
+  @Benchmark
+  public JSONValue digWide() throws PropertyNotExistException {
+    return wide.digValue("key05000");
+  }
+
+  @Benchmark
+  public JSONValue digArray() throws PropertyNotExistException {
+    return medium.digValue("records.[125].address.street");
+  }
+
+  @Benchmark
+  public JSONValue parseAndDigWide() throws JSONParseException, PropertyNotExistException {
+    return JSON.parse(wideJSON).toJSONObject().digValue("key05000");
+  }
+
+  @Benchmark
+  public JSONValue parseLazyAndDigWide() throws JSONParseException, PropertyNotExistException {
+    return JSON.parseLazy(wideJSON).toJSONObject().digValue("key05000");
+  }
+
+  @Benchmark
+  public JSONValue parseProjectedAndDigWide() throws JSONParseException, PropertyNotExistException {
+    return JSON.parse(wideJSON, wideProjection).toJSONObject().digValue("key05000");
+  }
+
+  @Benchmark
+  public JSONValue parseAndDigArray() throws JSONParseException, PropertyNotExistException {
+    return JSON.parse(mediumJSON).toJSONObject().digValue("records.[125].address.street");
+  }
+
+  @Benchmark
+  public JSONValue parseProjectedAndDigArray() throws JSONParseException, PropertyNotExistException {
+    return JSON.parse(mediumJSON, arrayProjection).toJSONObject().digValue("records.[125].address.street");
+  }
+}
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * The JSON documents used by the benchmarks. The documents are generated with a fixed seed and checked in as resources, so every run measures exactly the same input. Run the
+ * class to generate the documents again:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar net.cabezudo.json.benchmarks.Fixtures src/main/resources/fixtures
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public final class Fixtures {
+
+  /**
+   * The names of the documents. Each name is a resource {@code /fixtures/<name>.json}.
+   */
+  public static final String[] NAMES = {"small", "medium", "large", "deep", "wide", "numbers", "escapes"};
+
+  private static final long SEED = 20161016L;
+  private static final String[] WORDS = {"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do", "eiusmod", "tempor", "incididunt", "ut",
+    "labore", "et", "dolore", "magna", "aliqua"};
+
+  private Fixtures() {
+    // Nothing to do. Just protect the object construction.
+  }
+
+  /**
+   * Load a document from the resources.
+   *
+   * @param name the name of the document.
+   * @return the text of the document.
+   */
+  public static String load(String name) {
+    try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+      if (in == null) {
+        throw new IllegalArgumentException("The fixture " + name + " doesn't exist.");
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int length;
+      while ((length = in.read(buffer)) != -1) {
+        out.write(buffer, 0, length);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static void main(String... args) throws IOException {
+    Path directory = Paths.get(args.length > 0 ? args[0] : "src/main/resources/fixtures");
+    Files.createDirectories(directory);
+    for (String name : NAMES) {
+      Files.write(directory.resolve(name + ".json"), generate(name).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  static String generate(String name) {
+    Random random = new Random(SEED);
+    StringBuilder sb = new StringBuilder();
+    switch (name) {
+      case "small":
+        record(sb, random, 1);
+        break;
+      case "medium":
+        records(sb, random, 250);
+        break;
+      case "large":
+        records(sb, random, 4000);
+        break;
+      case "deep":
+        deep(sb, 200);
+        break;
+      case "wide":
+        wide(sb, random, 10000);
+        break;
+      case "numbers":
+        numbers(sb, random, 50000);
+        break;
+      case "escapes":
+        escapes(sb, random, 2000);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown fixture " + name + ".");
+    }
+    sb.append('\n');
+    return sb.toString();
+  }
+
+  private static void records(StringBuilder sb, Random random, int count) {
+    sb.append("{\n  \"records\": [\n");
+    for (int i = 0; i < count; i++) {
+      sb.append("    ");
+      record(sb, random, i);
+      sb.append(i + 1 < count ? ",\n" : "\n");
+    }
+    sb.append("  ]\n}");
+  }
+
+  private static void record(StringBuilder sb, Random random, int id) {
+    sb.append("{ \"id\": ").append(id);
+    sb.append(", \"name\": \"").append(words(random, 2)).append('"');
+    sb.append(", \"active\": ").append(random.nextBoolean());
+    sb.append(", \"score\": ").append(random.nextInt(100000) / 100.0);
+    sb.append(", \"created\": ").append(1_400_000_000_000L + random.nextInt(Integer.MAX_VALUE));
+    sb.append(", \"tags\": [ ");
+    int tags = 1 + random.nextInt(4);
+    for (int i = 0; i < tags; i++) {
+      sb.append(i > 0 ? ", " : "").append('"').append(WORDS[random.nextInt(WORDS.length)]).append('"');
+    }
+    sb.append(" ], \"address\": { \"street\": \"").append(words(random, 3)).append("\", \"number\": ").append(random.nextInt(1000));
+    sb.append(", \"zip\": \"").append(10000 + random.nextInt(90000)).append("\" }");
+    sb.append(", \"description\": null }");
+  }
+
+  private static void deep(StringBuilder sb, int depth) {
+    for (int i = 0; i < depth; i++) {
+      sb.append("{ \"level\": ").append(i).append(", \"child\": ");
+    }
+    sb.append("[ 1, 2, 3 ]");
+    for (int i = 0; i < depth; i++) {
+      sb.append(" }");
+    }
+  }
+
+  private static void wide(StringBuilder sb, Random random, int count) {
+    sb.append("{\n");
+    for (int i = 0; i < count; i++) {
+      sb.append("  \"key").append(String.format("%05d", i)).append("\": ").append(random.nextInt(1_000_000));
+      sb.append(i + 1 < count ? ",\n" : "\n");
+    }
+    sb.append('}');
+  }
+
+  private static void numbers(StringBuilder sb, Random random, int count) {
+    sb.append("[ ");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        sb.append(i % 10 == 0 ? ",\n  " : ", ");
+      }
+      switch (i % 5) {
+        case 0:
+          sb.append(random.nextInt(1000));
+          break;
+        case 1:
+          sb.append(random.nextLong());
+          break;
+        case 2:
+          sb.append(random.nextInt(10_000_000) / 1000.0);
+          break;
+        case 3:
+          sb.append(-random.nextInt(1_000_000) / 100.0);
+          break;
+        default:
+          sb.append(random.nextDouble() * 1000);
+          break;
+      }
+    }
+    sb.append(" ]");
+  }
+
+  private static void escapes(StringBuilder sb, Random random, int count) {
+    String[] escapes = {"\\\"", "\\\\", "\\/", "\\b", "\\f", "\\n", "\\r", "\\t", "\\u00e9", "\\u4e2d"};
+    sb.append("[\n");
+    for (int i = 0; i < count; i++) {
+      sb.append("  \"");
+      for (int j = 0; j < 8; j++) {
+        sb.append(WORDS[random.nextInt(WORDS.length)]).append(escapes[random.nextInt(escapes.length)]);
+      }
+      sb.append('"').append(i + 1 < count ? ",\n" : "\n");
+    }
+    sb.append(']');
+  }
+
+  private static String words(Random random, int count) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sb.toString();
+  }
+}
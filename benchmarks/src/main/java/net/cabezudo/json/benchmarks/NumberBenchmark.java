@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import net.cabezudo.json.JSONParser;
+import net.cabezudo.json.JSONReader;
+import net.cabezudo.json.TokenType;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the time to read the numbers fixture, an array with integers, longs and decimals, into {@link net.cabezudo.json.values.JSONNumber} values with the decimal and the
+ * double number modes of {@link JSONParser}, and into primitive values with a {@link JSONReader}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberBenchmark {
+
+  private String json;
+  private final JSONParser decimalParser = new JSONParser();
+  private final JSONParser doubleParser = new JSONParser().setNumberMode(JSONParser.NumberMode.DOUBLE);
+
+  @Setup
+  public void setup() {
+    json = Fixtures.load("numbers");
+  }
+
+  @Benchmark
+  public JSONValue parseDecimal() throws JSONParseException {
+    return decimalParser.parse(json);
+  }
+
+  @Benchmark
+  public JSONValue parseDouble() throws JSONParseException {
+    return doubleParser.parse(json);
+  }
+
+  @Benchmark
+  public double readDoubles() throws JSONParseException, IOException {
+    double sum = 0;
+    try (JSONReader reader = new JSONReader(new StringReader(json))) {
+      TokenType token;
+      while ((token = reader.nextToken()) != TokenType.END) {
+        if (token == TokenType.NUMBER) {
+          sum += reader.getDouble();
+        }
+      }
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.values.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the memory used by the properties of an object. The {@code treeSetListAndMap} benchmark creates the structures used by the objects before the properties were stored
+ * in arrays: a {@code TreeSet} with the names, an {@code ArrayList} with the properties and a {@code HashMap} with the properties by name. Run it with {@code -prof gc} and compare
+ * the {@code gc.alloc.rate.norm} of the benchmarks.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectFootprintBenchmark {
+
+  @Param({"5", "20"})
+  private int properties;
+
+  private JSONPair[] jsonPairs;
+
+  @Setup
+  public void setup() {
+    jsonPairs = new JSONPair[properties];
+    for (int i = 0; i < properties; i++) {
+      jsonPairs[i] = new JSONPair("key" + i, i);
+    }
+  }
+
+  @Benchmark
+  public JSONObject jsonObject() {
+    return new JSONObject(jsonPairs);
+  }
+
+  @Benchmark
+  public Object[] treeSetListAndMap() {
+    Set<String> keys = new TreeSet<>();
+    List<JSONPair> list = new ArrayList<>();
+    Map<String, JSONPair> map = new HashMap<>();
+    for (JSONPair jsonPair : jsonPairs) {
+      keys.add(jsonPair.getKey());
+      list.add(jsonPair);
+      map.put(jsonPair.getKey(), jsonPair);
+    }
+    return new Object[]{keys, list, map};
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the time to parse the fixtures into a JSON structure from a {@code String}, from a {@code Reader} and from UTF-8 bytes, with a single scan and with the two stages of
+ * {@link JSON#parseIndexed(byte[], int, int)}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+  @Param({"small", "medium", "large", "deep", "wide", "numbers", "escapes"})
+  private String fixture;
+
+  private String json;
+  private byte[] bytes;
+
+  @Setup
+  public void setup() {
+    json = Fixtures.load(fixture);
+    bytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public JSONValue parseString() throws JSONParseException {
+    return JSON.parse(json);
+  }
+
+  @Benchmark
+  public JSONValue parseReader() throws JSONParseException, IOException {
+    return JSON.parse(new StringReader(json));
+  }
+
+  @Benchmark
+  public JSONValue parseBytes() throws JSONParseException {
+    return JSON.parse(bytes, 0, bytes.length);
+  }
+
+  @Benchmark
+  public JSONValue parseIndexed() throws JSONParseException {
+    return JSON.parseIndexed(bytes, 0, bytes.length);
+  }
+}
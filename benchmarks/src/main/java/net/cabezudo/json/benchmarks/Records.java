@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.benchmarks;
+
+import java.util.List;
+import net.cabezudo.json.annotations.JSONProperty;
+
+/**
+ * The POJO for the record fixtures.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class Records {
+
+  @JSONProperty
+  private List<Record> records;
+
+  public List<Record> getRecords() {
+    return records;
+  }
+
+  public static class Record {
+
+    @JSONProperty
+    private int id;
+    @JSONProperty
+    private String name;
+    @JSONProperty
+    private boolean active;
+    @JSONProperty
+    private double score;
+    @JSONProperty
+    private long created;
+    @JSONProperty
+    private List<String> tags;
+    @JSONProperty
+    private Address address;
+    @JSONProperty
+    private String description;
+
+    public int getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public double getScore() {
+      return score;
+    }
+
+    public long getCreated() {
+      return created;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+  }
+
+  public static class Address {
+
+    @JSONProperty
+    private String street;
+    @JSONProperty
+    private int number;
+    @JSONProperty
+    private String zip;
+
+    public String getStreet() {
+      return street;
+    }
+
+    public int getNumber() {
+      return number;
+    }
+
+    public String getZip() {
+      return zip;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import net.cabezudo.json.exceptions.ObjectException;
+
+/**
+ * Create functional objects to call the getters of the properties. The functions are generated with {@code LambdaMetafactory}, so a call runs like a direct call to the getter
+ * and the primitive values are returned without boxing. If a function can't be generated for a getter the methods use a {@code MethodHandle} or, as last option, the reflective
+ * call.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class Accessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final ClassLoader CLASS_LOADER = Accessors.class.getClassLoader();
+
+  private Accessors() {
+    // Only to avoid the instantiation.
+  }
+
+  /**
+   * Generate a {@code ToIntFunction} for a getter that returns an {@code int}, a {@code short} or a {@code byte}.
+   *
+   * @param getter the getter to call.
+   * @return the function or {@code null} if the function can't be generated.
+   */
+  @SuppressWarnings("unchecked")
+  static ToIntFunction<Object> toIntFunction(Method getter) {
+    return (ToIntFunction<Object>) generate(getter, ToIntFunction.class, "applyAsInt", int.class);
+  }
+
+  /**
+   * Generate a {@code ToLongFunction} for a getter that returns a {@code long}.
+   *
+   * @param getter the getter to call.
+   * @return the function or {@code null} if the function can't be generated.
+   */
+  @SuppressWarnings("unchecked")
+  static ToLongFunction<Object> toLongFunction(Method getter) {
+    return (ToLongFunction<Object>) generate(getter, ToLongFunction.class, "applyAsLong", long.class);
+  }
+
+  /**
+   * Generate a {@code ToDoubleFunction} for a getter that returns a {@code double} or a {@code float}.
+   *
+   * @param getter the getter to call.
+   * @return the function or {@code null} if the function can't be generated.
+   */
+  @SuppressWarnings("unchecked")
+  static ToDoubleFunction<Object> toDoubleFunction(Method getter) {
+    return (ToDoubleFunction<Object>) generate(getter, ToDoubleFunction.class, "applyAsDouble", double.class);
+  }
+
+  /**
+   * Generate a {@code Predicate} for a getter that returns a {@code boolean}.
+   *
+   * @param getter the getter to call.
+   * @return the function or {@code null} if the function can't be generated.
+   */
+  @SuppressWarnings("unchecked")
+  static Predicate<Object> predicate(Method getter) {
+    return (Predicate<Object>) generate(getter, Predicate.class, "test", boolean.class);
+  }
+
+  /**
+   * Create a {@code Function} that calls the getter and returns the value as an object. This method always returns a function, if the function can't be generated use a
+   * {@code MethodHandle} or the reflective call.
+   *
+   * @param getter the getter to call.
+   * @return the function to call the getter.
+   */
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> function(Method getter) {
+    Function<Object, Object> function = (Function<Object, Object>) generate(getter, Function.class, "apply", Object.class);
+    if (function != null) {
+      return function;
+    }
+    MethodHandle handle = unreflect(getter);
+    if (handle != null) {
+      MethodHandle objectHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+      return (object) -> {
+        try {
+          return objectHandle.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw new ObjectException("The method  " + getter.getName() + " for the object " + object.getClass().getName() + " throw an error.", e);
+        }
+      };
+    }
+    return (object) -> {
+      try {
+        return getter.invoke(object);
+      } catch (InvocationTargetException e) {
+        throw new ObjectException("The method  " + getter.getName() + " for the object " + object.getClass().getName() + " throw an error.", e);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        throw new ObjectException("Getting the field value using " + getter.getName() + " in the object " + object.getClass().getName() + ".", e);
+      }
+    };
+  }
+
+  private static MethodHandle unreflect(Method getter) {
+    try {
+      return LOOKUP.unreflect(getter);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static boolean isVisible(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive()) {
+      return true;
+    }
+    try {
+      return Class.forName(type.getName(), false, CLASS_LOADER) == type;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  private static Object generate(Method getter, Class<?> functionalInterface, String methodName, Class<?> returnType) {
+    Class<?> declaringClass = getter.getDeclaringClass();
+    if (!isVisible(declaringClass) || !isVisible(getter.getReturnType())) {
+      return null;
+    }
+    MethodHandle handle = unreflect(getter);
+    if (handle == null) {
+      return null;
+    }
+    MethodType instantiatedType = returnType == Object.class ? handle.type().wrap() : MethodType.methodType(returnType, declaringClass);
+    try {
+      CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(functionalInterface), MethodType.methodType(returnType, Object.class), handle,
+              instantiatedType);
+      return callSite.getTarget().invoke();
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+}
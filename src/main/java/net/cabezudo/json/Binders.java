@@ -0,0 +1,360 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashSet;
+import java.util.List;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.ObjectException;
+import net.cabezudo.json.values.JSONString;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * Create the {@link ValueBinder} used to read a value of a Java type. The types supported are the same types that {@link JSON#toJSONTree(Object)} converts: the primitive types
+ * and their wrappers, {@code String}, {@code BigInteger}, {@code BigDecimal}, {@code Date}, {@code Calendar}, {@code Class}, the arrays, the collections, the JSON values and the
+ * objects with properties annotated with {@link net.cabezudo.json.annotations.JSONProperty}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class Binders {
+
+  private Binders() {
+    // Nothing to do. Just protect the object construction.
+  }
+
+  static JSONConversionException conversionException(JSONReader reader, Type type, Throwable cause) {
+    return new JSONConversionException("I can't convert a " + reader.getToken() + " to a " + type.getTypeName() + "." + reader.getPosition(), cause);
+  }
+
+  private static void checkToken(JSONReader reader, TokenType expected, Type type) {
+    if (reader.getToken() != expected) {
+      throw conversionException(reader, type, null);
+    }
+  }
+
+  static int toInt(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    try {
+      return reader.getInt();
+    } catch (ArithmeticException e) {
+      throw conversionException(reader, type, e);
+    }
+  }
+
+  static long toLong(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    try {
+      return reader.getLong();
+    } catch (ArithmeticException e) {
+      throw conversionException(reader, type, e);
+    }
+  }
+
+  static short toShort(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    try {
+      return reader.getBigDecimal().shortValueExact();
+    } catch (ArithmeticException e) {
+      throw conversionException(reader, type, e);
+    }
+  }
+
+  static byte toByte(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    try {
+      return reader.getBigDecimal().byteValueExact();
+    } catch (ArithmeticException e) {
+      throw conversionException(reader, type, e);
+    }
+  }
+
+  static double toDouble(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    return reader.getDouble();
+  }
+
+  static float toFloat(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.NUMBER, type);
+    return reader.getBigDecimal().floatValue();
+  }
+
+  static boolean toBoolean(JSONReader reader, Type type) {
+    TokenType token = reader.getToken();
+    if (token != TokenType.TRUE && token != TokenType.FALSE) {
+      throw conversionException(reader, type, null);
+    }
+    return token == TokenType.TRUE;
+  }
+
+  static char toChar(JSONReader reader, Type type) {
+    checkToken(reader, TokenType.STRING, type);
+    String value = reader.getString();
+    if (value.length() != 1) {
+      throw conversionException(reader, type, null);
+    }
+    return value.charAt(0);
+  }
+
+  /**
+   * Return the binder for a type.
+   *
+   * @param type the type of the values to read.
+   * @param referenceFieldName the name of the property used like reference when the value for an object is not an object.
+   * @return the binder used to read the values.
+   */
+  static ValueBinder of(Type type, String referenceFieldName) {
+    Class<?> rawType = rawType(type);
+    if (rawType.isPrimitive()) {
+      return primitive(rawType);
+    }
+    ValueBinder binder = nonNull(type, rawType, referenceFieldName);
+    return reader -> reader.getToken() == TokenType.NULL ? null : binder.read(reader);
+  }
+
+  private static ValueBinder primitive(Class<?> type) {
+    if (type == int.class) {
+      return reader -> toInt(reader, type);
+    }
+    if (type == long.class) {
+      return reader -> toLong(reader, type);
+    }
+    if (type == double.class) {
+      return reader -> toDouble(reader, type);
+    }
+    if (type == boolean.class) {
+      return reader -> toBoolean(reader, type);
+    }
+    if (type == float.class) {
+      return reader -> toFloat(reader, type);
+    }
+    if (type == short.class) {
+      return reader -> toShort(reader, type);
+    }
+    if (type == byte.class) {
+      return reader -> toByte(reader, type);
+    }
+    return reader -> toChar(reader, type);
+  }
+
+  private static ValueBinder nonNull(Type type, Class<?> rawType, String referenceFieldName) {
+    if (rawType == String.class) {
+      return reader -> {
+        checkToken(reader, TokenType.STRING, type);
+        return reader.getString();
+      };
+    }
+    if (rawType == Integer.class || rawType == Long.class || rawType == Double.class || rawType == Boolean.class || rawType == Float.class || rawType == Short.class
+            || rawType == Byte.class || rawType == Character.class) {
+      return primitive(primitiveType(rawType));
+    }
+    if (rawType == BigDecimal.class) {
+      return reader -> {
+        checkToken(reader, TokenType.NUMBER, type);
+        return reader.getBigDecimal();
+      };
+    }
+    if (rawType == BigInteger.class) {
+      return reader -> {
+        checkToken(reader, TokenType.NUMBER, type);
+        try {
+          return reader.getBigDecimal().toBigIntegerExact();
+        } catch (ArithmeticException e) {
+          throw conversionException(reader, type, e);
+        }
+      };
+    }
+    if (rawType == Date.class || rawType == Calendar.class || rawType == GregorianCalendar.class) {
+      return reader -> {
+        checkToken(reader, TokenType.STRING, type);
+        Calendar calendar;
+        try {
+          calendar = new JSONString(reader.getString()).toCalendar();
+        } catch (JSONConversionException e) {
+          throw conversionException(reader, type, e);
+        }
+        return rawType == Date.class ? calendar.getTime() : calendar;
+      };
+    }
+    if (rawType == Class.class) {
+      return reader -> {
+        checkToken(reader, TokenType.STRING, type);
+        try {
+          return Class.forName(reader.getString());
+        } catch (ClassNotFoundException e) {
+          throw conversionException(reader, type, e);
+        }
+      };
+    }
+    if (JSONValue.class.isAssignableFrom(rawType) || rawType == Object.class) {
+      return reader -> {
+        Position position = reader.getPosition();
+        TokenType token = reader.getToken();
+        JSONValue value = reader.readValue();
+        if (!rawType.isInstance(value)) {
+          throw new JSONConversionException("I can't convert a " + token + " to a " + type.getTypeName() + "." + position);
+        }
+        return value;
+      };
+    }
+    if (rawType.isArray()) {
+      return array(rawType.getComponentType(), elementType(type), referenceFieldName);
+    }
+    if (Collection.class.isAssignableFrom(rawType) || rawType == Iterable.class) {
+      return collection(type, rawType, elementType(type), referenceFieldName);
+    }
+    // The class binder is searched when the value is read because a class can have properties of its own type.
+    return reader -> ClassBinder.get(rawType).read(reader, referenceFieldName);
+  }
+
+  private static ValueBinder array(Class<?> componentType, Type elementType, String referenceFieldName) {
+    ValueBinder elementBinder = of(elementType, referenceFieldName);
+    Type arrayType = Array.newInstance(componentType, 0).getClass();
+    return reader -> {
+      checkToken(reader, TokenType.LEFT_BRACKET, arrayType);
+      List<Object> list = new ArrayList<>();
+      while (reader.nextToken() != TokenType.RIGHT_BRACKET) {
+        list.add(elementBinder.read(reader));
+      }
+      Object array = Array.newInstance(componentType, list.size());
+      for (int i = 0; i < list.size(); i++) {
+        Array.set(array, i, list.get(i));
+      }
+      return array;
+    };
+  }
+
+  private static ValueBinder collection(Type type, Class<?> rawType, Type elementType, String referenceFieldName) {
+    ValueBinder elementBinder = of(elementType, referenceFieldName);
+    Constructor<?> constructor;
+    if (rawType.isAssignableFrom(ArrayList.class)) {
+      constructor = null;
+    } else if (rawType.isAssignableFrom(LinkedHashSet.class)) {
+      constructor = null;
+    } else if (!rawType.isInterface() && !Modifier.isAbstract(rawType.getModifiers())) {
+      try {
+        constructor = rawType.getConstructor();
+      } catch (NoSuchMethodException e) {
+        throw new JSONConversionException("I can't find a public constructor without parameters for the collection " + rawType.getName() + ".", e);
+      }
+    } else {
+      throw new JSONConversionException("I don't know how to create a collection " + rawType.getName() + ".");
+    }
+    boolean set = !rawType.isAssignableFrom(ArrayList.class);
+    return reader -> {
+      checkToken(reader, TokenType.LEFT_BRACKET, type);
+      Collection<Object> collection = newCollection(constructor, set);
+      while (reader.nextToken() != TokenType.RIGHT_BRACKET) {
+        collection.add(elementBinder.read(reader));
+      }
+      return collection;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> newCollection(Constructor<?> constructor, boolean set) {
+    if (constructor == null) {
+      return set ? new LinkedHashSet<>() : new ArrayList<>();
+    }
+    try {
+      return (Collection<Object>) constructor.newInstance();
+    } catch (InvocationTargetException e) {
+      throw new ObjectException("The constructor for the collection " + constructor.getDeclaringClass().getName() + " throw an error.", e.getCause());
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new ObjectException("I can't create the collection " + constructor.getDeclaringClass().getName() + ".", e);
+    }
+  }
+
+  private static Class<?> primitiveType(Class<?> wrapper) {
+    if (wrapper == Integer.class) {
+      return int.class;
+    }
+    if (wrapper == Long.class) {
+      return long.class;
+    }
+    if (wrapper == Double.class) {
+      return double.class;
+    }
+    if (wrapper == Boolean.class) {
+      return boolean.class;
+    }
+    if (wrapper == Float.class) {
+      return float.class;
+    }
+    if (wrapper == Short.class) {
+      return short.class;
+    }
+    if (wrapper == Byte.class) {
+      return byte.class;
+    }
+    return char.class;
+  }
+
+  private static Type elementType(Type type) {
+    if (type instanceof GenericArrayType) {
+      return ((GenericArrayType) type).getGenericComponentType();
+    }
+    if (type instanceof Class) {
+      Class<?> c = (Class<?>) type;
+      return c.isArray() ? c.getComponentType() : Object.class;
+    }
+    if (type instanceof ParameterizedType) {
+      Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+      return arguments.length == 1 ? arguments[0] : Object.class;
+    }
+    return Object.class;
+  }
+
+  private static Class<?> rawType(Type type) {
+    if (type instanceof Class) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return rawType(((ParameterizedType) type).getRawType());
+    }
+    if (type instanceof GenericArrayType) {
+      return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+    }
+    if (type instanceof WildcardType) {
+      return rawType(((WildcardType) type).getUpperBounds()[0]);
+    }
+    return Object.class;
+  }
+}
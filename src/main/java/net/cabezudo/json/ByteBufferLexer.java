@@ -0,0 +1,357 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link Lexer} that reads the tokens directly from the bytes of a UTF-8 source in a {@code ByteBuffer}. The source is not decoded into characters before the scan: the
+ * structural characters are found in the bytes and only the strings and the words are decoded when they are requested. The strings that only contain ASCII characters are created
+ * directly from the bytes.
+ * <p>
+ * The positions count characters, like the other lexers, so the bytes of a multibyte character are counted as one character or two if the character is a surrogate pair.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+class ByteBufferLexer extends Lexer {
+
+  private static final byte NBSP_FIRST = (byte) 0xC2;
+  private static final byte NBSP_SECOND = (byte) 0xA0;
+
+  private ByteBuffer buffer;
+  private ByteBuffer view;
+  private byte[] array;
+  private int arrayOffset;
+  private int index;
+  private int limit;
+  private long bufferOffset;
+
+  private int line = 1;
+  private long lineStart;
+  // The number of bytes in the current line that doesn't start a character, used to count the row in characters.
+  private int lineAdjust;
+
+  private int tokenStart;
+  private int tokenEnd;
+  private boolean escaped;
+  private boolean ascii;
+
+  private byte[] scratch = new byte[64];
+  private char[] word = new char[32];
+  private int wordLength;
+
+  /**
+   * Create a lexer for the bytes between the position and the limit of the buffer. The position of the buffer is not changed. A UTF-8 byte order mark at the start of the source
+   * is ignored.
+   *
+   * @param buffer the buffer with the source.
+   */
+  ByteBufferLexer(ByteBuffer buffer) {
+    setBuffer(buffer.slice(), 0);
+    skipByteOrderMark();
+  }
+
+  /**
+   * Start to read the bytes of an array. The table of names is kept, so the names of the properties are shared with the sources read before.
+   *
+   * @param bytes the array with the source.
+   * @param offset the index of the first byte to read.
+   * @param length the number of bytes to read.
+   */
+  void reset(byte[] bytes, int offset, int length) {
+    resetToken();
+    buffer = null;
+    view = null;
+    array = bytes;
+    arrayOffset = offset;
+    limit = length;
+    bufferOffset = 0;
+    index = 0;
+    line = 1;
+    lineStart = 0;
+    lineAdjust = 0;
+    tokenStart = 0;
+    tokenEnd = 0;
+    escaped = false;
+    skipByteOrderMark();
+  }
+
+  private void skipByteOrderMark() {
+    if (limit >= 3 && at(0) == (byte) 0xEF && at(1) == (byte) 0xBB && at(2) == (byte) 0xBF) {
+      index = 3;
+      lineStart = 3;
+    }
+  }
+
+  /**
+   * Return a buffer with the bytes of the source starting at the position passed. The lexer calls the method when it needs more bytes than the bytes in the current buffer, the
+   * position is the start of the current token. The buffer returned must have more bytes than the bytes available from the position in the current buffer. This lexer reads a
+   * single buffer, so it always returns {@code null}.
+   *
+   * @param position the position in the source of the first byte of the buffer to return.
+   * @param available the number of bytes from the position that are in the current buffer.
+   * @return the new buffer or {@code null} if there are no more bytes in the source.
+   */
+  ByteBuffer more(long position, int available) {
+    return null;
+  }
+
+  private void setBuffer(ByteBuffer newBuffer, long offset) {
+    buffer = newBuffer;
+    limit = newBuffer.limit();
+    bufferOffset = offset;
+    if (newBuffer.hasArray()) {
+      array = newBuffer.array();
+      arrayOffset = newBuffer.arrayOffset();
+      view = null;
+    } else {
+      array = null;
+      view = newBuffer.duplicate();
+    }
+  }
+
+  private byte at(int i) {
+    return array != null ? array[arrayOffset + i] : buffer.get(i);
+  }
+
+  private boolean fill() {
+    if (index < limit) {
+      return true;
+    }
+    ByteBuffer next = more(bufferOffset + tokenStart, limit - tokenStart);
+    if (next == null || next.limit() <= limit - tokenStart) {
+      return false;
+    }
+    int shift = tokenStart;
+    setBuffer(next, bufferOffset + shift);
+    index -= shift;
+    tokenStart = 0;
+    return true;
+  }
+
+  private int peek() {
+    index++;
+    int b = fill() ? at(index) : 0;
+    index--;
+    return b;
+  }
+
+  private int getRow() {
+    return (int) (bufferOffset + index - lineStart - lineAdjust + 1);
+  }
+
+  private void newLine() {
+    line++;
+    lineStart = bufferOffset + index;
+    lineAdjust = 0;
+  }
+
+  private void countByte(byte b) {
+    ascii = false;
+    if ((b & 0xC0) == 0x80) {
+      lineAdjust++;
+    } else if ((b & 0xF8) == 0xF0) {
+      lineAdjust--;
+    }
+  }
+
+  @Override
+  TokenType next() throws JSONParseException {
+    byte b;
+    for (;;) {
+      tokenStart = index;
+      if (!fill()) {
+        tokenEnd = index;
+        return setToken(TokenType.END, line, getRow());
+      }
+      b = at(index);
+      if (b == ' ' || b == '\t' || b == '\r') {
+        index++;
+      } else if (b == '\n') {
+        index++;
+        newLine();
+      } else if (b == NBSP_FIRST && peek() == NBSP_SECOND) {
+        index += 2;
+        lineAdjust++;
+      } else {
+        break;
+      }
+    }
+    int row = getRow();
+    ascii = true;
+    TokenType type;
+    switch (b) {
+      case '{':
+        type = TokenType.LEFT_BRACE;
+        break;
+      case '}':
+        type = TokenType.RIGHT_BRACE;
+        break;
+      case '[':
+        type = TokenType.LEFT_BRACKET;
+        break;
+      case ']':
+        type = TokenType.RIGHT_BRACKET;
+        break;
+      case ':':
+        type = TokenType.COLON;
+        break;
+      case ',':
+        type = TokenType.COMMA;
+        break;
+      case '"':
+        int tokenLine = line;
+        readString();
+        return setToken(TokenType.STRING, tokenLine, row);
+      default:
+        readWord();
+        return setToken(classifyWord(word, 0, wordLength, line, row), line, row);
+    }
+    index++;
+    tokenEnd = index;
+    return setToken(type, line, row);
+  }
+
+  private void readString() throws EOSException {
+    escaped = false;
+    index++;
+    for (;;) {
+      if (!fill()) {
+        throw new EOSException(new Position(line, getRow()));
+      }
+      byte b = at(index);
+      if (b == '"') {
+        index++;
+        tokenEnd = index;
+        return;
+      }
+      if (b == '\\') {
+        escaped = true;
+        index++;
+        if (!fill()) {
+          throw new EOSException(new Position(line, getRow()));
+        }
+        b = at(index);
+        if (b >= 0) {
+          index++;
+          continue;
+        }
+      }
+      if (b == '\n') {
+        index++;
+        newLine();
+        continue;
+      }
+      if (b < 0) {
+        countByte(b);
+      }
+      index++;
+    }
+  }
+
+  private void readWord() {
+    while (fill()) {
+      byte b = at(index);
+      if (b >= 0 ? isDelimiter((char) b) : b == NBSP_FIRST && peek() == NBSP_SECOND) {
+        break;
+      }
+      if (b < 0) {
+        countByte(b);
+      }
+      index++;
+    }
+    tokenEnd = index;
+    int length = tokenEnd - tokenStart;
+    if (ascii) {
+      if (word.length < length) {
+        word = new char[Math.max(length, word.length * 2)];
+      }
+      for (int i = 0; i < length; i++) {
+        word[i] = (char) at(tokenStart + i);
+      }
+      wordLength = length;
+    } else {
+      word = text(tokenStart, length, StandardCharsets.UTF_8).toCharArray();
+      wordLength = word.length;
+    }
+  }
+
+  private String text(int start, int length, Charset charset) {
+    if (array != null) {
+      return new String(array, arrayOffset + start, length, charset);
+    }
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    view.limit(start + length);
+    view.position(start);
+    view.get(scratch, 0, length);
+    return new String(scratch, 0, length, charset);
+  }
+
+  @Override
+  String getString() {
+    return text(tokenStart + 1, tokenEnd - tokenStart - 2, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+  }
+
+  @Override
+  String getDecodedString() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return getString();
+  }
+
+  @Override
+  String getKey() {
+    if (escaped || !ascii) {
+      return getDecodedString();
+    }
+    int start = tokenStart + 1;
+    int length = tokenEnd - tokenStart - 2;
+    if (array != null) {
+      return symbols().get(array, arrayOffset + start, length);
+    }
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    view.limit(start + length);
+    view.position(start);
+    view.get(scratch, 0, length);
+    return symbols().get(scratch, 0, length);
+  }
+
+  @Override
+  String getValue() {
+    if (getType() == TokenType.NUMBER) {
+      return getNumber().toString();
+    }
+    return text(tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,334 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link Lexer} that reads the tokens directly from an array of characters.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+class CharArrayLexer extends Lexer {
+
+  private char[] chars;
+  private int limit;
+
+  private int index;
+  private int line = 1;
+  private int lineStart;
+
+  private int tokenStart;
+  private int tokenEnd;
+  private boolean escaped;
+  private LineIndex lines;
+
+  CharArrayLexer(char[] chars) {
+    this(chars, 0, chars.length);
+  }
+
+  CharArrayLexer(char[] chars, int offset, int length) {
+    this(chars, offset, length, 1, offset);
+  }
+
+  /**
+   * Create a lexer that starts to read in the middle of a source. The line and the start of the line are used to report the positions like if the source was read from the start.
+   *
+   * @param chars the source.
+   * @param offset the index of the first character to read.
+   * @param length the number of characters to read.
+   * @param line the line of the character in the offset.
+   * @param lineStart the index of the first character of the line.
+   */
+  CharArrayLexer(char[] chars, int offset, int length, int line, int lineStart) {
+    this.chars = chars;
+    this.index = offset;
+    this.line = line;
+    this.lineStart = lineStart;
+    this.limit = offset + length;
+  }
+
+  /**
+   * Start to read a new source. The table of names is kept, so the names of the properties are shared with the sources read before.
+   *
+   * @param newChars the source.
+   * @param offset the index of the first character to read.
+   * @param length the number of characters to read.
+   */
+  void reset(char[] newChars, int offset, int length) {
+    resetToken();
+    chars = newChars;
+    index = offset;
+    limit = offset + length;
+    line = 1;
+    lineStart = offset;
+    tokenStart = offset;
+    tokenEnd = offset;
+    escaped = false;
+    lines = null;
+  }
+
+  /**
+   * Keep the start of every line read in an index, used to calculate the position of the tokens later.
+   *
+   * @param lines the index for the lines of the source or {@code null} to don't keep the lines.
+   */
+  void setLineIndex(LineIndex lines) {
+    this.lines = lines;
+  }
+
+  @Override
+  LineIndex getLineIndex() {
+    return lines;
+  }
+
+  @Override
+  int getTokenOffset() {
+    return tokenStart;
+  }
+
+  private void newLine(int start) {
+    line++;
+    lineStart = start;
+    addLine(start);
+  }
+
+  private void addLine(int start) {
+    if (lines != null) {
+      lines.add(start);
+    }
+  }
+
+  @Override
+  TokenType next() throws JSONParseException {
+    int i = index;
+    while (i < limit && isWhitespace(chars[i])) {
+      if (chars[i] == '\n') {
+        newLine(i + 1);
+      }
+      i++;
+    }
+    tokenStart = i;
+    int row = i - lineStart + 1;
+    if (i >= limit) {
+      tokenEnd = i;
+      index = i;
+      return setToken(TokenType.END, line, row);
+    }
+    char c = chars[i];
+    TokenType type;
+    switch (c) {
+      case '{':
+        type = TokenType.LEFT_BRACE;
+        break;
+      case '}':
+        type = TokenType.RIGHT_BRACE;
+        break;
+      case '[':
+        type = TokenType.LEFT_BRACKET;
+        break;
+      case ']':
+        type = TokenType.RIGHT_BRACKET;
+        break;
+      case ':':
+        type = TokenType.COLON;
+        break;
+      case ',':
+        type = TokenType.COMMA;
+        break;
+      case '"':
+        int tokenLine = line;
+        index = readString(i + 1);
+        return setToken(TokenType.STRING, tokenLine, row);
+      default:
+        index = readWord(i);
+        return setToken(classifyWord(chars, tokenStart, tokenEnd - tokenStart, line, row), line, row);
+    }
+    tokenEnd = i + 1;
+    index = tokenEnd;
+    return setToken(type, line, row);
+  }
+
+  private int readString(int start) throws EOSException {
+    escaped = false;
+    int i = start;
+    while (i < limit) {
+      char c = chars[i];
+      if (c == '"') {
+        tokenEnd = i + 1;
+        return tokenEnd;
+      }
+      if (c == '\\') {
+        escaped = true;
+        i++;
+      } else if (c == '\n') {
+        newLine(i + 1);
+      }
+      i++;
+    }
+    // A backslash at the end of the source moves i after the limit.
+    throw new EOSException(new Position(line, Math.min(i, limit) - lineStart + 1));
+  }
+
+  /**
+   * Skip the next value of the source without create it. The source must be a valid JSON document, the value is not validated. The value can be any value, including objects and
+   * arrays, and the lexer is positioned after the last character of the value.
+   *
+   * @param source the source used to create the value later.
+   * @return a {@link LazyValue} used to create the value skipped or {@code null} if the next character closes an object or an array.
+   * @throws EOSException if the source ends before the end of the value.
+   */
+  LazyValue skipValue(LazySource source) throws EOSException {
+    int i = index;
+    while (i < limit && isWhitespace(chars[i])) {
+      if (chars[i] == '\n') {
+        newLine(i + 1);
+      }
+      i++;
+    }
+    if (i >= limit) {
+      throw new EOSException(new Position(line, i - lineStart + 1));
+    }
+    char c = chars[i];
+    if (c == '}' || c == ']') {
+      index = i;
+      return null;
+    }
+    LazyValue value = new LazyValue(source, i, line, lineStart);
+    if (c == '"') {
+      index = readString(i + 1);
+    } else if (c == '{' || c == '[') {
+      int depth = 0;
+      do {
+        c = chars[i];
+        if (c == '"') {
+          i = readString(i + 1) - 1;
+        } else if (c == '{' || c == '[') {
+          depth++;
+        } else if (c == '}' || c == ']') {
+          depth--;
+        } else if (c == '\n') {
+          newLine(i + 1);
+        }
+        i++;
+      } while (depth > 0 && i < limit);
+      if (depth > 0) {
+        throw new EOSException(new Position(line, i - lineStart + 1));
+      }
+      index = i;
+    } else {
+      index = readWord(i);
+    }
+    return value;
+  }
+
+  @Override
+  boolean skipContainer() {
+    int i = index;
+    int newLine = line;
+    int newLineStart = lineStart;
+    int depth = 1;
+    while (i < limit) {
+      char c = chars[i++];
+      switch (c) {
+        case '"':
+          while (i < limit && chars[i] != '"') {
+            if (chars[i] == '\\') {
+              i++;
+            } else if (chars[i] == '\n') {
+              newLine++;
+              newLineStart = i + 1;
+              addLine(newLineStart);
+            }
+            i++;
+          }
+          i++;
+          break;
+        case '{':
+        case '[':
+          depth++;
+          break;
+        case '}':
+        case ']':
+          if (--depth == 0) {
+            index = i;
+            tokenStart = i - 1;
+            line = newLine;
+            lineStart = newLineStart;
+            setToken(c == '}' ? TokenType.RIGHT_BRACE : TokenType.RIGHT_BRACKET, line, i - lineStart);
+            return true;
+          }
+          break;
+        case '\n':
+          newLine++;
+          newLineStart = i;
+          addLine(newLineStart);
+          break;
+        default:
+          break;
+      }
+    }
+    return false;
+  }
+
+  private int readWord(int start) {
+    int i = start;
+    while (i < limit && !isDelimiter(chars[i])) {
+      i++;
+    }
+    tokenEnd = i;
+    return i;
+  }
+
+  @Override
+  String getString() {
+    return new String(chars, tokenStart + 1, tokenEnd - tokenStart - 2);
+  }
+
+  @Override
+  String getDecodedString() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return getString();
+  }
+
+  @Override
+  String getKey() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return symbols().get(chars, tokenStart + 1, tokenEnd - tokenStart - 2);
+  }
+
+  @Override
+  String getValue() {
+    if (getType() == TokenType.NUMBER) {
+      return getNumber().toString();
+    }
+    return new String(chars, tokenStart, tokenEnd - tokenStart);
+  }
+}
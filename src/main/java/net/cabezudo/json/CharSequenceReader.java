@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.Reader;
+
+/**
+ * A {@code Reader} that reads the characters of a {@code CharSequence} without copy the complete sequence. The characters of a {@code String}, a {@code StringBuilder} or a
+ * {@code StringBuffer} are copied with {@code getChars}, the characters of other sequences with {@code charAt}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class CharSequenceReader extends Reader {
+
+  private final CharSequence sequence;
+  private int position;
+
+  CharSequenceReader(CharSequence sequence) {
+    this.sequence = sequence;
+  }
+
+  @Override
+  public int read(char[] buffer, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > buffer.length - length) {
+      throw new IndexOutOfBoundsException("Invalid range " + offset + ", " + length + " for an array of size " + buffer.length + ".");
+    }
+    int available = sequence.length() - position;
+    if (available <= 0) {
+      return length == 0 ? 0 : -1;
+    }
+    int count = Math.min(length, available);
+    int end = position + count;
+    if (sequence instanceof String) {
+      ((String) sequence).getChars(position, end, buffer, offset);
+    } else if (sequence instanceof StringBuilder) {
+      ((StringBuilder) sequence).getChars(position, end, buffer, offset);
+    } else if (sequence instanceof StringBuffer) {
+      ((StringBuffer) sequence).getChars(position, end, buffer, offset);
+    } else {
+      for (int i = position; i < end; i++) {
+        buffer[offset++] = sequence.charAt(i);
+      }
+    }
+    position = end;
+    return count;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close.
+  }
+}
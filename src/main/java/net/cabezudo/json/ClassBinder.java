@@ -0,0 +1,133 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.ObjectException;
+
+/**
+ * The properties of a class used to create its objects from JSON objects. The binders are created the first time a class is read and they are kept in a {@code ClassValue}, so
+ * the class hierarchy, the annotations and the types of the fields are searched only once for each class.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class ClassBinder {
+
+  private static final ClassValue<ClassBinder> BINDERS = new ClassValue<ClassBinder>() {
+    @Override
+    protected ClassBinder computeValue(Class<?> type) {
+      return new ClassBinder(type);
+    }
+  };
+
+  private final Class<?> objectClass;
+  private final Constructor<?> constructor;
+  private final Map<String, PropertyBinder> properties = new HashMap<>();
+
+  private ClassBinder(Class<?> objectClass) {
+    this.objectClass = objectClass;
+    Constructor<?> c = null;
+    if (!objectClass.isInterface() && !Modifier.isAbstract(objectClass.getModifiers())) {
+      try {
+        c = objectClass.getDeclaredConstructor();
+        c.setAccessible(true);
+      } catch (NoSuchMethodException | RuntimeException e) {
+        c = null;
+      }
+    }
+    this.constructor = c;
+    for (Class<?> type = objectClass; type != null; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        JSONProperty property = field.getAnnotation(JSONProperty.class);
+        if (property != null && !Modifier.isStatic(field.getModifiers())) {
+          PropertyBinder propertyBinder = new PropertyBinder(field, property);
+          properties.putIfAbsent(propertyBinder.getName(), propertyBinder);
+        }
+      }
+    }
+  }
+
+  static ClassBinder get(Class<?> objectClass) {
+    return BINDERS.get(objectClass);
+  }
+
+  private Object newInstance() {
+    if (constructor == null) {
+      throw new JSONConversionException("The class " + objectClass.getName() + " doesn't have a constructor without parameters.");
+    }
+    try {
+      return constructor.newInstance();
+    } catch (InvocationTargetException e) {
+      throw new ObjectException("The constructor for the object " + objectClass.getName() + " throw an error.", e.getCause());
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new ObjectException("I can't create an object " + objectClass.getName() + ".", e);
+    }
+  }
+
+  /**
+   * Read the current value of the reader and create an object of the class with it. If the value is an object, the properties with the same name of an annotated field are set
+   * in the new object and the other properties are ignored. If the value is a string or a number it is used like the reference of the object, so the value is set in the property
+   * with the name passed.
+   *
+   * @param reader the reader positioned on the first token of the value.
+   * @param referenceFieldName the name of the property that is set when the value is a reference.
+   * @return the object created.
+   * @throws JSONParseException if the source is not a valid JSON document.
+   */
+  Object read(JSONReader reader, String referenceFieldName) throws JSONParseException {
+    TokenType token = reader.getToken();
+    if (token == TokenType.STRING || token == TokenType.NUMBER) {
+      PropertyBinder property = properties.get(referenceFieldName);
+      if (property == null) {
+        throw Binders.conversionException(reader, objectClass, null);
+      }
+      Object object = newInstance();
+      property.read(object, reader);
+      return object;
+    }
+    if (token != TokenType.LEFT_BRACE) {
+      throw Binders.conversionException(reader, objectClass, null);
+    }
+    Object object = newInstance();
+    while (reader.nextToken() == TokenType.KEY) {
+      PropertyBinder property = properties.get(reader.getString());
+      reader.nextToken();
+      if (property == null) {
+        reader.skipChildren();
+      } else {
+        property.read(object, reader);
+      }
+    }
+    return object;
+  }
+}
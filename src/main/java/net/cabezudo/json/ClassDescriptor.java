@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.NotPropertiesException;
+
+/**
+ * The list of properties of a class used to convert its objects into JSON objects. The descriptors are created the first time a class is converted and they are kept in a
+ * {@code ClassValue}, so the class hierarchy, the annotations and the getters are searched only once for each class.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class ClassDescriptor {
+
+  private static final ClassValue<ClassDescriptor> DESCRIPTORS = new ClassValue<ClassDescriptor>() {
+    @Override
+    protected ClassDescriptor computeValue(Class<?> type) {
+      return new ClassDescriptor(type);
+    }
+  };
+
+  private final PropertyDescriptor[] properties;
+
+  private ClassDescriptor(Class<?> objectClass) {
+    List<PropertyDescriptor> list = new ArrayList<>();
+    for (Class<?> c = objectClass; c != null; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        JSONProperty property = field.getAnnotation(JSONProperty.class);
+        if (property != null) {
+          list.add(new PropertyDescriptor(objectClass, field, property));
+        }
+      }
+    }
+    this.properties = list.toArray(new PropertyDescriptor[list.size()]);
+  }
+
+  static ClassDescriptor get(Class<?> objectClass) {
+    return DESCRIPTORS.get(objectClass);
+  }
+
+  PropertyDescriptor[] getProperties() {
+    return properties;
+  }
+
+  /**
+   * Write an object of the class directly to a {@link JSONWriter} using the property descriptors.
+   *
+   * @param object the object to write.
+   * @param writer the writer used to write the object.
+   * @throws IOException if an I/O error occurs.
+   * @throws NotPropertiesException if the object doesn't have properties to show.
+   */
+  void write(Object object, JSONWriter writer) throws IOException {
+    boolean empty = true;
+    for (PropertyDescriptor property : properties) {
+      if (property.write(object, writer, empty)) {
+        empty = false;
+      }
+    }
+    if (empty) {
+      throw new NotPropertiesException("The object " + object.getClass().getName() + " doesn't have properties.");
+    }
+    writer.endObject();
+  }
+}
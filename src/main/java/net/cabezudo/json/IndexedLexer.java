@@ -0,0 +1,268 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link Lexer} for big UTF-8 sources in an array that reads the tokens in two stages. The first stage, a {@link StructuralIndex}, finds the structural characters, the
+ * strings and the start of the words eight bytes at a time. The second stage visits only the positions found, so the bytes inside the strings and the whitespaces are never
+ * read one at a time.
+ * <p>
+ * The tokens and the positions are the same that a {@link ByteBufferLexer} returns for the same source. The first stage costs more than the scan of the second stage saves when
+ * the source is mostly short tokens, so this lexer is faster for the sources with long strings or a lot of whitespaces, like the documents formatted to be read by people.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class IndexedLexer extends Lexer {
+
+  private static final byte NBSP_FIRST = (byte) 0xC2;
+  private static final byte NBSP_SECOND = (byte) 0xA0;
+
+  private final byte[] bytes;
+  private final int end;
+  private final StructuralIndex index;
+  private int cursor = -1;
+
+  private int line = 1;
+  private int lineStart;
+  private int lineAdjust;
+
+  private int tokenStart;
+  private int tokenEnd;
+  private boolean escaped;
+  // The start of a word after a non breaking space inside a run of word bytes, that the index doesn't have.
+  private int pending = -1;
+  private int pendingAdjust;
+
+  private char[] word = new char[32];
+  private int wordLength;
+
+  /**
+   * Create a lexer for the bytes of an array. A UTF-8 byte order mark at the start of the source is ignored.
+   *
+   * @param bytes the array with the source.
+   * @param start the index of the first byte of the source.
+   * @param end the index after the last byte of the source.
+   */
+  IndexedLexer(byte[] bytes, int start, int end) {
+    if (end - start >= 3 && bytes[start] == (byte) 0xEF && bytes[start + 1] == (byte) 0xBB && bytes[start + 2] == (byte) 0xBF) {
+      start += 3;
+    }
+    this.bytes = bytes;
+    this.end = end;
+    this.lineStart = start;
+    this.index = new StructuralIndex(bytes, start, end);
+  }
+
+  private boolean nextPosition() {
+    cursor++;
+    while (cursor >= index.count()) {
+      if (!index.next()) {
+        return false;
+      }
+      cursor = 0;
+    }
+    return true;
+  }
+
+  private int getRow(int position, int adjust) {
+    return position - lineStart - (adjust - lineAdjust) + 1;
+  }
+
+  private void newLine(int position) {
+    line++;
+    lineStart = position + 1;
+    lineAdjust = index.adjust(cursor);
+  }
+
+  @Override
+  TokenType next() throws JSONParseException {
+    if (pending >= 0) {
+      int start = pending;
+      pending = -1;
+      TokenType type = readWord(start, pendingAdjust);
+      if (type != null) {
+        return type;
+      }
+    }
+    while (nextPosition()) {
+      int position = index.position(cursor);
+      TokenType type;
+      switch (bytes[position]) {
+        case '\n':
+          newLine(position);
+          continue;
+        case '{':
+          type = TokenType.LEFT_BRACE;
+          break;
+        case '}':
+          type = TokenType.RIGHT_BRACE;
+          break;
+        case '[':
+          type = TokenType.LEFT_BRACKET;
+          break;
+        case ']':
+          type = TokenType.RIGHT_BRACKET;
+          break;
+        case ':':
+          type = TokenType.COLON;
+          break;
+        case ',':
+          type = TokenType.COMMA;
+          break;
+        case '"':
+          return readString(position);
+        default:
+          type = readWord(position, index.adjust(cursor));
+          if (type == null) {
+            continue;
+          }
+          return type;
+      }
+      tokenStart = position;
+      tokenEnd = position + 1;
+      return setToken(type, line, getRow(position, index.adjust(cursor)));
+    }
+    tokenStart = end;
+    tokenEnd = end;
+    return setToken(TokenType.END, line, getRow(end, index.adjust()));
+  }
+
+  private TokenType readString(int start) throws EOSException {
+    int tokenLine = line;
+    int row = getRow(start, index.adjust(cursor));
+    escaped = false;
+    // The position of the character escaped by the last backslash. All the backslashes and the new lines of a string are in the index.
+    int escapedPosition = -1;
+    while (nextPosition()) {
+      int position = index.position(cursor);
+      byte b = bytes[position];
+      if (b == '"') {
+        tokenStart = start;
+        tokenEnd = position + 1;
+        return setToken(TokenType.STRING, tokenLine, row);
+      }
+      if (position == escapedPosition) {
+        continue;
+      }
+      if (b == '\\') {
+        escaped = true;
+        escapedPosition = position + 1;
+      } else if (b == '\n') {
+        newLine(position);
+      }
+    }
+    throw new EOSException(new Position(line, getRow(end, index.adjust())));
+  }
+
+  /**
+   * Read a word that starts in a position. The non breaking spaces before the word are skipped.
+   *
+   * @return the type of the word or {@code null} if there is no word in the position.
+   */
+  private TokenType readWord(int start, int adjust) throws JSONParseException {
+    int i = start;
+    while (i + 1 < end && bytes[i] == NBSP_FIRST && bytes[i + 1] == NBSP_SECOND) {
+      i += 2;
+      adjust++;
+    }
+    if (i >= end || bytes[i] >= 0 && isDelimiter((char) bytes[i])) {
+      return null;
+    }
+    int row = getRow(i, adjust);
+    tokenStart = i;
+    boolean ascii = true;
+    while (i < end) {
+      byte b = bytes[i];
+      if (b >= 0) {
+        if (isDelimiter((char) b)) {
+          break;
+        }
+      } else if (b == NBSP_FIRST && i + 1 < end && bytes[i + 1] == NBSP_SECOND) {
+        pending = i + 2;
+        pendingAdjust = adjust + 1;
+        break;
+      } else {
+        ascii = false;
+        if ((b & 0xC0) == 0x80) {
+          adjust++;
+        } else if ((b & 0xF8) == 0xF0) {
+          adjust--;
+        }
+      }
+      i++;
+    }
+    tokenEnd = i;
+    int length = tokenEnd - tokenStart;
+    if (ascii) {
+      if (word.length < length) {
+        word = new char[Math.max(length, word.length * 2)];
+      }
+      for (int j = 0; j < length; j++) {
+        word[j] = (char) bytes[tokenStart + j];
+      }
+      wordLength = length;
+    } else {
+      word = new String(bytes, tokenStart, length, StandardCharsets.UTF_8).toCharArray();
+      wordLength = word.length;
+    }
+    return setToken(classifyWord(word, 0, wordLength, line, row), line, row);
+  }
+
+  @Override
+  String getString() {
+    return new String(bytes, tokenStart + 1, tokenEnd - tokenStart - 2, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  String getDecodedString() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return getString();
+  }
+
+  @Override
+  String getKey() {
+    if (!escaped) {
+      String key = symbols().get(bytes, tokenStart + 1, tokenEnd - tokenStart - 2);
+      if (key != null) {
+        return key;
+      }
+    }
+    return getDecodedString();
+  }
+
+  @Override
+  String getValue() {
+    if (getType() == TokenType.NUMBER) {
+      return getNumber().toString();
+    }
+    return new String(bytes, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+  }
+}
@@ -24,23 +24,20 @@
 package net.cabezudo.json;
 
 import java.io.IOException;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import net.cabezudo.json.annotations.JSONProperty;
-import net.cabezudo.json.exceptions.EmptyQueueException;
 import net.cabezudo.json.exceptions.JSONParseException;
 import net.cabezudo.json.exceptions.NotPropertiesException;
-import net.cabezudo.json.exceptions.ObjectException;
 import net.cabezudo.json.exceptions.PropertyNotExistException;
-import net.cabezudo.json.exceptions.UnexpectedElementException;
 import net.cabezudo.json.values.JSONArray;
 import net.cabezudo.json.values.JSONNull;
 import net.cabezudo.json.values.JSONObject;
@@ -91,102 +88,313 @@ public class JSON {
     System.out.println(code);
   }
 
-  private static Object getFieldValue(Object object, String getterName) {
-    Method method;
-    Class<?> objectClass = object.getClass();
+  /**
+   * Parse a string and create a JSON structure of objects representation of JSON elements. The method doesn't keep any state between calls. To reuse the buffers and the names of
+   * the properties between many documents use a {@link JSONParser}.
+   *
+   * @param string the string used to create the JSON structure.
+   * @return the JSON structure.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   */
+  public static JSONValue parse(String string) throws JSONParseException {
+    if (string == null) {
+      throw new JSONParseException("null string parameter.", Position.INITIAL);
+    }
+    return parse(new CharArrayLexer(string.toCharArray()));
+  }
+
+  /**
+   * Parse a string and create a JSON structure that reads its elements from the string the first time they are used. The whole string is validated before the method returns, so
+   * the parse errors are reported here, but the properties of the objects and the elements of the arrays are created only when they are requested. The values created are kept, so
+   * a value is created only once. The structure returned is not thread safe, even if it is only read.
+   *
+   * @param string the string used to create the JSON structure.
+   * @return the JSON structure.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   */
+  public static JSONValue parseLazy(String string) throws JSONParseException {
+    if (string == null) {
+      throw new JSONParseException("null string parameter.", Position.INITIAL);
+    }
+    return LazySource.parse(string.toCharArray());
+  }
+
+  /**
+   * Parse a string and create a JSON structure using several threads when the root of the document is an array. The elements of the array are split in chunks that are parsed
+   * in parallel by the common {@code ForkJoinPool} and joined in order in a single array. The split is speculative: if a chunk doesn't start at the start of an element the rest
+   * of the array is parsed sequentially. The result, including the positions and the errors, is the same result returned by {@link #parse(String)}. Small documents and
+   * documents with an object in the root are parsed sequentially.
+   *
+   * @param string the string used to create the JSON structure.
+   * @return the JSON structure.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   */
+  public static JSONValue parseParallel(String string) throws JSONParseException {
+    if (string == null) {
+      throw new JSONParseException("null string parameter.", Position.INITIAL);
+    }
+    return ParallelArrayParser.parse(string.toCharArray());
+  }
+
+  static JSONValue parse(Lexer lexer) throws JSONParseException {
+    JSONReader reader = new JSONReader(lexer);
+    reader.nextToken();
+    JSONValue jsonElement = reader.readValue();
+    reader.nextToken();
+    return jsonElement;
+  }
+
+  /**
+   * Parse the characters read from a {@code Reader} and create a JSON structure of objects representation of JSON elements. The characters are read using a buffer of fixed
+   * size, so the whole source is never loaded in memory as a {@code String}. The reader is not closed by this method.
+   *
+   * @param reader the source of the JSON document.
+   * @return the JSON structure.
+   * @throws JSONParseException if the source does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IOException if an I/O error occurs reading the source.
+   */
+  public static JSONValue parse(Reader reader) throws JSONParseException, IOException {
+    if (reader == null) {
+      throw new JSONParseException("null reader parameter.", Position.INITIAL);
+    }
     try {
-      method = objectClass.getMethod(getterName);
-    } catch (NoSuchMethodException e) {
-      throw new ObjectException("I can't find the getter '" + getterName + "' in the object " + objectClass.getName(), e);
+      return parse(new ReaderLexer(reader));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Parse a string and create a JSON structure only with the values selected by a projection. The values that are not in the paths of the projection are skipped counting the
+   * brackets and the quotation marks, without create them, so the content of the values skipped is not validated.
+   *
+   * @param string the string used to create the JSON structure.
+   * @param projection the paths of the values to create.
+   * @return the sparse JSON structure.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   */
+  public static JSONValue parse(String string, Projection projection) throws JSONParseException {
+    if (string == null) {
+      throw new JSONParseException("null string parameter.", Position.INITIAL);
+    }
+    return parse(new CharArrayLexer(string.toCharArray()), projection);
+  }
+
+  /**
+   * Parse the characters read from a {@code Reader} and create a JSON structure only with the values selected by a projection. The values that are not in the paths of the
+   * projection are validated but not created. The reader is not closed by this method.
+   *
+   * @param reader the source of the JSON document.
+   * @param projection the paths of the values to create.
+   * @return the sparse JSON structure.
+   * @throws JSONParseException if the source does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IOException if an I/O error occurs reading the source.
+   */
+  public static JSONValue parse(Reader reader, Projection projection) throws JSONParseException, IOException {
+    if (reader == null) {
+      throw new JSONParseException("null reader parameter.", Position.INITIAL);
     }
     try {
-      return method.invoke(object);
-    } catch (InvocationTargetException e) {
-      throw new ObjectException("The method  " + getterName + " for the object " + objectClass.getName() + " throw an error.", e);
-    } catch (IllegalAccessException | IllegalArgumentException e) {
-      throw new ObjectException("Getting the field value using " + getterName + " in the object " + objectClass.getName() + ".", e);
+      return parse(new ReaderLexer(reader), projection);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
   }
 
-  private static String getGetterName(Field field, String fieldName) {
-    Class<?> fieldType = field.getType();
-    String getterPrefix;
+  static JSONValue parse(Lexer lexer, Projection projection) throws JSONParseException {
+    if (projection == null) {
+      throw new IllegalArgumentException("The parameter projection is null.");
+    }
+    JSONReader reader = new JSONReader(lexer);
+    reader.nextToken();
+    JSONValue jsonElement = projection.read(reader);
+    reader.nextToken();
+    return jsonElement;
+  }
 
-    if (fieldType == boolean.class
-            || fieldType == Boolean.class) {
-      getterPrefix = "is";
-    } else {
-      getterPrefix = "get";
+  /**
+   * Check if a sequence of characters is a valid JSON document without create the JSON structure. The checks are the same checks done by {@link #parse(String)}, but the values
+   * are not created. Only the names of the properties are read, to check their escape sequences and to find the names repeated in an object. The sequence is read with a buffer
+   * of fixed size, it is not copied.
+   *
+   * @param sequence the characters to validate.
+   * @return a {@link ValidationResult} with the first error found or a valid result.
+   */
+  public static ValidationResult validate(CharSequence sequence) {
+    if (sequence == null) {
+      return new ValidationResult(new JSONParseException("null string parameter.", Position.INITIAL));
     }
-    return getterPrefix + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    return validate(new ReaderLexer(new CharSequenceReader(sequence)));
   }
 
-  private static List<Field> getInheritedFields(Class<?> clazz) {
-    List<Field> fields = new ArrayList<>();
-    for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
-      fields.addAll(Arrays.asList(c.getDeclaredFields()));
+  /**
+   * Check if the UTF-8 bytes of an array are a valid JSON document without create the JSON structure.
+   *
+   * @param bytes the array with the UTF-8 source.
+   * @return a {@link ValidationResult} with the first error found or a valid result.
+   * @see #validate(CharSequence)
+   */
+  public static ValidationResult validate(byte[] bytes) {
+    if (bytes == null) {
+      return new ValidationResult(new JSONParseException("null bytes parameter.", Position.INITIAL));
     }
-    return fields;
+    return validate(bytes, 0, bytes.length);
   }
 
   /**
-   * Parse a string and create a JSON structure of objects representation of JSON elements.
+   * Check if the UTF-8 bytes in a range of an array are a valid JSON document without create the JSON structure.
    *
-   * @param string the string used to create the JSON structure.
-   * @return the JSON structure.
-   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @param bytes the array with the UTF-8 source.
+   * @param offset the index of the first byte of the source.
+   * @param length the number of bytes of the source.
+   * @return a {@link ValidationResult} with the first error found or a valid result.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   * @see #validate(CharSequence)
    */
-  public static JSONValue parse(String string) throws JSONParseException {
+  public static ValidationResult validate(byte[] bytes, int offset, int length) {
+    if (bytes == null) {
+      return new ValidationResult(new JSONParseException("null bytes parameter.", Position.INITIAL));
+    }
+    return validate(new ByteBufferLexer(ByteBuffer.wrap(bytes, offset, length)));
+  }
 
+  /**
+   * Check if the characters read from a {@code Reader} are a valid JSON document without create the JSON structure. The characters are read using a buffer of fixed size. The
+   * reader is not closed by this method.
+   *
+   * @param reader the source of the JSON document.
+   * @return a {@link ValidationResult} with the first error found or a valid result.
+   * @throws IOException if an I/O error occurs reading the source.
+   * @see #validate(CharSequence)
+   */
+  public static ValidationResult validate(Reader reader) throws IOException {
+    if (reader == null) {
+      return new ValidationResult(new JSONParseException("null reader parameter.", Position.INITIAL));
+    }
+    try {
+      return validate(new ReaderLexer(reader));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  static ValidationResult validate(Lexer lexer) {
+    try {
+      new JSONReader(lexer).validate();
+      return ValidationResult.VALID;
+    } catch (JSONParseException e) {
+      return new ValidationResult(e);
+    }
+  }
+
+  /**
+   * Parse a string and create an object of the class passed with it. The properties of the JSON object are set in the fields annotated with
+   * {@link net.cabezudo.json.annotations.JSONProperty} using the name of the annotation, the other properties are ignored. If the value of a field that contain an object is a
+   * string or a number, the value is used like a reference and it is set in the property indicated by the element {@code field} of the annotation. The objects are created
+   * directly from the tokens of the source without create a JSON structure, so the class must have a constructor without parameters.
+   *
+   * @param <T> the type of the object to create.
+   * @param string the string with the JSON object.
+   * @param objectClass the class of the object to create.
+   * @return the object created.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws net.cabezudo.json.exceptions.JSONConversionException if a value can't be converted to the type of its field.
+   */
+  public static <T> T fromJSON(String string, Class<T> objectClass) throws JSONParseException {
     if (string == null) {
       throw new JSONParseException("null string parameter.", Position.INITIAL);
     }
+    return fromJSON(new CharArrayLexer(string.toCharArray()), objectClass);
+  }
+
+  /**
+   * Parse the characters read from a {@code Reader} and create an object of the class passed with them. The conversion is the same used in
+   * {@link #fromJSON(java.lang.String, java.lang.Class)}. The reader is not closed by this method.
+   *
+   * @param <T> the type of the object to create.
+   * @param reader the source of the JSON object.
+   * @param objectClass the class of the object to create.
+   * @return the object created.
+   * @throws JSONParseException if the source does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IOException if an I/O error occurs reading the source.
+   * @throws net.cabezudo.json.exceptions.JSONConversionException if a value can't be converted to the type of its field.
+   */
+  public static <T> T fromJSON(Reader reader, Class<T> objectClass) throws JSONParseException, IOException {
+    if (reader == null) {
+      throw new JSONParseException("null reader parameter.", Position.INITIAL);
+    }
+    try {
+      return fromJSON(new ReaderLexer(reader), objectClass);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
 
-    String quotationMarks = string.replaceAll("\\\"", "\"");
-    String reverseSolidus = quotationMarks.replaceAll("\\\\\\\\", "\\\\\\\\");
-    String solidus = reverseSolidus.replaceAll("\\/", "/");
-    String formFeeds = solidus.replaceAll("\\\\f", "\f");
-    String lineFeeds = formFeeds.replaceAll("\\\\n", "\n");
-    String carriageReturns = lineFeeds.replaceAll("\\\\r", "\r");
-    String horizontalTabs = carriageReturns.replaceAll("\\\\t", "\t");
+  @SuppressWarnings("unchecked")
+  static <T> T fromJSON(Lexer lexer, Class<T> objectClass) throws JSONParseException {
+    JSONReader reader = new JSONReader(lexer);
+    reader.nextToken();
+    Object object = Binders.of(objectClass, JSONProperty.DEFAULT_REFERENCED_PROPERTY).read(reader);
+    reader.nextToken();
+    return (T) object;
+  }
 
-    String code = horizontalTabs.trim();
+  /**
+   * Parse the UTF-8 bytes of an array and create a JSON structure of objects representation of JSON elements. The bytes are scanned directly, without decode them first into a
+   * {@code String}.
+   *
+   * @param bytes the array with the UTF-8 source.
+   * @param offset the index of the first byte of the source.
+   * @param length the number of bytes of the source.
+   * @return the JSON structure.
+   * @throws JSONParseException if the bytes does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   */
+  public static JSONValue parse(byte[] bytes, int offset, int length) throws JSONParseException {
+    if (bytes == null) {
+      throw new JSONParseException("null bytes parameter.", Position.INITIAL);
+    }
+    return parse(new ByteBufferLexer(ByteBuffer.wrap(bytes, offset, length)));
+  }
 
-    if (code.isBlank()) {
-      throw new JSONParseException("Empty string.", Position.INITIAL);
+  /**
+   * Parse the UTF-8 bytes of an array in two stages and create a JSON structure of objects representation of JSON elements. The first stage finds the structural characters and
+   * the strings eight bytes at a time, the second stage creates the JSON structure visiting only the positions found. The result is the same that
+   * {@link #parse(byte[], int, int)} returns.
+   * <p>
+   * The two stages are faster for big documents with long strings or a lot of whitespaces, like the documents formatted to be read by people. For documents with many short
+   * values, like arrays of numbers, the single scan of {@link #parse(byte[], int, int)} is faster.
+   *
+   * @param bytes the array with the UTF-8 source.
+   * @param offset the index of the first byte of the source.
+   * @param length the number of bytes of the source.
+   * @return the JSON structure.
+   * @throws JSONParseException if the bytes does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   */
+  public static JSONValue parseIndexed(byte[] bytes, int offset, int length) throws JSONParseException {
+    if (bytes == null) {
+      throw new JSONParseException("null bytes parameter.", Position.INITIAL);
+    }
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + bytes.length);
     }
-    Tokens tokens = Tokenizer.tokenize(code);
-    JSONValue jsonElement;
+    return parse(new IndexedLexer(bytes, offset, offset + length));
+  }
 
-    Token token;
-    try {
-      token = tokens.consume();
-    } catch (EmptyQueueException e) {
-      throw new JSONParseException("Nothing to parse.", e, Position.INITIAL);
-    }
-
-    TokenType tokenType = token.getType();
-    JSONFactory jsonFactory = new JSONFactory();
-
-    switch (tokenType) {
-      case LEFT_BRACE:
-        jsonElement = jsonFactory.getJSONObject(tokens, token.getPosition());
-        break;
-      case LEFT_BRACKET:
-        jsonElement = jsonFactory.getJSONArray(tokens, token.getPosition());
-        break;
-      default:
-        throw new UnexpectedElementException(token.getValue(), token.getPosition());
-    }
-    if (tokens.hasNext()) {
-      try {
-        token = tokens.consume();
-      } catch (EmptyQueueException e) {
-        throw new RuntimeException(e);
-      }
-      throw new UnexpectedElementException(token.getValue(), token.getPosition());
+  /**
+   * Parse the UTF-8 bytes between the position and the limit of a {@code ByteBuffer} and create a JSON structure of objects representation of JSON elements. The buffer can be
+   * a direct buffer. The bytes are scanned directly, without decode them first into a {@code String}, and the position of the buffer is not changed.
+   *
+   * @param buffer the buffer with the UTF-8 source.
+   * @return the JSON structure.
+   * @throws JSONParseException if the buffer does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   */
+  public static JSONValue parse(ByteBuffer buffer) throws JSONParseException {
+    if (buffer == null) {
+      throw new JSONParseException("null buffer parameter.", Position.INITIAL);
     }
-    return jsonElement;
+    return parse(new ByteBufferLexer(buffer));
   }
 
   /**
@@ -200,11 +408,39 @@ public class JSON {
    * @throws IOException if an I/O error occurs opening the file.
    */
   public static JSONValue parse(Path filePath, String charsetName) throws JSONParseException, IOException {
-    byte[] data;
-    data = Files.readAllBytes(filePath);
-    String jsonString;
-    jsonString = new String(data, charsetName);
-    return parse(jsonString);
+    Charset charset;
+    try {
+      charset = Charset.forName(charsetName);
+    } catch (IllegalArgumentException e) {
+      throw new UnsupportedEncodingException(charsetName);
+    }
+    if (StandardCharsets.UTF_8.equals(charset)) {
+      return parse(filePath);
+    }
+    try (Reader reader = new InputStreamReader(Files.newInputStream(filePath), charset)) {
+      return parse(reader);
+    }
+  }
+
+  /**
+   * Parse a file encoded in UTF-8 and create a JSON structure of objects representation of JSON elements. The file is mapped in memory with {@code FileChannel.map} and the
+   * tokens are read directly from the mapped regions, so the only memory used in the heap is the memory of the JSON structure. The file is mapped in regions, so files bigger
+   * than 2GB can be parsed. Use {@link JSONReader#JSONReader(java.nio.file.Path)} to read a big file without create the JSON structure.
+   *
+   * @param filePath the {@link java.nio.file.Path} where is the file
+   * @return A JSON structure of objects JSONValue and JSONPair representation of the data in the file.
+   * @throws JSONParseException if the file does not contain a parseable JSON string. The exception contains the information of the position where the parse error raise.
+   * @throws IOException if an I/O error occurs opening or reading the file.
+   */
+  public static JSONValue parse(Path filePath) throws JSONParseException, IOException {
+    MappedFileLexer lexer = MappedFileLexer.open(filePath);
+    try {
+      return parse(lexer);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } finally {
+      lexer.close();
+    }
   }
 
   /**
@@ -304,56 +540,79 @@ public class JSON {
 
     JSONObject jsonObject = new JSONObject();
 
-    Class<?> objectClass = object.getClass();
+    for (PropertyDescriptor property : ClassDescriptor.get(object.getClass()).getProperties()) {
+      jsonValue = property.getJSONValue(object);
+      if (jsonValue != null) {
+        jsonObject.add(new JSONPair(property.getName(), jsonValue));
+      }
+    }
 
-    List<Field> fieldsInObject = getInheritedFields(objectClass);
+    if (!jsonObject.hasChilds()) {
+      throw new NotPropertiesException("The object " + object.getClass().getName() + " doesn't have properties.");
+    }
 
-    for (Field field : fieldsInObject) {
-      String fieldName = field.getName();
+    return jsonObject;
+  }
 
-      JSONProperty property;
-      Annotation annotation = field.getAnnotation(JSONProperty.class);
-      if (annotation != null) {
-        property = (JSONProperty) annotation;
-        String propertyName = property.name();
-        if (!JSONProperty.DEFAULT_NAME.equals(propertyName)) {
-          fieldName = propertyName;
-        }
+  /**
+   * Write a POJO as JSON text directly to an {@code Appendable}, like a {@code StringBuilder} or a {@code Writer}, without create the JSON structure. The properties are read
+   * using the {@link net.cabezudo.json.annotations.JSONProperty} annotation and the result is the same text returned by {@code toJSONTree(object).toJSON()}.
+   *
+   * @param object the object to be written.
+   * @param out the destination of the JSON text.
+   * @throws IOException if an I/O error occurs.
+   */
+  public static void write(Object object, Appendable out) throws IOException {
+    write(object, new JSONWriter(out));
+  }
 
-        String getterName = getGetterName(field, fieldName);
-        Object fieldValue = getFieldValue(object, getterName);
-
-        jsonValue = JSONFactory.get(fieldValue);
-
-        if (jsonValue == null) {
-          try {
-            jsonValue = toJSONTree(fieldValue);
-          } catch (NotPropertiesException e) {
-            throw new NotPropertiesException("The field named '" + fieldName + "' contain an object " + fieldValue.getClass().getName() + " doesn't have properties.");
-          }
-        } else {
-          if (property.dontShowIfNull() && jsonValue instanceof JSONNull) {
-            continue;
-          }
-
-          if (jsonValue.isNumber() && property.dontShowIfZero() && jsonValue.toInteger() == 0) {
-            continue;
-          }
-          if ((jsonValue.isArray() || jsonValue.isObject()) && property.dontShowIfEmpty() && jsonValue.isEmpty()) {
-            continue;
-          }
+  /**
+   * Write a POJO as JSON text using a {@link net.cabezudo.json.JSONWriter}. The object is written as the next value of the writer, so it can be used to write an object inside
+   * a document created with the writer.
+   *
+   * @param object the object to be written.
+   * @param writer the writer used to write the object.
+   * @throws IOException if an I/O error occurs.
+   */
+  public static void write(Object object, JSONWriter writer) throws IOException {
+    if (object == null) {
+      writer.nullValue();
+      return;
+    }
+    if (object instanceof JSONValue) {
+      ((JSONValue) object).writeTo(writer);
+      return;
+    }
+    if (object instanceof String || object instanceof Character) {
+      writer.value(object.toString());
+      return;
+    }
+    if (object instanceof Iterable) {
+      writer.beginArray();
+      for (Object child : (Iterable<?>) object) {
+        if (child.getClass().equals(object.getClass())) {
+          throw new RuntimeException("Circular reference from " + object.getClass().getName());
         }
-        jsonValue.setReferenceFieldName(property.field());
-        JSONPair jsonPair = new JSONPair(fieldName, jsonValue);
-        jsonObject.add(jsonPair);
+        write(child, writer);
       }
+      writer.endArray();
+      return;
     }
-
-    if (!jsonObject.hasChilds()) {
-      throw new NotPropertiesException("The object " + object.getClass().getName() + " doesn't have properties.");
+    if (object instanceof Object[]) {
+      writer.beginArray();
+      for (Object child : (Object[]) object) {
+        write(child, writer);
+      }
+      writer.endArray();
+      return;
     }
 
-    return jsonObject;
+    JSONValue jsonValue = JSONFactory.get(object);
+    if (jsonValue != null) {
+      jsonValue.writeTo(writer);
+      return;
+    }
+    ClassDescriptor.get(object.getClass()).write(object, writer);
   }
 
   public static String getIndent(int size) {
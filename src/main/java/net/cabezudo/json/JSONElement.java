@@ -23,6 +23,8 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import net.cabezudo.json.exceptions.InvalidOperationException;
 
 /**
@@ -37,16 +39,33 @@ import net.cabezudo.json.exceptions.InvalidOperationException;
 public abstract class JSONElement implements JSONable {
 
   private String referenceFieldName = "id";
-  private final Position position;
+  // The position of the element or, for the elements parsed with PositionMode.OFFSET, the LineIndex used to calculate the position from the offset.
+  private Object position;
+  private int offset;
 
   public Position getPosition() {
-    return position;
+    if (position instanceof LineIndex) {
+      return ((LineIndex) position).getPosition(offset);
+    }
+    return (Position) position;
   }
 
   public JSONElement(Position position) {
     this.position = position;
   }
 
+  /**
+   * Keep the index of the first character of the element in the source instead of its position. The position is calculated from the lines of the source every time it is
+   * requested.
+   *
+   * @param lines the index of the lines of the source.
+   * @param offset the index of the first character of the element in the source.
+   */
+  void setOffset(LineIndex lines, int offset) {
+    this.position = lines;
+    this.offset = offset;
+  }
+
   /**
    * Returns the name of the field whose value is used as a reference.
    *
@@ -172,6 +191,31 @@ public abstract class JSONElement implements JSONable {
     return false;
   }
 
+  /**
+   * Write the tokens of this element to a {@link net.cabezudo.json.JSONWriter}.
+   *
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the element.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public abstract void writeTo(JSONWriter writer) throws IOException;
+
+  /**
+   * Create a JSON string representation of this element using {@link #writeTo(JSONWriter)}.
+   *
+   * @return a {@code String} with a JSON string representation of the element.
+   */
+  @Override
+  public String toJSON() {
+    StringBuilder sb = new StringBuilder();
+    try {
+      writeTo(new JSONWriter(sb));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
   /**
    * Returns a string representation in JSON format of the object.
    *
@@ -28,8 +28,6 @@ import java.math.BigInteger;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import net.cabezudo.json.exceptions.EOSException;
-import net.cabezudo.json.exceptions.EmptyQueueException;
 import net.cabezudo.json.exceptions.JSONParseException;
 import net.cabezudo.json.exceptions.UnexpectedElementException;
 import net.cabezudo.json.values.JSONArray;
@@ -46,6 +44,25 @@ import net.cabezudo.json.values.JSONValue;
  */
 public class JSONFactory {
 
+  static final JSONFactory DEFAULT = new JSONFactory();
+
+  private final boolean positions;
+  private final boolean offsets;
+  private final boolean doubles;
+
+  /**
+   * Create a factory that keeps the positions of the values in the source and the exact value of the numbers.
+   */
+  public JSONFactory() {
+    this(JSONParser.PositionMode.FULL, false);
+  }
+
+  JSONFactory(JSONParser.PositionMode positionMode, boolean doubles) {
+    this.positions = positionMode != JSONParser.PositionMode.NONE;
+    this.offsets = positionMode == JSONParser.PositionMode.OFFSET;
+    this.doubles = doubles;
+  }
+
   /**
    * Create a JSON structure representation of the parameter object. For the conversion the method use any of the next rules.
    * <ul>
@@ -175,154 +192,82 @@ public class JSONFactory {
     return jsonValue;
   }
 
-  private JSONString createJSONString(Token token) {
-    String valueInQuotes = token.getValue();
-    String value = valueInQuotes.substring(1, valueInQuotes.length() - 1);
-    return new JSONString(value, token.getPosition());
-  }
-
-  private JSONValue get(Tokens tokens) throws JSONParseException {
-    Token token;
-    Position position = Position.INITIAL;
-    try {
-      token = tokens.consume();
-    } catch (EmptyQueueException e) {
-      throw new EOSException(position);
-    }
-    return get(token, tokens);
-  }
-
-  private JSONValue get(Token token, Tokens tokens) throws JSONParseException {
-
+  JSONValue get(JSONReader reader) throws JSONParseException {
     JSONValue jsonValue;
 
-    TokenType type = token.getType();
+    TokenType type = reader.getToken();
     switch (type) {
       case STRING:
-        jsonValue = createJSONString(token);
+        jsonValue = getJSONString(reader);
         break;
       case NUMBER:
-        BigDecimal bigDecimal = new BigDecimal(token.getValue());
-        jsonValue = new JSONNumber(bigDecimal);
+        jsonValue = doubles ? new JSONNumber(reader.getDouble()) : reader.getJSONNumber();
         break;
       case LEFT_BRACE:
-        jsonValue = getJSONObject(tokens, token.getPosition());
+        jsonValue = getJSONObject(reader);
         break;
       case LEFT_BRACKET:
-        jsonValue = getJSONArray(tokens, token.getPosition());
+        jsonValue = getJSONArray(reader);
         break;
       case FALSE:
+        jsonValue = JSONBoolean.FALSE;
+        break;
       case TRUE:
-        boolean booleanValue = "true".equals(token.getValue());
-        jsonValue = JSONBoolean.get(booleanValue);
+        jsonValue = JSONBoolean.TRUE;
         break;
       case NULL:
         jsonValue = new JSONNull();
         break;
       default:
-        throw new UnexpectedElementException("value", token.getValue(), token.getPosition());
+        throw new UnexpectedElementException("value", type.toString(), reader.getPosition());
     }
     return jsonValue;
   }
 
-  JSONArray getJSONArray(Tokens tokens, Position position) throws JSONParseException {
-    JSONArray jsonArray = new JSONArray(position);
-    Token token;
-    if (!tokens.hasNext()) {
-      throw new EOSException(position);
-    }
+  private LineIndex getLineIndex(JSONReader reader) {
+    return offsets ? reader.getLineIndex() : null;
+  }
 
-    try {
-      token = tokens.consume();
-    } catch (EmptyQueueException e) {
-      throw new RuntimeException(e);
-    }
-    do {
-      if (token.getType() == TokenType.RIGHT_BRACKET) {
-        break;
-      }
+  private Position getPosition(JSONReader reader, LineIndex lines) {
+    return positions && lines == null ? reader.getPosition() : null;
+  }
 
-      JSONValue jsonValue = get(token, tokens);
+  private static <T extends JSONElement> T setOffset(T element, LineIndex lines, int offset) {
+    if (lines != null) {
+      element.setOffset(lines, offset);
+    }
+    return element;
+  }
 
-      jsonArray.add(jsonValue);
+  private JSONString getJSONString(JSONReader reader) {
+    LineIndex lines = getLineIndex(reader);
+    return setOffset(JSONString.fromSource(reader.getRawString(), getPosition(reader, lines)), lines, reader.getOffset());
+  }
 
-      try {
-        token = tokens.consume();
-      } catch (EmptyQueueException e) {
-        throw new EOSException(position);
-      }
-      if (token.getType() != TokenType.COMMA && token.getType() != TokenType.RIGHT_BRACKET) {
-        throw new UnexpectedElementException("comma or right bracket", token.getValue(), token.getPosition());
-      }
-      if (token.getType() == TokenType.COMMA) {
-        try {
-          token = tokens.consume();
-        } catch (EmptyQueueException e) {
-          throw new EOSException(position);
-        }
-      }
-    } while (true);
+  private JSONArray getJSONArray(JSONReader reader) throws JSONParseException {
+    LineIndex lines = getLineIndex(reader);
+    JSONArray jsonArray = setOffset(new JSONArray(getPosition(reader, lines)), lines, reader.getOffset());
 
+    while (reader.nextToken() != TokenType.RIGHT_BRACKET) {
+      JSONValue jsonValue = get(reader);
+      jsonArray.add(jsonValue);
+    }
     return jsonArray;
   }
 
-  JSONObject getJSONObject(Tokens tokens, Position position) throws JSONParseException {
-    JSONObject jsonObject = new JSONObject(position);
-    Token token;
+  private JSONObject getJSONObject(JSONReader reader) throws JSONParseException {
+    LineIndex lines = getLineIndex(reader);
+    JSONObject jsonObject = setOffset(new JSONObject(getPosition(reader, lines)), lines, reader.getOffset());
 
-    if (!tokens.hasNext()) {
-      throw new EOSException(position);
-    }
+    while (reader.nextToken() != TokenType.RIGHT_BRACE) {
+      String key = reader.getString();
 
-    try {
-      token = tokens.consume();
-    } catch (EmptyQueueException e) {
-      throw new EOSException(position);
+      reader.nextToken();
+      int pairOffset = reader.getColonOffset();
+      Position pairPosition = positions && lines == null ? reader.getColonPosition() : null;
+      JSONValue jsonValue = get(reader);
+      jsonObject.add(setOffset(new JSONPair(key, jsonValue, pairPosition), lines, pairOffset));
     }
-
-    do {
-      if (token.getType() == TokenType.RIGHT_BRACE) {
-        break;
-      }
-
-      if (token.getType() != TokenType.STRING) {
-        throw new UnexpectedElementException("string", token.getValue(), token.getPosition());
-      }
-      JSONString jsonKeyString = createJSONString(token);
-
-      try {
-        token = tokens.consume();
-        position = token.getPosition();
-      } catch (EmptyQueueException e) {
-        throw new EOSException(position);
-      }
-      if (token.getType() != TokenType.COLON) {
-        throw new UnexpectedElementException("colon", token.getValue(), token.getPosition());
-      }
-      JSONValue jsonValue = get(tokens);
-      JSONPair jsonPair = new JSONPair(jsonKeyString.toString(), jsonValue, position);
-      jsonObject.add(jsonPair);
-
-      try {
-        token = tokens.consume();
-        position = token.getPosition();
-      } catch (EmptyQueueException e) {
-        throw new EOSException(position);
-      }
-
-      if (token.getType() != TokenType.COMMA && token.getType() != TokenType.RIGHT_BRACE) {
-        throw new UnexpectedElementException("comma or right brace", token.getValue(), token.getPosition());
-      }
-      if (token.getType() == TokenType.COMMA) {
-        try {
-          token = tokens.consume();
-          position = token.getPosition();
-        } catch (EmptyQueueException e) {
-          throw new EOSException(position);
-        }
-      }
-    } while (true);
-
     return jsonObject;
   }
 }
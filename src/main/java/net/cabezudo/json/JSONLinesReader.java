@@ -0,0 +1,242 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UncheckedJSONParseException;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * Reads a source with a JSON value in every line, the format known as JSON Lines or NDJSON.
+ * <p>
+ * All the records are read with the same parser, so the buffer of the source and the table of property names are created once and reused for every record. The values are
+ * created one at a time when they are requested, so a large file can be processed in constant memory. A record can be any JSON value and the blank lines are ignored.
+ *
+ * <pre>
+ * try (JSONLinesReader reader = new JSONLinesReader(path)) {
+ *   reader.stream().map(value -&gt; (JSONObject) value).forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * <p>
+ * A file can be parsed using several threads with {@link #parallelStream(Path)}. The file is split in ranges of bytes that start after a line feed and every range is parsed
+ * by a different task of the {@code ForkJoinPool} that runs the stream. The records of a file read in parallel must not have line feeds inside.
+ *
+ * <pre>
+ * try (Stream&lt;JSONValue&gt; stream = JSONLinesReader.parallelStream(path, false)) {
+ *   long count = stream.filter(value -&gt; value.isObject()).count();
+ * }
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONLinesReader implements Closeable, Iterable<JSONValue> {
+
+  private final JSONReader reader;
+  private JSONValue next;
+
+  /**
+   * Create a reader that takes the records from a {@code Reader}.
+   *
+   * @param reader the source of the records.
+   */
+  public JSONLinesReader(Reader reader) {
+    this(new ReaderLexer(reader));
+  }
+
+  /**
+   * Create a reader that takes the records from an {@code InputStream} encoded in UTF-8.
+   *
+   * @param inputStream the source of the records.
+   */
+  public JSONLinesReader(InputStream inputStream) {
+    this(inputStream, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Create a reader that takes the records from an {@code InputStream} encoded using the charset passed.
+   *
+   * @param inputStream the source of the records.
+   * @param charset the charset used to decode the stream.
+   */
+  public JSONLinesReader(InputStream inputStream, Charset charset) {
+    this(new InputStreamReader(inputStream, charset));
+  }
+
+  /**
+   * Create a reader that takes the records from a file encoded in UTF-8. The file is mapped in memory and read directly from the mapped regions. The file is closed when the
+   * reader is closed.
+   *
+   * @param filePath the path of the file.
+   * @throws IOException if an I/O error occurs opening or mapping the file.
+   */
+  public JSONLinesReader(Path filePath) throws IOException {
+    this(MappedFileLexer.open(filePath));
+  }
+
+  JSONLinesReader(Lexer lexer) {
+    this.reader = new JSONReader(lexer, true);
+  }
+
+  /**
+   * Read the next record.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the next record or {@code null} if there are no more records.
+   * @throws JSONParseException if the record is not a valid JSON value. The exception contains the position of the error in the source.
+   * @throws java.io.UncheckedIOException if an I/O error occurs reading the source.
+   */
+  public JSONValue read() throws JSONParseException {
+    if (next != null) {
+      JSONValue value = next;
+      next = null;
+      return value;
+    }
+    if (reader.nextToken() == TokenType.END) {
+      return null;
+    }
+    return reader.readValue();
+  }
+
+  /**
+   * Return an iterator over the records not read yet. The methods of the iterator throw a {@link net.cabezudo.json.exceptions.UncheckedJSONParseException} if a record is
+   * not valid.
+   *
+   * @return an iterator over the records.
+   */
+  @Override
+  public Iterator<JSONValue> iterator() {
+    return new Iterator<JSONValue>() {
+      @Override
+      public boolean hasNext() {
+        if (next == null) {
+          try {
+            next = read();
+          } catch (JSONParseException e) {
+            throw new UncheckedJSONParseException(e);
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public JSONValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        JSONValue value = next;
+        next = null;
+        return value;
+      }
+    };
+  }
+
+  /**
+   * Return a sequential stream with the records not read yet. The stream throws a {@link net.cabezudo.json.exceptions.UncheckedJSONParseException} if a record is not valid.
+   * Closing the stream closes the reader.
+   *
+   * @return a stream with the records.
+   */
+  public Stream<JSONValue> stream() {
+    Spliterator<JSONValue> spliterator = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(() -> {
+      try {
+        close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Return a parallel stream with the records of a file encoded in UTF-8. The records are delivered in the order of the file when the stream operation requires it.
+   *
+   * @param filePath the path of the file.
+   * @return a parallel stream with the records. The stream must be closed to close the file.
+   * @throws IOException if an I/O error occurs opening the file.
+   * @see #parallelStream(Path, boolean)
+   */
+  public static Stream<JSONValue> parallelStream(Path filePath) throws IOException {
+    return parallelStream(filePath, true);
+  }
+
+  /**
+   * Return a parallel stream with the records of a file encoded in UTF-8. The file is mapped in memory and split in ranges of bytes that start after a line feed, every range is
+   * parsed by a task of the {@code ForkJoinPool} where the terminal operation of the stream runs: the common pool or the pool of the task that calls the operation. The stream
+   * throws a {@link net.cabezudo.json.exceptions.UncheckedJSONParseException} if a record is not valid, the position of the error is the position in the file.
+   *
+   * @param filePath the path of the file.
+   * @param ordered {@code true} to keep the order of the records in the file, {@code false} to deliver the records in any order, which needs less memory and less
+   * synchronization.
+   * @return a parallel stream with the records. The stream must be closed to close the file.
+   * @throws IOException if an I/O error occurs opening the file.
+   */
+  public static Stream<JSONValue> parallelStream(Path filePath, boolean ordered) throws IOException {
+    return parallelStream(filePath, ordered, LinesSpliterator.DEFAULT_SPLIT_SIZE);
+  }
+
+  static Stream<JSONValue> parallelStream(Path filePath, boolean ordered, long splitSize) throws IOException {
+    FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+    try {
+      LinesSpliterator spliterator = new LinesSpliterator(channel, 0, channel.size(), splitSize, ordered);
+      return StreamSupport.stream(spliterator, true).onClose(() -> {
+        try {
+          channel.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Close the reader and the underlying source.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
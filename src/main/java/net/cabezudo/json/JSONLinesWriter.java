@@ -0,0 +1,151 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+
+/**
+ * Writes JSON values or POJOs as records in the JSON Lines format, a JSON value in every line.
+ * <p>
+ * The records are written directly to a buffered destination without creating intermediate strings. The POJOs are written using the
+ * {@link net.cabezudo.json.annotations.JSONProperty} annotations like {@link JSON#write(Object, Appendable)}.
+ *
+ * <pre>
+ * try (JSONLinesWriter writer = new JSONLinesWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+ *   for (Book book : books) {
+ *     writer.write(book);
+ *   }
+ * }
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+
+  private final Writer out;
+  private final JSONWriter writer;
+
+  /**
+   * Create a writer that writes the records to a {@code Writer}. If the writer is not a {@code BufferedWriter} the records are buffered before being written.
+   *
+   * @param writer the destination of the records.
+   */
+  public JSONLinesWriter(Writer writer) {
+    if (writer == null) {
+      throw new IllegalArgumentException("The parameter writer is null.");
+    }
+    this.out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    this.writer = new JSONWriter(out);
+  }
+
+  /**
+   * Create a writer that writes the records to an {@code OutputStream} encoded in UTF-8.
+   *
+   * @param outputStream the destination of the records.
+   */
+  public JSONLinesWriter(OutputStream outputStream) {
+    this(outputStream, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Create a writer that writes the records to an {@code OutputStream} encoded with the charset passed.
+   *
+   * @param outputStream the destination of the records.
+   * @param charset the charset used to encode the text.
+   */
+  public JSONLinesWriter(OutputStream outputStream, Charset charset) {
+    this(new OutputStreamWriter(outputStream, charset));
+  }
+
+  /**
+   * Create a writer that writes the records to a file encoded in UTF-8. Without options the file is created or truncated, use {@code StandardOpenOption.APPEND} to add the
+   * records at the end of an existing file.
+   *
+   * @param filePath the path of the file.
+   * @param options the options specifying how the file is opened.
+   * @throws IOException if an I/O error occurs opening the file.
+   */
+  public JSONLinesWriter(Path filePath, OpenOption... options) throws IOException {
+    this(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8, options));
+  }
+
+  /**
+   * Write a record. The value can be a {@link net.cabezudo.json.values.JSONValue}, a POJO or any object accepted by {@link JSON#write(Object, Appendable)}.
+   *
+   * @param value the value to write. If the value is {@code null} the method writes a {@code null} record.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONLinesWriter write(Object value) throws IOException {
+    JSON.write(value, writer);
+    out.write('\n');
+    return this;
+  }
+
+  /**
+   * Write a record for every element of an {@code Iterable}.
+   *
+   * @param values the values to write.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONLinesWriter writeAll(Iterable<?> values) throws IOException {
+    for (Object value : values) {
+      write(value);
+    }
+    return this;
+  }
+
+  /**
+   * Write the buffered records to the destination and flush it.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /**
+   * Flush the buffered records and close the destination.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
@@ -42,7 +43,8 @@ import net.cabezudo.json.values.JSONValue;
 public class JSONPair extends JSONElement implements Comparable<JSONPair> {
 
   private final String key;
-  private final JSONValue value;
+  private JSONValue value;
+  private LazyValue lazyValue;
 
   /**
    *
@@ -62,6 +64,19 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
     this.value = jsonValue;
   }
 
+  /**
+   * Create a pair with a value that is created from the source the first time it is used.
+   *
+   * @param key the name for the key pair part
+   * @param lazyValue the place of the value in the source.
+   * @param position the position of the pair in the JSON source code.
+   */
+  JSONPair(String key, LazyValue lazyValue, Position position) {
+    super(position);
+    this.key = key;
+    this.lazyValue = lazyValue;
+  }
+
   /**
    *
    * @param key the name for the key pair part
@@ -134,7 +149,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    */
   @Override
   public JSONPair toReferencedElement() {
-    JSONElement jsonReferencedElement = value.toReferencedElement();
+    JSONElement jsonReferencedElement = getValue().toReferencedElement();
     JSONPair jsonPair = new JSONPair(key, jsonReferencedElement, getPosition());
     return jsonPair;
   }
@@ -145,6 +160,10 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return the value part of this {@link net.cabezudo.json.JSONPair}.
    */
   public JSONValue getValue() {
+    if (lazyValue != null) {
+      value = lazyValue.get();
+      lazyValue = null;
+    }
     return value;
   }
 
@@ -168,7 +187,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code BigDecimal} with the conversion of value.
    */
   public BigDecimal toBigDecimal() {
-    return value.toBigDecimal();
+    return getValue().toBigDecimal();
   }
 
   /**
@@ -178,7 +197,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Boolean} with the conversion of value.
    */
   public Boolean toBoolean() {
-    return value.toBoolean();
+    return getValue().toBoolean();
   }
 
   /**
@@ -188,7 +207,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Byte} with the conversion of value.
    */
   public Byte toByte() {
-    return value.toByte();
+    return getValue().toByte();
   }
 
   /**
@@ -198,7 +217,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Character} with the conversion of value.
    */
   public Character toCharacter() {
-    return value.toCharacter();
+    return getValue().toCharacter();
   }
 
   /**
@@ -208,7 +227,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Double} with the conversion of value.
    */
   public Double toDouble() {
-    return value.toDouble();
+    return getValue().toDouble();
   }
 
   /**
@@ -218,7 +237,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Float} with the conversion of value.
    */
   public Float toFloat() {
-    return value.toFloat();
+    return getValue().toFloat();
   }
 
   /**
@@ -228,25 +247,25 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code Integer} with the conversion of value.
    */
   public Integer toInteger() {
-    return value.toInteger();
+    return getValue().toInteger();
   }
 
   /**
-   * Create a JSON string representation of this {@link net.cabezudo.json.JSONPair} including the JSON string representation of the value. The JSON string is the key in double
-   * quotation marks, a colon and the JSON string value using the {@link JSONValue#toJSON() }
-   * method. If the value is {@code null} the method return {@link net.cabezudo.json.values.JSONNull}.
+   * Write the key and the value of this {@link net.cabezudo.json.JSONPair} to a {@link net.cabezudo.json.JSONWriter}. If the value is {@code null} the method writes a
+   * {@link net.cabezudo.json.values.JSONNull}.
    *
-   * @return a {@code String} representation of this {@link net.cabezudo.json.JSONPair}.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the pair.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    JSONValue jsonValue;
-    if (value == null) {
-      jsonValue = new JSONNull();
+  public void writeTo(JSONWriter writer) throws IOException {
+    writer.name(key);
+    JSONValue jsonValue = getValue();
+    if (jsonValue == null) {
+      writer.nullValue();
     } else {
-      jsonValue = value;
+      jsonValue.writeTo(writer);
     }
-    return "\"" + key + "\": " + jsonValue.toJSON();
   }
 
   /**
@@ -256,7 +275,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link net.cabezudo.json.values.JSONArray} with the conversion of value.
    */
   public JSONArray toJSONArray() {
-    return value.toJSONArray();
+    return getValue().toJSONArray();
   }
 
   /**
@@ -266,7 +285,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link net.cabezudo.json.values.JSONString} with the conversion of value.
    */
   public JSONString toJSONString() {
-    return value.toJSONString();
+    return getValue().toJSONString();
   }
 
   /**
@@ -276,7 +295,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    */
   @Override
   public JSONValue toJSONTree() {
-    return value.toJSONTree();
+    return getValue().toJSONTree();
   }
 
   /**
@@ -286,7 +305,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link java.util.List } with the conversion of value.
    */
   public List<JSONValue> toList() {
-    return value.toList();
+    return getValue().toList();
   }
 
   /**
@@ -296,7 +315,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link java.lang.Long} with the conversion of value.
    */
   public Long toLong() {
-    return value.toLong();
+    return getValue().toLong();
   }
 
   /**
@@ -306,7 +325,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link JSONObject} with the conversion of value.
    */
   public JSONObject toObject() {
-    return value.toJSONObject();
+    return getValue().toJSONObject();
   }
 
   /**
@@ -316,7 +335,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@link java.lang.Short} with the conversion of value.
    */
   public Short toShort() {
-    return value.toShort();
+    return getValue().toShort();
   }
 
   /**
@@ -327,7 +346,7 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    */
   @Override
   public String toString() {
-    return "(" + key + ", " + value + ")";
+    return "(" + key + ", " + getValue() + ")";
   }
 
   /**
@@ -337,12 +356,12 @@ public class JSONPair extends JSONElement implements Comparable<JSONPair> {
    * @return a {@code String[]} with the conversion of value.
    */
   public String[] toStringArray() {
-    return value.toStringArray();
+    return getValue().toStringArray();
   }
 
   @Override
   public void toFormatedString(StringBuilder sb, int indent, boolean includeFirst) {
     sb.append("\"").append(key).append("\": ");
-    value.toFormatedString(sb, indent, false);
+    getValue().toFormatedString(sb, indent, false);
   }
 }
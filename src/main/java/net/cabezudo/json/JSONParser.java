@@ -0,0 +1,306 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * A parser that can be used to parse many documents reusing its buffers.
+ * <p>
+ * The parser keeps the buffer used to copy the characters of the strings, the lexers, the reader and a table with the names of the properties read, so after the first documents
+ * the parse of a small document only creates the objects of the JSON structure. The table of names is cleared when it is full, so it always keeps the names of the last
+ * documents. The parser is not thread safe, every thread must use its own parser, for example using a {@code ThreadLocal}. A parser in a {@code ThreadLocal} lives as long as
+ * its thread, so in a pool of threads shared with other applications remove it when it is not needed.
+ *
+ * <pre>
+ * private static final ThreadLocal&lt;JSONParser&gt; PARSER = ThreadLocal.withInitial(() -&gt; new JSONParser().setPositionMode(JSONParser.PositionMode.NONE));
+ * ...
+ * JSONValue value = PARSER.get().parse(message);
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONParser {
+
+  /**
+   * The way the numbers of the source are converted to {@link net.cabezudo.json.values.JSONNumber} values.
+   */
+  public enum NumberMode {
+    /**
+     * The numbers are read as decimal numbers, without loss of precision before they are rounded by {@link net.cabezudo.json.values.JSONNumber}.
+     */
+    DECIMAL,
+    /**
+     * The numbers are read as the nearest {@code double}. Most numbers are converted without create a {@code BigDecimal}, but the numbers with more than seventeen significant
+     * digits lose precision.
+     */
+    DOUBLE
+  }
+
+  /**
+   * The way the values created keep its position in the source.
+   */
+  public enum PositionMode {
+    /**
+     * Every value keeps a {@link Position} created when the value is read.
+     */
+    FULL,
+    /**
+     * The values keep only the index of its first character and the {@link Position} is calculated from an index of the lines of the document when the method
+     * {@code getPosition()} is called. The values created from a {@code byte} array keep a {@link Position} like in {@link PositionMode#FULL} because the rows count characters,
+     * not bytes.
+     */
+    OFFSET,
+    /**
+     * The values don't keep the position and the method {@code getPosition()} returns {@code null}.
+     */
+    NONE
+  }
+
+  // The buffers bigger than this size are used for a single document and are not kept.
+  private static final int MAX_BUFFER_SIZE = 64 * 1024;
+  private static final char[] NO_CHARS = new char[0];
+  private static final byte[] NO_BYTES = new byte[0];
+
+  private final Symbols symbols = new Symbols();
+  private NumberMode numberMode = NumberMode.DECIMAL;
+  private PositionMode positionMode = PositionMode.FULL;
+  private int maxDepth = Integer.MAX_VALUE;
+  private int maxLength = Integer.MAX_VALUE;
+  private JSONFactory factory = JSONFactory.DEFAULT;
+
+  private char[] buffer = NO_CHARS;
+  private CharArrayLexer charLexer;
+  private JSONReader charReader;
+  private ByteBufferLexer byteLexer;
+  private JSONReader byteReader;
+
+  /**
+   * Set the way the numbers are read. The default mode is {@link NumberMode#DECIMAL}.
+   *
+   * @param numberMode the mode used to read the numbers.
+   * @return this parser.
+   */
+  public JSONParser setNumberMode(NumberMode numberMode) {
+    if (numberMode == null) {
+      throw new IllegalArgumentException("The parameter numberMode is null.");
+    }
+    this.numberMode = numberMode;
+    factory = new JSONFactory(positionMode, numberMode == NumberMode.DOUBLE);
+    return this;
+  }
+
+  /**
+   * Return the way the numbers are read.
+   *
+   * @return the mode used to read the numbers.
+   */
+  public NumberMode getNumberMode() {
+    return numberMode;
+  }
+
+  /**
+   * Set the way the values created keep its position in the source. With {@link PositionMode#OFFSET} or {@link PositionMode#NONE} the parser doesn't create a {@link Position}
+   * for every value. The errors of the parse always have the position. The default mode is {@link PositionMode#FULL}.
+   *
+   * @param positionMode the mode used to keep the positions of the values.
+   * @return this parser.
+   */
+  public JSONParser setPositionMode(PositionMode positionMode) {
+    if (positionMode == null) {
+      throw new IllegalArgumentException("The parameter positionMode is null.");
+    }
+    this.positionMode = positionMode;
+    factory = new JSONFactory(positionMode, numberMode == NumberMode.DOUBLE);
+    return this;
+  }
+
+  /**
+   * Return the way the values created keep its position in the source.
+   *
+   * @return the mode used to keep the positions of the values.
+   */
+  public PositionMode getPositionMode() {
+    return positionMode;
+  }
+
+  /**
+   * Set the maximum number of objects and arrays that can be nested in a document. The default is no limit.
+   *
+   * @param maxDepth the maximum depth of a document.
+   * @return this parser.
+   */
+  public JSONParser setMaxDepth(int maxDepth) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("The maximum depth must be greater than zero.");
+    }
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Return the maximum number of objects and arrays that can be nested in a document.
+   *
+   * @return the maximum depth of a document.
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Set the maximum number of characters of a {@code String} or a {@code char} array, or the maximum number of bytes of a {@code byte} array, that can be parsed. The default is
+   * no limit.
+   *
+   * @param maxLength the maximum length of a document.
+   * @return this parser.
+   */
+  public JSONParser setMaxLength(int maxLength) {
+    if (maxLength < 0) {
+      throw new IllegalArgumentException("The maximum length can't be negative.");
+    }
+    this.maxLength = maxLength;
+    return this;
+  }
+
+  /**
+   * Return the maximum length of a document.
+   *
+   * @return the maximum length of a document.
+   */
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Parse a string and create a JSON structure. The characters are copied to a buffer kept by the parser.
+   *
+   * @param string the string used to create the JSON structure.
+   * @return the JSON structure.
+   * @throws JSONParseException if the {@code String} does not contain a parseable JSON string or it is longer than the maximum length. The exception contains the information of
+   * the position where the parse error raise.
+   */
+  public JSONValue parse(String string) throws JSONParseException {
+    if (string == null) {
+      throw new JSONParseException("null string parameter.", Position.INITIAL);
+    }
+    int length = string.length();
+    checkLength(length);
+    char[] chars = buffer;
+    if (length > chars.length) {
+      chars = new char[Math.max(length, Math.min(2 * chars.length, MAX_BUFFER_SIZE))];
+      if (chars.length <= MAX_BUFFER_SIZE) {
+        buffer = chars;
+      }
+    }
+    string.getChars(0, length, chars, 0);
+    return parse(chars, 0, length);
+  }
+
+  /**
+   * Parse the characters of an array and create a JSON structure.
+   *
+   * @param chars the array with the source.
+   * @param offset the index of the first character of the source.
+   * @param length the number of characters of the source.
+   * @return the JSON structure.
+   * @throws JSONParseException if the characters are not a parseable JSON string or they are more than the maximum length. The exception contains the information of the
+   * position where the parse error raise.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   */
+  public JSONValue parse(char[] chars, int offset, int length) throws JSONParseException {
+    if (chars == null) {
+      throw new JSONParseException("null chars parameter.", Position.INITIAL);
+    }
+    checkBounds(chars.length, offset, length);
+    checkLength(length);
+    if (charLexer == null) {
+      charLexer = new CharArrayLexer(NO_CHARS);
+      charLexer.setSymbols(symbols);
+      charReader = new JSONReader(charLexer);
+    }
+    charLexer.reset(chars, offset, length);
+    if (positionMode == PositionMode.OFFSET) {
+      charLexer.setLineIndex(new LineIndex(offset));
+    }
+    try {
+      return parse(charReader);
+    } finally {
+      charLexer.reset(NO_CHARS, 0, 0);
+    }
+  }
+
+  /**
+   * Parse the UTF-8 bytes of an array and create a JSON structure. The bytes are scanned directly, without decode them first into a {@code String}.
+   *
+   * @param bytes the array with the UTF-8 source.
+   * @param offset the index of the first byte of the source.
+   * @param length the number of bytes of the source.
+   * @return the JSON structure.
+   * @throws JSONParseException if the bytes are not a parseable JSON string or they are more than the maximum length. The exception contains the information of the position
+   * where the parse error raise.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   */
+  public JSONValue parse(byte[] bytes, int offset, int length) throws JSONParseException {
+    if (bytes == null) {
+      throw new JSONParseException("null bytes parameter.", Position.INITIAL);
+    }
+    checkBounds(bytes.length, offset, length);
+    checkLength(length);
+    if (byteLexer == null) {
+      byteLexer = new ByteBufferLexer(ByteBuffer.wrap(NO_BYTES));
+      byteLexer.setSymbols(symbols);
+      byteReader = new JSONReader(byteLexer);
+    }
+    byteLexer.reset(bytes, offset, length);
+    try {
+      return parse(byteReader);
+    } finally {
+      byteLexer.reset(NO_BYTES, 0, 0);
+    }
+  }
+
+  private JSONValue parse(JSONReader reader) throws JSONParseException {
+    reader.reset();
+    reader.setMaxDepth(maxDepth);
+    reader.nextToken();
+    JSONValue jsonValue = factory.get(reader);
+    reader.nextToken();
+    return jsonValue;
+  }
+
+  private static void checkBounds(int size, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > size - length) {
+      throw new IndexOutOfBoundsException("Invalid range " + offset + ", " + length + " for an array of size " + size + ".");
+    }
+  }
+
+  private void checkLength(int length) throws JSONParseException {
+    if (length > maxLength) {
+      throw new JSONParseException("The document is longer than " + maxLength + ".", Position.INITIAL);
+    }
+  }
+}
@@ -0,0 +1,562 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.InvalidStringException;
+import net.cabezudo.json.values.JSONNumber;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * A pull parser that reads a JSON source one token at a time.
+ * <p>
+ * The reader takes the characters from the source using a buffer of fixed size and keeps only the current token, so a large file can be processed in constant memory. Every call
+ * to {@link #nextToken()} validates the structure of the document and throws a {@link net.cabezudo.json.exceptions.JSONParseException} with the position of the error if the
+ * source is not a valid JSON document. The colons and the commas are consumed by the reader, the names of the properties are reported as {@link TokenType#KEY} tokens.
+ * <p>
+ * When the source ends before the document is complete the {@link net.cabezudo.json.exceptions.EOSException} takes the position of the last structural token of the innermost
+ * open element: the left bracket for an array and the last left brace, colon, comma or key after a comma read for an object, so <code>{"a":1</code> ends at the colon and
+ * <code>{"a":</code> ends at the colon too. A string without the closing quotation mark ends just after the last character of the source and a value followed by other value
+ * reports the first value, like <code>true</code> in <code>true x</code>.
+ *
+ * <pre>
+ * try (JSONReader reader = new JSONReader(inputStream)) {
+ *   while (reader.nextToken() != TokenType.END) {
+ *     if (reader.getToken() == TokenType.KEY &amp;&amp; "id".equals(reader.getString())) {
+ *       reader.nextToken();
+ *       long id = reader.getLong();
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONReader implements Closeable {
+
+  private static final int ROOT = 0;
+  private static final int AFTER_ROOT = 1;
+  private static final int OBJECT_KEY = 2;
+  private static final int OBJECT_VALUE = 3;
+  private static final int OBJECT_SEPARATOR = 4;
+  private static final int ARRAY_VALUE = 5;
+  private static final int ARRAY_SEPARATOR = 6;
+  // A key after a comma.
+  private static final int OBJECT_NEXT_KEY = 7;
+
+  private final Lexer lexer;
+  private final boolean sequence;
+  private int[] states = new int[32];
+  // The line and the row used to report an unexpected end of the source. For an array it is the left bracket. For an object it is the last left brace, colon, comma or key
+  // after a comma read.
+  private int[] lines = new int[32];
+  private int[] rows = new int[32];
+  private int colonLine;
+  private int colonRow;
+  private int colonOffset;
+  private int depth;
+  private int state = ROOT;
+  private TokenType token = TokenType.NONE;
+  private int maxDepth = Integer.MAX_VALUE;
+
+  /**
+   * Create a reader that takes the characters from a {@code Reader}.
+   *
+   * @param reader the source of the JSON document.
+   */
+  public JSONReader(Reader reader) {
+    this(new ReaderLexer(reader));
+  }
+
+  /**
+   * Create a reader that takes the characters from an {@code InputStream} encoded in UTF-8.
+   *
+   * @param inputStream the source of the JSON document.
+   */
+  public JSONReader(InputStream inputStream) {
+    this(inputStream, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Create a reader that takes the characters from an {@code InputStream} encoded using the charset passed.
+   *
+   * @param inputStream the source of the JSON document.
+   * @param charset the charset used to decode the stream.
+   */
+  public JSONReader(InputStream inputStream, Charset charset) {
+    this(new InputStreamReader(inputStream, charset));
+  }
+
+  /**
+   * Create a reader that takes the bytes from a file encoded in UTF-8. The file is mapped in memory and read directly from the mapped regions, so the content of the file is not
+   * copied to the heap. The file is closed when the reader is closed.
+   *
+   * @param filePath the path of the file.
+   * @throws IOException if an I/O error occurs opening or mapping the file.
+   */
+  public JSONReader(Path filePath) throws IOException {
+    this(MappedFileLexer.open(filePath));
+  }
+
+  /**
+   * Create a reader that takes the bytes between the position and the limit of a {@code ByteBuffer} encoded in UTF-8. The position of the buffer is not changed.
+   *
+   * @param buffer the source of the JSON document.
+   */
+  public JSONReader(ByteBuffer buffer) {
+    this(new ByteBufferLexer(buffer));
+  }
+
+  JSONReader(Lexer lexer) {
+    this(lexer, false);
+  }
+
+  /**
+   * Create a reader for a sequence of JSON values. In a sequence any value can be at the root, there can be more than one value at the root and an empty source is not an error.
+   */
+  JSONReader(Lexer lexer, boolean sequence) {
+    this.lexer = lexer;
+    this.sequence = sequence;
+  }
+
+  /**
+   * Set the maximum number of objects and arrays that can be open at the same time. The reader throws a {@link JSONParseException} when a document is deeper.
+   *
+   * @param maxDepth the maximum depth.
+   */
+  void setMaxDepth(int maxDepth) {
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Prepare the reader to read a new document after the lexer was reset.
+   */
+  void reset() {
+    depth = 0;
+    state = ROOT;
+    token = TokenType.NONE;
+  }
+
+  /**
+   * Move to the next token of the document.
+   *
+   * @return the type of the token read or {@link TokenType#END} when the end of the document is reached.
+   * @throws JSONParseException if the source is not a valid JSON document. The exception contains the position where the error was found.
+   * @throws java.io.UncheckedIOException if an I/O error occurs reading the source.
+   */
+  public TokenType nextToken() throws JSONParseException {
+    TokenType type = lexer.next();
+    switch (state) {
+      case ROOT:
+        switch (type) {
+          case END:
+            if (sequence) {
+              return token = type;
+            }
+            throw new JSONParseException("Empty string.", Position.INITIAL);
+          case LEFT_BRACE:
+          case LEFT_BRACKET:
+            if (!sequence) {
+              state = AFTER_ROOT;
+            }
+            return open(type);
+          case STRING:
+          case NUMBER:
+          case TRUE:
+          case FALSE:
+          case NULL:
+            if (sequence) {
+              return token = type;
+            }
+            throw new UnexpectedElementException(lexer.getValue(), lexer.getPosition());
+          default:
+            throw new UnexpectedElementException(lexer.getValue(), lexer.getPosition());
+        }
+      case AFTER_ROOT:
+        if (type != TokenType.END) {
+          throw new UnexpectedElementException(lexer.getValue(), lexer.getPosition());
+        }
+        return token = type;
+      case OBJECT_KEY:
+      case OBJECT_NEXT_KEY:
+        if (type == TokenType.RIGHT_BRACE) {
+          return close(type);
+        }
+        if (type == TokenType.END) {
+          throw new EOSException(openPosition());
+        }
+        if (type != TokenType.STRING) {
+          throw new UnexpectedElementException("string", lexer.getValue(), lexer.getPosition());
+        }
+        if (state == OBJECT_NEXT_KEY) {
+          setEndPosition();
+        }
+        state = OBJECT_VALUE;
+        return token = TokenType.KEY;
+      case OBJECT_VALUE:
+        if (type == TokenType.END) {
+          throw new EOSException(openPosition());
+        }
+        if (type != TokenType.COLON) {
+          throw new UnexpectedElementException("colon", lexer.getValue(), lexer.getPosition());
+        }
+        setEndPosition();
+        colonLine = lines[depth - 1];
+        colonRow = rows[depth - 1];
+        colonOffset = lexer.getTokenOffset();
+        state = OBJECT_SEPARATOR;
+        return value(lexer.next(), colonLine, colonRow);
+      case OBJECT_SEPARATOR:
+        if (type == TokenType.RIGHT_BRACE) {
+          return close(type);
+        }
+        if (type == TokenType.END) {
+          throw new EOSException(openPosition());
+        }
+        if (type != TokenType.COMMA) {
+          throw new UnexpectedElementException("comma or right brace", lexer.getValue(), lexer.getPosition());
+        }
+        setEndPosition();
+        state = OBJECT_NEXT_KEY;
+        return nextToken();
+      case ARRAY_VALUE:
+        if (type == TokenType.RIGHT_BRACKET) {
+          return close(type);
+        }
+        state = ARRAY_SEPARATOR;
+        return value(type, lines[depth - 1], rows[depth - 1]);
+      case ARRAY_SEPARATOR:
+        if (type == TokenType.RIGHT_BRACKET) {
+          return close(type);
+        }
+        if (type == TokenType.END) {
+          throw new EOSException(openPosition());
+        }
+        if (type != TokenType.COMMA) {
+          throw new UnexpectedElementException("comma or right bracket", lexer.getValue(), lexer.getPosition());
+        }
+        state = ARRAY_VALUE;
+        return nextToken();
+      default:
+        throw new IllegalStateException("Invalid reader state: " + state);
+    }
+  }
+
+  private TokenType value(TokenType type, int line, int row) throws JSONParseException {
+    switch (type) {
+      case LEFT_BRACE:
+      case LEFT_BRACKET:
+        return open(type);
+      case STRING:
+      case NUMBER:
+      case TRUE:
+      case FALSE:
+      case NULL:
+        return token = type;
+      case END:
+        throw new EOSException(new Position(line, row));
+      default:
+        throw new UnexpectedElementException("value", lexer.getValue(), lexer.getPosition());
+    }
+  }
+
+  private TokenType open(TokenType type) throws JSONParseException {
+    if (depth >= maxDepth) {
+      throw new JSONParseException("The document has more than " + maxDepth + " levels of objects and arrays.", lexer.getPosition());
+    }
+    if (depth == states.length) {
+      states = Arrays.copyOf(states, depth * 2);
+      lines = Arrays.copyOf(lines, depth * 2);
+      rows = Arrays.copyOf(rows, depth * 2);
+    }
+    states[depth] = state;
+    lines[depth] = lexer.getTokenLine();
+    rows[depth] = lexer.getTokenRow();
+    depth++;
+    state = type == TokenType.LEFT_BRACE ? OBJECT_KEY : ARRAY_VALUE;
+    return token = type;
+  }
+
+  private void setEndPosition() {
+    lines[depth - 1] = lexer.getTokenLine();
+    rows[depth - 1] = lexer.getTokenRow();
+  }
+
+  private Position openPosition() {
+    return new Position(lines[depth - 1], rows[depth - 1]);
+  }
+
+  private TokenType close(TokenType type) {
+    depth--;
+    state = states[depth];
+    return token = type;
+  }
+
+  /**
+   * Return the type of the current token.
+   *
+   * @return the type of the current token or {@link TokenType#NONE} if {@link #nextToken()} was not called yet.
+   */
+  public TokenType getToken() {
+    return token;
+  }
+
+  /**
+   * Return the position of the current token in the source.
+   *
+   * @return the {@link Position} of the current token.
+   */
+  public Position getPosition() {
+    return lexer.getPosition();
+  }
+
+  int getOffset() {
+    return lexer.getTokenOffset();
+  }
+
+  /**
+   * Return the position of the colon read before the current value of an object. A {@link net.cabezudo.json.JSONPair} takes the position of its colon.
+   *
+   * @return the {@link Position} of the last colon read.
+   */
+  Position getColonPosition() {
+    return new Position(colonLine, colonRow);
+  }
+
+  int getColonOffset() {
+    return colonOffset;
+  }
+
+  LineIndex getLineIndex() {
+    return lexer.getLineIndex();
+  }
+
+  /**
+   * Return the number of objects and arrays open at the current token. The depth of the first left brace or left bracket is one.
+   *
+   * @return the current depth.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Return the value of the current string or key token with the escape sequences replaced. For any other token return the text of the token.
+   *
+   * @return the value of the current token as a {@code String}.
+   */
+  public String getString() {
+    if (token == TokenType.KEY) {
+      return lexer.getKey();
+    }
+    if (token == TokenType.STRING) {
+      return lexer.getDecodedString();
+    }
+    if (token == TokenType.NUMBER) {
+      return lexer.getNumber().toString();
+    }
+    return lexer.getValue();
+  }
+
+  String getRawString() {
+    return lexer.getString();
+  }
+
+  /**
+   * Return the value of the current number token as a {@code BigDecimal}.
+   *
+   * @return the value of the current token.
+   * @throws JSONConversionException if the current token is not a number.
+   */
+  public BigDecimal getBigDecimal() {
+    if (token != TokenType.NUMBER) {
+      throw new JSONConversionException("I can't convert a " + token + " to a BigDecimal");
+    }
+    return lexer.getNumber();
+  }
+
+  /**
+   * Return the value of the current number token as a {@code long}.
+   *
+   * @return the value of the current token.
+   * @throws JSONConversionException if the current token is not a number.
+   * @throws ArithmeticException if the number has a nonzero fractional part or it is out of the range of a {@code long}.
+   */
+  public long getLong() {
+    if (token != TokenType.NUMBER) {
+      throw new JSONConversionException("I can't convert a " + token + " to a long");
+    }
+    return lexer.getLong();
+  }
+
+  /**
+   * Return the value of the current number token as an {@code int}.
+   *
+   * @return the value of the current token.
+   * @throws JSONConversionException if the current token is not a number.
+   * @throws ArithmeticException if the number has a nonzero fractional part or it is out of the range of an {@code int}.
+   */
+  public int getInt() {
+    long value = getLong();
+    if ((int) value != value) {
+      throw new ArithmeticException("Overflow");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Return the value of the current number token as a {@code double}.
+   *
+   * @return the value of the current token.
+   * @throws JSONConversionException if the current token is not a number.
+   */
+  public double getDouble() {
+    if (token != TokenType.NUMBER) {
+      throw new JSONConversionException("I can't convert a " + token + " to a double");
+    }
+    return lexer.getDouble();
+  }
+
+  JSONNumber getJSONNumber() {
+    return lexer.getJSONNumber();
+  }
+
+  /**
+   * Return the value of the current {@code true} or {@code false} token.
+   *
+   * @return the value of the current token.
+   * @throws JSONConversionException if the current token is not a boolean.
+   */
+  public boolean getBoolean() {
+    if (token == TokenType.TRUE) {
+      return true;
+    }
+    if (token == TokenType.FALSE) {
+      return false;
+    }
+    throw new JSONConversionException("I can't convert a " + token + " to a Boolean");
+  }
+
+  /**
+   * Skip all the tokens of the current object or array. If the current token is a left brace or a left bracket the reader moves to the matching right brace or right bracket,
+   * for any other token the method does nothing. The skipped tokens are validated.
+   *
+   * @throws JSONParseException if the source is not a valid JSON document.
+   */
+  public void skipChildren() throws JSONParseException {
+    if (token != TokenType.LEFT_BRACE && token != TokenType.LEFT_BRACKET) {
+      return;
+    }
+    int level = depth;
+    while (depth >= level) {
+      nextToken();
+    }
+  }
+
+  /**
+   * Read the tokens to the end of the source. Besides the structure, the names of the properties are decoded and an object can't have the same name twice.
+   *
+   * @throws JSONParseException if the source is not a valid JSON document, a name has an invalid escape sequence or an object has a repeated name.
+   */
+  void validate() throws JSONParseException {
+    // The names of the objects open, by depth. The sets are reused by the objects at the same depth.
+    List<Set<String>> keys = new ArrayList<>();
+    TokenType type;
+    while ((type = nextToken()) != TokenType.END) {
+      if (type == TokenType.LEFT_BRACE) {
+        while (keys.size() <= depth) {
+          keys.add(new HashSet<>());
+        }
+        keys.get(depth).clear();
+      } else if (type == TokenType.KEY) {
+        String key;
+        try {
+          key = getString();
+        } catch (InvalidStringException e) {
+          throw new JSONParseException(e.getMessage(), e, getPosition());
+        }
+        if (!keys.get(depth).add(key)) {
+          throw new JSONParseException("The object already has the key " + key + ".", getPosition());
+        }
+      }
+    }
+  }
+
+  /**
+   * Skip the current value. If the current token is a left brace or a left bracket the reader moves to the matching right brace or right bracket. The lexers that read from an
+   * array skip the content of the object or array counting the brackets, so the content is not validated, the other lexers validate the tokens like
+   * {@link #skipChildren()}.
+   *
+   * @throws JSONParseException if the source ends before the end of the value.
+   */
+  void skipValue() throws JSONParseException {
+    if (token != TokenType.LEFT_BRACE && token != TokenType.LEFT_BRACKET) {
+      return;
+    }
+    if (lexer.skipContainer()) {
+      close(lexer.getType());
+    } else {
+      skipChildren();
+    }
+  }
+
+  /**
+   * Read the current value and all its children and create a JSON structure with them. After the call the current token is the last token of the value.
+   *
+   * @return a {@link net.cabezudo.json.values.JSONValue} with the current value.
+   * @throws JSONParseException if the source is not a valid JSON document.
+   */
+  public JSONValue readValue() throws JSONParseException {
+    return JSONFactory.DEFAULT.get(this);
+  }
+
+  /**
+   * Close the reader and the underlying source.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void close() throws IOException {
+    lexer.close();
+  }
+}
@@ -0,0 +1,420 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes a JSON document token by token directly to an {@code Appendable}.
+ * <p>
+ * The writer doesn't create intermediate strings for the objects and arrays. The separators are added by the writer, so the caller only needs to write the names and the values
+ * in order. The format used is the same format used by {@link JSONable#toJSON()}.
+ *
+ * <pre>
+ * JSONWriter writer = new JSONWriter(outputStream);
+ * writer.beginObject().name("name").value("Esteban").name("books").beginArray().value(1).value(2).endArray().endObject();
+ * writer.flush();
+ * </pre>
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONWriter implements Closeable, Flushable {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Appendable out;
+  private boolean[] first = new boolean[32];
+  private int depth;
+  private boolean afterName;
+
+  /**
+   * Create a writer that appends the JSON text to an {@code Appendable} like a {@code StringBuilder} or a {@code Writer}.
+   *
+   * @param out the destination of the JSON text.
+   */
+  public JSONWriter(Appendable out) {
+    if (out == null) {
+      throw new IllegalArgumentException("The parameter out is null.");
+    }
+    this.out = out;
+  }
+
+  /**
+   * Create a writer that writes the JSON text to an {@code OutputStream} encoded in UTF-8.
+   *
+   * @param outputStream the destination of the JSON text.
+   */
+  public JSONWriter(OutputStream outputStream) {
+    this(outputStream, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Create a writer that writes the JSON text to an {@code OutputStream} encoded with the charset passed.
+   *
+   * @param outputStream the destination of the JSON text.
+   * @param charset the charset used to encode the text.
+   */
+  public JSONWriter(OutputStream outputStream, Charset charset) {
+    this(new BufferedWriter(new OutputStreamWriter(outputStream, charset)));
+  }
+
+  /**
+   * Return the number of objects and arrays open.
+   *
+   * @return the current depth.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  private void beforeValue() throws IOException {
+    if (afterName) {
+      afterName = false;
+      return;
+    }
+    if (depth > 0) {
+      if (first[depth - 1]) {
+        first[depth - 1] = false;
+      } else {
+        out.append(", ");
+      }
+    }
+  }
+
+  private JSONWriter open(String text) throws IOException {
+    beforeValue();
+    if (depth == first.length) {
+      first = Arrays.copyOf(first, depth * 2);
+    }
+    first[depth] = true;
+    depth++;
+    out.append(text);
+    return this;
+  }
+
+  private JSONWriter close(String text) throws IOException {
+    if (depth == 0) {
+      throw new IllegalStateException("There is no object or array to close.");
+    }
+    if (afterName) {
+      throw new IllegalStateException("Missing value for the last name.");
+    }
+    depth--;
+    out.append(text);
+    return this;
+  }
+
+  /**
+   * Write the start of an object.
+   *
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter beginObject() throws IOException {
+    return open("{ ");
+  }
+
+  /**
+   * Write the end of the current object.
+   *
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter endObject() throws IOException {
+    return close(" }");
+  }
+
+  /**
+   * Write the start of an array.
+   *
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter beginArray() throws IOException {
+    return open("[ ");
+  }
+
+  /**
+   * Write the end of the current array.
+   *
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter endArray() throws IOException {
+    return close(" ]");
+  }
+
+  /**
+   * Write the name of a property. The next call must write the value of the property.
+   *
+   * @param name the name of the property.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter name(String name) throws IOException {
+    if (afterName) {
+      throw new IllegalStateException("Missing value for the last name.");
+    }
+    beforeValue();
+    out.append('"');
+    escape(name);
+    out.append("\": ");
+    afterName = true;
+    return this;
+  }
+
+  /**
+   * Write a string value. The quotation marks, the backslashes and the control characters are escaped.
+   *
+   * @param value the value to write. If the value is {@code null} the method writes {@code null}.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(String value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    beforeValue();
+    out.append('"');
+    escape(value);
+    out.append('"');
+    return this;
+  }
+
+  /**
+   * Write a string value that is already escaped. The value is written between quotation marks without changes.
+   *
+   * @param value the escaped value to write.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter escapedValue(String value) throws IOException {
+    beforeValue();
+    out.append('"').append(value).append('"');
+    return this;
+  }
+
+  /**
+   * Write a number value.
+   *
+   * @param value the value to write.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(long value) throws IOException {
+    beforeValue();
+    out.append(Long.toString(value));
+    return this;
+  }
+
+  /**
+   * Write a number value using the plain notation, without exponent.
+   *
+   * @param value the value to write. If the value is {@code null} the method writes {@code null}.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(BigDecimal value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    beforeValue();
+    if (value.signum() == 0) {
+      out.append('0');
+    } else {
+      out.append(value.toPlainString());
+    }
+    return this;
+  }
+
+  /**
+   * Write a decimal number, represented like a {@code BigDecimal} by an unscaled value and a scale, using the plain notation. The value written is
+   * {@code unscaledValue × 10^-scale}.
+   *
+   * @param unscaledValue the unscaled value of the number.
+   * @param scale the number of digits to the right of the decimal point, if it is negative the unscaled value is multiplied by ten to the power of the negation of the scale.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(long unscaledValue, int scale) throws IOException {
+    beforeValue();
+    String digits = Long.toString(unscaledValue);
+    if (unscaledValue == 0 || scale == 0) {
+      out.append(digits);
+    } else if (scale < 0) {
+      out.append(digits);
+      for (int i = scale; i < 0; i++) {
+        out.append('0');
+      }
+    } else {
+      int start = unscaledValue < 0 ? 1 : 0;
+      int point = digits.length() - scale;
+      if (point > start) {
+        out.append(digits, 0, point).append('.').append(digits, point, digits.length());
+      } else {
+        if (start == 1) {
+          out.append('-');
+        }
+        out.append("0.");
+        for (int i = point; i < start; i++) {
+          out.append('0');
+        }
+        out.append(digits, start, digits.length());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Write a boolean value.
+   *
+   * @param value the value to write.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(boolean value) throws IOException {
+    beforeValue();
+    out.append(value ? "true" : "false");
+    return this;
+  }
+
+  /**
+   * Write a {@code null} value.
+   *
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter nullValue() throws IOException {
+    beforeValue();
+    out.append("null");
+    return this;
+  }
+
+  /**
+   * Write the JSON representation of an object using its {@link JSONable#writeTo(JSONWriter)} method.
+   *
+   * @param value the object to write. If the value is {@code null} the method writes {@code null}.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter value(JSONable value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    value.writeTo(this);
+    return this;
+  }
+
+  /**
+   * Write a text that is already in JSON format as a value, without changes.
+   *
+   * @param json the JSON text to write.
+   * @return this writer.
+   * @throws IOException if an I/O error occurs.
+   */
+  public JSONWriter rawValue(String json) throws IOException {
+    beforeValue();
+    out.append(json);
+    return this;
+  }
+
+  private void escape(String value) throws IOException {
+    int length = value.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x20 && c != '"' && c != '\\') {
+        continue;
+      }
+      if (start < i) {
+        out.append(value, start, i);
+      }
+      start = i + 1;
+      switch (c) {
+        case '"':
+          out.append("\\\"");
+          break;
+        case '\\':
+          out.append("\\\\");
+          break;
+        case '\b':
+          out.append("\\b");
+          break;
+        case '\f':
+          out.append("\\f");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        default:
+          out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          break;
+      }
+    }
+    if (start < length) {
+      out.append(value, start, length);
+    }
+  }
+
+  /**
+   * Flush the destination if it is {@code Flushable}.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (out instanceof Flushable) {
+      ((Flushable) out).flush();
+    }
+  }
+
+  /**
+   * Flush and close the destination if it is {@code Closeable}.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void close() throws IOException {
+    flush();
+    if (out instanceof Closeable) {
+      ((Closeable) out).close();
+    }
+  }
+}
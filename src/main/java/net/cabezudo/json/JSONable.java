@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json;
 
+import java.io.IOException;
 import net.cabezudo.json.values.JSONValue;
 
 /**
@@ -40,6 +41,17 @@ public interface JSONable {
    */
   String toJSON();
 
+  /**
+   * Write the JSON representation of this object to a {@link net.cabezudo.json.JSONWriter}. The default implementation writes the string returned by {@link #toJSON()}, the
+   * JSON elements write their tokens directly to the writer.
+   *
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the object.
+   * @throws IOException if an I/O error occurs.
+   */
+  default void writeTo(JSONWriter writer) throws IOException {
+    writer.rawValue(toJSON());
+  }
+
   /**
    * Create a JSON structure with this object.
    *
@@ -0,0 +1,73 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONArray;
+
+/**
+ * A {@link net.cabezudo.json.values.JSONArray} that reads its elements from a {@link LazySource} the first time they are used. The objects and arrays inside the array are
+ * created on demand too.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class LazyJSONArray extends JSONArray {
+
+  private LazySource source;
+  private final int start;
+  private final int line;
+  private final int lineStart;
+
+  LazyJSONArray(LazySource source, int start, int line, int lineStart, Position position) {
+    super(position);
+    this.source = source;
+    this.start = start;
+    this.line = line;
+    this.lineStart = lineStart;
+  }
+
+  @Override
+  protected void load() {
+    if (source == null) {
+      return;
+    }
+    LazySource lazySource = source;
+    source = null;
+    CharArrayLexer lexer = lazySource.lexer(start, line, lineStart);
+    try {
+      lexer.next();
+      LazyValue value = lexer.skipValue(lazySource);
+      while (value != null) {
+        add(value.get());
+        if (lexer.next() != TokenType.COMMA) {
+          break;
+        }
+        value = lexer.skipValue(lazySource);
+      }
+    } catch (JSONParseException e) {
+      throw new IllegalStateException("Invalid array in a validated document.", e);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONBoolean;
+import net.cabezudo.json.values.JSONNull;
+import net.cabezudo.json.values.JSONString;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * The characters of a JSON document parsed on demand. The document is validated before the first value is created, so the values can be created later without errors.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class LazySource {
+
+  private final char[] chars;
+  private final Symbols symbols = new Symbols();
+
+  private LazySource(char[] chars) {
+    this.chars = chars;
+  }
+
+  /**
+   * Validate the document and return the root value. Only the root object or array is created, its properties are created when they are used.
+   *
+   * @param chars the characters of the document.
+   * @return the root value of the document.
+   * @throws JSONParseException if the characters are not a valid JSON document.
+   */
+  static JSONValue parse(char[] chars) throws JSONParseException {
+    new JSONReader(new CharArrayLexer(chars)).validate();
+    return new LazySource(chars).value(0, 1, 0);
+  }
+
+  CharArrayLexer lexer(int start, int line, int lineStart) {
+    CharArrayLexer lexer = new CharArrayLexer(chars, start, chars.length - start, line, lineStart);
+    lexer.setSymbols(symbols);
+    return lexer;
+  }
+
+  JSONValue value(int start, int line, int lineStart) {
+    CharArrayLexer lexer = lexer(start, line, lineStart);
+    try {
+      TokenType type = lexer.next();
+      switch (type) {
+        case STRING:
+          return JSONString.fromSource(lexer.getString(), lexer.getPosition());
+        case NUMBER:
+          return lexer.getJSONNumber();
+        case TRUE:
+          return JSONBoolean.TRUE;
+        case FALSE:
+          return JSONBoolean.FALSE;
+        case NULL:
+          return new JSONNull();
+        case LEFT_BRACE:
+          return new LazyJSONObject(this, start, line, lineStart, lexer.getPosition());
+        case LEFT_BRACKET:
+          return new LazyJSONArray(this, start, line, lineStart, lexer.getPosition());
+        default:
+          throw new IllegalStateException("Unexpected " + type + " in a validated document.");
+      }
+    } catch (JSONParseException e) {
+      throw new IllegalStateException("Invalid value in a validated document.", e);
+    }
+  }
+}
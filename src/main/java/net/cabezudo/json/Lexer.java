@@ -0,0 +1,263 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.JSONNumber;
+import net.cabezudo.json.values.JSONString;
+
+/**
+ * Reads the tokens of a JSON source one at a time. The lexer keeps only the current token, so the source is read in a single pass and no intermediate token list is created.
+ * <p>
+ * All the lexers count the positions in the same way. Inside a string a backslash escapes the next character, even if the escape sequence is not valid. The escaped character
+ * counts as one column and is never a new line, even if it is a line feed. If the source ends inside a string, including the end just after a backslash, the
+ * {@link net.cabezudo.json.exceptions.EOSException} has the position just after the last character of the source.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+abstract class Lexer {
+
+  private TokenType type = TokenType.NONE;
+  private int line;
+  private int row;
+  private final NumberScanner number = new NumberScanner();
+  private Symbols symbols;
+
+  /**
+   * Move to the next token in the source.
+   *
+   * @return the type of the token read or {@link TokenType#END} if there are no more tokens.
+   * @throws JSONParseException if the next token is not a valid JSON token.
+   * @throws java.io.UncheckedIOException if the source can't be read.
+   */
+  abstract TokenType next() throws JSONParseException;
+
+  /**
+   * Return the content of the current string token without the quotes and without replace the escape sequences.
+   *
+   * @return the raw content of the string.
+   */
+  abstract String getString();
+
+  /**
+   * Return the text of the current token as it is in the source. Used to create the error messages.
+   *
+   * @return a {@code String} with the current token.
+   */
+  abstract String getValue();
+
+  /**
+   * Return the content of the current string token with the escape sequences replaced.
+   *
+   * @return the value of the string.
+   */
+  String getDecodedString() {
+    return JSONString.fromSource(getString(), null).toString();
+  }
+
+  /**
+   * Return the content of the current string token used as the name of a property. The names are kept in a {@link Symbols} table, so the same name returns the same
+   * {@code String}. By default the name is not kept.
+   *
+   * @return the name of the property.
+   */
+  String getKey() {
+    return getDecodedString();
+  }
+
+  /**
+   * Return the table of the names of the properties of this lexer. The table is created the first time it is used.
+   *
+   * @return the table of names.
+   */
+  Symbols symbols() {
+    if (symbols == null) {
+      symbols = new Symbols();
+    }
+    return symbols;
+  }
+
+  /**
+   * Use a table of names created by other lexer, so the lexers used to read the same source return the same names.
+   *
+   * @param symbols the table of names.
+   */
+  void setSymbols(Symbols symbols) {
+    this.symbols = symbols;
+  }
+
+  /**
+   * Return the number represented by the current number token. The {@code BigDecimal} is created the first time the method is called for the token, so the numbers that are
+   * skipped are never converted.
+   *
+   * @return a {@code BigDecimal} with the value of the token.
+   */
+  BigDecimal getNumber() {
+    return number.getBigDecimal();
+  }
+
+  /**
+   * Return the number represented by the current number token as a {@code long}.
+   *
+   * @return the value of the token.
+   * @throws ArithmeticException if the number has a nonzero fractional part or it is out of the range of a {@code long}.
+   */
+  long getLong() {
+    return number.getLong();
+  }
+
+  /**
+   * Return the number represented by the current number token as a {@code double}.
+   *
+   * @return the nearest {@code double} to the value of the token.
+   */
+  double getDouble() {
+    return number.getDouble();
+  }
+
+  /**
+   * Create a {@link JSONNumber} with the value of the current number token. The common numbers are created without a {@code BigDecimal}.
+   *
+   * @return a new {@link JSONNumber}.
+   */
+  JSONNumber getJSONNumber() {
+    return number.getJSONNumber();
+  }
+
+  Position getPosition() {
+    return new Position(line, row);
+  }
+
+  int getTokenLine() {
+    return line;
+  }
+
+  int getTokenRow() {
+    return row;
+  }
+
+  /**
+   * Return the index of the first character of the current token in the source. Only the lexers that keep a {@link LineIndex} know the index of the tokens.
+   *
+   * @return the index of the current token or {@code -1} if the lexer doesn't know it.
+   */
+  int getTokenOffset() {
+    return -1;
+  }
+
+  /**
+   * Return the index of the lines read, used to calculate the position of a token from its index.
+   *
+   * @return the index of the lines or {@code null} if the lexer doesn't keep the lines.
+   */
+  LineIndex getLineIndex() {
+    return null;
+  }
+
+  TokenType getType() {
+    return type;
+  }
+
+  void close() throws IOException {
+    // Nothing to release by default.
+  }
+
+  /**
+   * Move the lexer after the end of the object or array that starts in the current left brace or left bracket without create the tokens inside. The lexer only counts the
+   * brackets and skips the strings, the content is not validated. The lexer doesn't move if it can't skip the content.
+   *
+   * @return {@code true} if the content was skipped, {@code false} if the lexer can't skip it or the source ends before the end of the object or array.
+   */
+  boolean skipContainer() {
+    return false;
+  }
+
+  /**
+   * Forget the current token, used when a lexer starts to read a new source.
+   */
+  void resetToken() {
+    type = TokenType.NONE;
+    line = 0;
+    row = 0;
+    number.reset();
+  }
+
+  TokenType setToken(TokenType type, int line, int row) {
+    this.type = type;
+    this.line = line;
+    this.row = row;
+    return type;
+  }
+
+  TokenType classifyWord(char[] chars, int offset, int length, int line, int row) throws UnexpectedElementException {
+    if (wordEquals(chars, offset, length, "true")) {
+      return TokenType.TRUE;
+    }
+    if (wordEquals(chars, offset, length, "false")) {
+      return TokenType.FALSE;
+    }
+    if (wordEquals(chars, offset, length, "null")) {
+      return TokenType.NULL;
+    }
+    if (!number.scan(chars, offset, length)) {
+      throw new UnexpectedElementException(new String(chars, offset, length), new Position(line, row));
+    }
+    return TokenType.NUMBER;
+  }
+
+  private static boolean wordEquals(char[] chars, int offset, int length, String literal) {
+    if (literal.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (Character.toLowerCase(chars[offset + i]) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\u00A0';
+  }
+
+  static boolean isDelimiter(char c) {
+    switch (c) {
+      case '{':
+      case '}':
+      case '[':
+      case ']':
+      case ':':
+      case ',':
+      case '"':
+        return true;
+      default:
+        return isWhitespace(c);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.util.Arrays;
+
+/**
+ * The index of the first character of every line of a source. The lexer adds the lines while it reads the source, so the values only keep the index of its first character and
+ * the {@link Position} is calculated when it is requested.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class LineIndex {
+
+  private int[] starts = new int[16];
+  private int size;
+
+  /**
+   * Create an index for a source whose first line starts in the index passed.
+   *
+   * @param start the index of the first character of the source.
+   */
+  LineIndex(int start) {
+    starts[0] = start;
+    size = 1;
+  }
+
+  /**
+   * Add the start of a new line. A start that is not after the last start added is ignored, so a part of the source can be read again.
+   *
+   * @param start the index of the first character of the line.
+   */
+  void add(int start) {
+    if (start <= starts[size - 1]) {
+      return;
+    }
+    if (size == starts.length) {
+      starts = Arrays.copyOf(starts, size * 2);
+    }
+    starts[size++] = start;
+  }
+
+  /**
+   * Return the position of a character of the source.
+   *
+   * @param offset the index of the character in the source.
+   * @return the line and the row of the character.
+   */
+  Position getPosition(int offset) {
+    int low = 0;
+    int high = size - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (starts[middle] <= offset) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return new Position(low + 1, offset - starts[low] + 1);
+  }
+}
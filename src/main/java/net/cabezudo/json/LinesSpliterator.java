@@ -0,0 +1,172 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UncheckedJSONParseException;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * A {@code Spliterator} over the records of a JSON Lines file. The spliterator is split in ranges of bytes that start after a line feed, so every range has complete records and
+ * can be parsed by a different thread. Every range is read by its own {@link MappedFileLexer} from the channel shared by all the ranges.
+ * <p>
+ * The lines of the positions in the errors are counted from the start of the file only when an error is found.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class LinesSpliterator implements Spliterator<JSONValue> {
+
+  static final long DEFAULT_SPLIT_SIZE = 1 << 20;
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final FileChannel channel;
+  private final long splitSize;
+  private final boolean ordered;
+  private long start;
+  private final long end;
+  private JSONReader reader;
+
+  LinesSpliterator(FileChannel channel, long start, long end, long splitSize, boolean ordered) {
+    this.channel = channel;
+    this.start = start;
+    this.end = end;
+    this.splitSize = Math.max(splitSize, 1);
+    this.ordered = ordered;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super JSONValue> action) {
+    try {
+      if (reader == null) {
+        if (start >= end) {
+          return false;
+        }
+        reader = new JSONReader(new MappedFileLexer(channel, start, end, MappedFileLexer.DEFAULT_REGION_SIZE), true);
+      }
+      if (reader.nextToken() == TokenType.END) {
+        start = end;
+        return false;
+      }
+      action.accept(reader.readValue());
+      return true;
+    } catch (JSONParseException e) {
+      throw new UncheckedJSONParseException(moveTo(e));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public Spliterator<JSONValue> trySplit() {
+    if (reader != null || end - start < 2 * splitSize) {
+      return null;
+    }
+    try {
+      long split = nextLine(start + (end - start) / 2);
+      if (split < 0) {
+        return null;
+      }
+      LinesSpliterator prefix = new LinesSpliterator(channel, start, split, splitSize, ordered);
+      start = split;
+      return prefix;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long nextLine(long position) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    while (position < end) {
+      buffer.clear();
+      if (end - position < BUFFER_SIZE) {
+        buffer.limit((int) (end - position));
+      }
+      int read = channel.read(buffer, position);
+      if (read <= 0) {
+        return -1;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          long split = position + i + 1;
+          return split < end ? split : -1;
+        }
+      }
+      position += read;
+    }
+    return -1;
+  }
+
+  private JSONParseException moveTo(JSONParseException e) {
+    Position position = e.getPosition();
+    if (position == null || reader == null) {
+      return e;
+    }
+    long rangeStart = start;
+    try {
+      int lines = 0;
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      for (long p = 0; p < rangeStart;) {
+        buffer.clear();
+        if (rangeStart - p < BUFFER_SIZE) {
+          buffer.limit((int) (rangeStart - p));
+        }
+        int read = channel.read(buffer, p);
+        if (read <= 0) {
+          break;
+        }
+        for (int i = 0; i < read; i++) {
+          if (buffer.get(i) == '\n') {
+            lines++;
+          }
+        }
+        p += read;
+      }
+      if (lines == 0) {
+        return e;
+      }
+      return e.withPosition(new Position(position.getLine() + lines, position.getRow()));
+    } catch (IOException ioe) {
+      e.addSuppressed(ioe);
+      return e;
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    return end - start;
+  }
+
+  @Override
+  public int characteristics() {
+    return (ordered ? ORDERED : 0) | NONNULL | IMMUTABLE;
+  }
+}
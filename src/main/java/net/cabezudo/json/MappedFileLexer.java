@@ -0,0 +1,114 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Lexer} that reads the tokens of a UTF-8 file mapped in memory with {@code FileChannel.map}. The file is mapped in regions, so the size of the file is not limited by the
+ * size of a buffer. When a token crosses the end of a region the next region is mapped from the start of the token. The bytes of the file are not copied to the heap, the
+ * operating system loads the pages when the lexer reads them.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+class MappedFileLexer extends ByteBufferLexer {
+
+  static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+  private final FileChannel channel;
+  private final long start;
+  private final long size;
+  private final int regionSize;
+  private final boolean shared;
+
+  private MappedFileLexer(FileChannel channel, long start, long end, int regionSize, boolean shared) throws IOException {
+    super(map(channel, start, (int) Math.min(end - start, regionSize)));
+    this.channel = channel;
+    this.start = start;
+    this.size = end - start;
+    this.regionSize = regionSize;
+    this.shared = shared;
+  }
+
+  /**
+   * Create a lexer for the bytes between two positions of a file. The channel is shared with other lexers, so it is not closed when the lexer is closed.
+   *
+   * @param channel the channel of the file.
+   * @param start the position of the first byte.
+   * @param end the position after the last byte.
+   * @param regionSize the maximum size of a mapped region.
+   * @throws IOException if an I/O error occurs mapping the file.
+   */
+  MappedFileLexer(FileChannel channel, long start, long end, int regionSize) throws IOException {
+    this(channel, start, end, regionSize, true);
+  }
+
+  static MappedFileLexer open(Path path) throws IOException {
+    return open(path, DEFAULT_REGION_SIZE);
+  }
+
+  static MappedFileLexer open(Path path, int regionSize) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new MappedFileLexer(channel, 0, channel.size(), regionSize, false);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static ByteBuffer map(FileChannel channel, long position, int length) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+  }
+
+  @Override
+  ByteBuffer more(long position, int available) {
+    if (position + available >= size) {
+      return null;
+    }
+    long length = Math.max(regionSize, 2L * available);
+    length = Math.min(Math.min(length, size - position), Integer.MAX_VALUE);
+    if (length <= available) {
+      return null;
+    }
+    try {
+      return map(channel, start + position, (int) length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  void close() throws IOException {
+    if (!shared) {
+      channel.close();
+    }
+  }
+}
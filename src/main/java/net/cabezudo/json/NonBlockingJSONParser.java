@@ -0,0 +1,696 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONBoolean;
+import net.cabezudo.json.values.JSONNull;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONString;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * A parser that receives the UTF-8 bytes of the source in chunks of any size and never waits for more bytes. The parser keeps the state of the parse between the chunks, so the
+ * source is parsed while it arrives and only the bytes of an incomplete string, number or literal are kept between two chunks.
+ * <p>
+ * The source is a sequence of JSON values, like the sequences read by {@link JSONLinesReader}: any value can be at the root and there can be any number of values. Every value of
+ * the root is passed to the consumer as soon as its last byte is received. A number or a literal at the root is complete when the next delimiter or the end of the input is
+ * received.
+ *
+ * <pre>
+ * NonBlockingJSONParser parser = new NonBlockingJSONParser(value -&gt; queue.add(value));
+ * while (channel.read(buffer) != -1) {
+ *   buffer.flip();
+ *   parser.feed(buffer);
+ *   buffer.clear();
+ * }
+ * parser.endOfInput();
+ * </pre>
+ *
+ * The parser is not thread safe, but the chunks can be fed from different threads if the calls are not concurrent.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class NonBlockingJSONParser {
+
+  // The states of the structure.
+  private static final int ROOT = 0;
+  private static final int OBJECT_KEY = 1;
+  private static final int OBJECT_COLON = 2;
+  private static final int OBJECT_VALUE = 3;
+  private static final int OBJECT_SEPARATOR = 4;
+  private static final int ARRAY_VALUE = 5;
+  private static final int ARRAY_SEPARATOR = 6;
+  // A key after a comma.
+  private static final int OBJECT_NEXT_KEY = 7;
+
+  // The states of the tokenizer.
+  private static final int SPACE = 0;
+  private static final int STRING = 1;
+  private static final int WORD = 2;
+  // A 0xC2 byte was read between two tokens, it can be the first byte of a no-break space.
+  private static final int SPACE_C2 = 3;
+
+  private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final int SCRATCH_SIZE = 8192;
+
+  private final Consumer<? super JSONValue> consumer;
+  private final CharArrayLexer words = new CharArrayLexer(new char[0]);
+  private int maxDepth = Integer.MAX_VALUE;
+
+  private int mode = SPACE;
+  private int byteOrderMark;
+  private int line = 1;
+  // The number of characters read in the current line.
+  private int column;
+  private byte[] token = new byte[64];
+  private int tokenLength;
+  private int tokenLine;
+  private int tokenRow;
+  private boolean escaped;
+  private boolean escapeNext;
+  private boolean ascii;
+  private char[] chars = new char[32];
+  private byte[] scratch;
+
+  private int state = ROOT;
+  private int depth;
+  private JSONValue[] containers = new JSONValue[32];
+  private String[] keys = new String[32];
+  private Position[] colonPositions = new Position[32];
+  // The line and the row used to report an unexpected end of the source, the same as JSONReader. For an array it is the left bracket. For an object it is the last left brace,
+  // colon, comma or key after a comma read.
+  private int[] lines = new int[32];
+  private int[] rows = new int[32];
+  private boolean ended;
+  private boolean failed;
+
+  /**
+   * Create a parser that passes the values of the root to a consumer.
+   *
+   * @param consumer the consumer of the values parsed.
+   */
+  public NonBlockingJSONParser(Consumer<? super JSONValue> consumer) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("The parameter consumer is null.");
+    }
+    this.consumer = consumer;
+  }
+
+  /**
+   * Set the maximum number of objects and arrays that can be nested in a value. The default is no limit.
+   *
+   * @param maxDepth the maximum depth of a value.
+   * @return this parser.
+   */
+  public NonBlockingJSONParser setMaxDepth(int maxDepth) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("The maximum depth must be greater than zero.");
+    }
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Return the maximum number of objects and arrays that can be nested in a value.
+   *
+   * @return the maximum depth of a value.
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Return the number of objects and arrays open after the bytes received.
+   *
+   * @return the current depth.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Parse the bytes between the position and the limit of a buffer. The position of the buffer is moved to the limit. The values completed with the bytes are passed to the
+   * consumer before the method returns.
+   *
+   * @param buffer the next bytes of the source.
+   * @throws JSONParseException if the bytes received are not a valid JSON sequence. The exception contains the position where the error was found and the parser can't be used
+   * after the error.
+   */
+  public void feed(ByteBuffer buffer) throws JSONParseException {
+    if (buffer.hasArray()) {
+      feed(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+      return;
+    }
+    if (scratch == null) {
+      scratch = new byte[SCRATCH_SIZE];
+    }
+    while (buffer.hasRemaining()) {
+      int length = Math.min(buffer.remaining(), scratch.length);
+      buffer.get(scratch, 0, length);
+      feed(scratch, 0, length);
+    }
+  }
+
+  /**
+   * Parse the bytes of an array. The values completed with the bytes are passed to the consumer before the method returns.
+   *
+   * @param bytes the array with the next bytes of the source.
+   * @param offset the index of the first byte.
+   * @param length the number of bytes.
+   * @throws JSONParseException if the bytes received are not a valid JSON sequence. The exception contains the position where the error was found and the parser can't be used
+   * after the error.
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the array.
+   */
+  public void feed(byte[] bytes, int offset, int length) throws JSONParseException {
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("Invalid range " + offset + ", " + length + " for an array of size " + bytes.length + ".");
+    }
+    checkState();
+    failed = true;
+    int i = offset;
+    int end = offset + length;
+    if (byteOrderMark >= 0) {
+      i = skipByteOrderMark(bytes, i, end);
+    }
+    while (i < end) {
+      switch (mode) {
+        case STRING:
+          i = readString(bytes, i, end);
+          break;
+        case WORD:
+          i = readWord(bytes, i, end);
+          break;
+        case SPACE_C2:
+          i = readSpaceC2(bytes, i);
+          break;
+        default:
+          i = readSpace(bytes, i, end);
+          break;
+      }
+    }
+    failed = false;
+  }
+
+  /**
+   * Tell the parser that there are no more bytes. The last value is passed to the consumer if it is a number or a literal.
+   *
+   * @throws JSONParseException if the source ends inside a value. The exception contains the position where the error was found.
+   */
+  public void endOfInput() throws JSONParseException {
+    checkState();
+    failed = true;
+    if (byteOrderMark > 0) {
+      replayByteOrderMark();
+    }
+    switch (mode) {
+      case STRING:
+        throw new EOSException(new Position(line, column + 1));
+      case SPACE_C2:
+        startWord();
+        append((byte) 0xC2);
+        column++;
+        endWord();
+        break;
+      case WORD:
+        endWord();
+        break;
+      default:
+        break;
+    }
+    if (depth > 0) {
+      throw new EOSException(new Position(lines[depth - 1], rows[depth - 1]));
+    }
+    ended = true;
+    failed = false;
+  }
+
+  private void checkState() {
+    if (ended) {
+      throw new IllegalStateException("The end of the input was already received.");
+    }
+    if (failed) {
+      throw new IllegalStateException("The parser can't be used after an error.");
+    }
+  }
+
+  private int skipByteOrderMark(byte[] bytes, int start, int end) throws JSONParseException {
+    int i = start;
+    while (i < end && byteOrderMark < BYTE_ORDER_MARK.length) {
+      if (bytes[i] != BYTE_ORDER_MARK[byteOrderMark]) {
+        replayByteOrderMark();
+        return i;
+      }
+      byteOrderMark++;
+      i++;
+    }
+    if (byteOrderMark == BYTE_ORDER_MARK.length) {
+      byteOrderMark = -1;
+    }
+    return i;
+  }
+
+  // The bytes read are not a byte order mark, they are parsed like the other bytes.
+  private void replayByteOrderMark() throws JSONParseException {
+    int matched = byteOrderMark;
+    byteOrderMark = -1;
+    for (int i = 0; i < matched; i++) {
+      readByte(BYTE_ORDER_MARK[i]);
+    }
+  }
+
+  private void readByte(byte b) throws JSONParseException {
+    byte[] one = {b};
+    int i = 0;
+    while (i < 1) {
+      switch (mode) {
+        case STRING:
+          i = readString(one, i, 1);
+          break;
+        case WORD:
+          i = readWord(one, i, 1);
+          break;
+        case SPACE_C2:
+          i = readSpaceC2(one, i);
+          break;
+        default:
+          i = readSpace(one, i, 1);
+          break;
+      }
+    }
+  }
+
+  private int readSpace(byte[] bytes, int start, int end) throws JSONParseException {
+    int i = start;
+    while (i < end) {
+      byte b = bytes[i];
+      TokenType type;
+      switch (b) {
+        case ' ':
+        case '\t':
+        case '\r':
+          column++;
+          i++;
+          continue;
+        case '\n':
+          line++;
+          column = 0;
+          i++;
+          continue;
+        case '{':
+          type = TokenType.LEFT_BRACE;
+          break;
+        case '}':
+          type = TokenType.RIGHT_BRACE;
+          break;
+        case '[':
+          type = TokenType.LEFT_BRACKET;
+          break;
+        case ']':
+          type = TokenType.RIGHT_BRACKET;
+          break;
+        case ':':
+          type = TokenType.COLON;
+          break;
+        case ',':
+          type = TokenType.COMMA;
+          break;
+        case '"':
+          tokenLine = line;
+          tokenRow = column + 1;
+          tokenLength = 0;
+          escaped = false;
+          escapeNext = false;
+          ascii = true;
+          column++;
+          mode = STRING;
+          return i + 1;
+        default:
+          if (b == (byte) 0xC2) {
+            tokenLine = line;
+            tokenRow = column + 1;
+            mode = SPACE_C2;
+            return i + 1;
+          }
+          startWord();
+          return i;
+      }
+      tokenLine = line;
+      tokenRow = column + 1;
+      column++;
+      i++;
+      token(type);
+    }
+    return i;
+  }
+
+  private int readSpaceC2(byte[] bytes, int i) {
+    column++;
+    if (bytes[i] == (byte) 0xA0) {
+      mode = SPACE;
+      return i + 1;
+    }
+    int row = tokenRow;
+    startWord();
+    tokenRow = row;
+    append((byte) 0xC2);
+    ascii = false;
+    return i;
+  }
+
+  private int readString(byte[] bytes, int start, int end) throws JSONParseException {
+    int i = start;
+    while (i < end) {
+      byte b = bytes[i];
+      boolean escapedChar = escapeNext;
+      if (escapedChar) {
+        escapeNext = false;
+      } else if (b == '"') {
+        append(bytes, start, i);
+        column++;
+        mode = SPACE;
+        token(TokenType.STRING);
+        return i + 1;
+      } else if (b == '\\') {
+        escaped = true;
+        escapeNext = true;
+      }
+      if (b == '\n' && !escapedChar) {
+        line++;
+        column = 0;
+      } else {
+        countChar(b);
+      }
+      i++;
+    }
+    append(bytes, start, end);
+    return end;
+  }
+
+  private void startWord() {
+    tokenLine = line;
+    tokenRow = column + 1;
+    tokenLength = 0;
+    ascii = true;
+    mode = WORD;
+  }
+
+  private int readWord(byte[] bytes, int start, int end) throws JSONParseException {
+    int i = start;
+    while (i < end) {
+      byte b = bytes[i];
+      if (b >= 0) {
+        if (Lexer.isDelimiter((char) b)) {
+          append(bytes, start, i);
+          endWord();
+          return i;
+        }
+      } else if (b == (byte) 0xA0 && (i > start ? bytes[i - 1] : tokenLength > 0 ? token[tokenLength - 1] : 0) == (byte) 0xC2) {
+        // A no-break space ends the word.
+        append(bytes, start, i);
+        tokenLength--;
+        endWord();
+        return i + 1;
+      }
+      countChar(b);
+      i++;
+    }
+    append(bytes, start, end);
+    return end;
+  }
+
+  private void endWord() throws JSONParseException {
+    mode = SPACE;
+    int length;
+    if (ascii) {
+      if (chars.length < tokenLength) {
+        chars = new char[Math.max(tokenLength, chars.length * 2)];
+      }
+      for (int i = 0; i < tokenLength; i++) {
+        chars[i] = (char) token[i];
+      }
+      length = tokenLength;
+    } else {
+      chars = new String(token, 0, tokenLength, StandardCharsets.UTF_8).toCharArray();
+      length = chars.length;
+    }
+    token(words.classifyWord(chars, 0, length, tokenLine, tokenRow));
+  }
+
+  private void countChar(byte b) {
+    if (b >= 0) {
+      column++;
+    } else {
+      ascii = false;
+      if ((b & 0xC0) != 0x80) {
+        column += (b & 0xF8) == 0xF0 ? 2 : 1;
+      }
+    }
+  }
+
+  private void append(byte b) {
+    if (tokenLength == token.length) {
+      token = Arrays.copyOf(token, tokenLength * 2);
+    }
+    token[tokenLength++] = b;
+  }
+
+  private void append(byte[] bytes, int start, int end) {
+    int length = end - start;
+    if (tokenLength + length > token.length) {
+      token = Arrays.copyOf(token, Math.max(tokenLength + length, token.length * 2));
+    }
+    System.arraycopy(bytes, start, token, tokenLength, length);
+    tokenLength += length;
+  }
+
+  private void token(TokenType type) throws JSONParseException {
+    switch (state) {
+      case ROOT:
+        if (!isValue(type)) {
+          throw new UnexpectedElementException(getValue(type), getPosition());
+        }
+        value(type);
+        break;
+      case OBJECT_KEY:
+      case OBJECT_NEXT_KEY:
+        if (type == TokenType.RIGHT_BRACE) {
+          close();
+        } else if (type == TokenType.STRING) {
+          if (state == OBJECT_NEXT_KEY) {
+            setEndPosition();
+          }
+          keys[depth - 1] = getKey();
+          state = OBJECT_COLON;
+        } else {
+          throw new UnexpectedElementException("string", getValue(type), getPosition());
+        }
+        break;
+      case OBJECT_COLON:
+        if (type != TokenType.COLON) {
+          throw new UnexpectedElementException("colon", getValue(type), getPosition());
+        }
+        setEndPosition();
+        colonPositions[depth - 1] = getPosition();
+        state = OBJECT_VALUE;
+        break;
+      case OBJECT_VALUE:
+        if (!isValue(type)) {
+          throw new UnexpectedElementException("value", getValue(type), getPosition());
+        }
+        value(type);
+        break;
+      case OBJECT_SEPARATOR:
+        if (type == TokenType.RIGHT_BRACE) {
+          close();
+        } else if (type == TokenType.COMMA) {
+          setEndPosition();
+          state = OBJECT_NEXT_KEY;
+        } else {
+          throw new UnexpectedElementException("comma or right brace", getValue(type), getPosition());
+        }
+        break;
+      case ARRAY_VALUE:
+        if (type == TokenType.RIGHT_BRACKET) {
+          close();
+        } else if (isValue(type)) {
+          value(type);
+        } else {
+          throw new UnexpectedElementException("value", getValue(type), getPosition());
+        }
+        break;
+      case ARRAY_SEPARATOR:
+        if (type == TokenType.RIGHT_BRACKET) {
+          close();
+        } else if (type == TokenType.COMMA) {
+          state = ARRAY_VALUE;
+        } else {
+          throw new UnexpectedElementException("comma or right bracket", getValue(type), getPosition());
+        }
+        break;
+      default:
+        throw new IllegalStateException("Invalid parser state: " + state);
+    }
+  }
+
+  private static boolean isValue(TokenType type) {
+    switch (type) {
+      case LEFT_BRACE:
+      case LEFT_BRACKET:
+      case STRING:
+      case NUMBER:
+      case TRUE:
+      case FALSE:
+      case NULL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private void value(TokenType type) throws JSONParseException {
+    switch (type) {
+      case LEFT_BRACE:
+        open(new JSONObject(getPosition()), OBJECT_KEY);
+        break;
+      case LEFT_BRACKET:
+        open(new JSONArray(getPosition()), ARRAY_VALUE);
+        break;
+      case STRING:
+        add(JSONString.fromSource(getString(), getPosition()));
+        break;
+      case NUMBER:
+        add(words.getJSONNumber());
+        break;
+      case TRUE:
+        add(JSONBoolean.TRUE);
+        break;
+      case FALSE:
+        add(JSONBoolean.FALSE);
+        break;
+      default:
+        add(new JSONNull());
+        break;
+    }
+  }
+
+  private void open(JSONValue container, int newState) throws JSONParseException {
+    if (depth >= maxDepth) {
+      throw new JSONParseException("The document has more than " + maxDepth + " levels of objects and arrays.", getPosition());
+    }
+    if (depth == containers.length) {
+      containers = Arrays.copyOf(containers, depth * 2);
+      keys = Arrays.copyOf(keys, depth * 2);
+      colonPositions = Arrays.copyOf(colonPositions, depth * 2);
+      lines = Arrays.copyOf(lines, depth * 2);
+      rows = Arrays.copyOf(rows, depth * 2);
+    }
+    containers[depth] = container;
+    lines[depth] = tokenLine;
+    rows[depth] = tokenRow;
+    depth++;
+    state = newState;
+  }
+
+  private void setEndPosition() {
+    lines[depth - 1] = tokenLine;
+    rows[depth - 1] = tokenRow;
+  }
+
+  private void close() {
+    depth--;
+    JSONValue container = containers[depth];
+    containers[depth] = null;
+    add(container);
+  }
+
+  private void add(JSONValue value) {
+    if (depth == 0) {
+      state = ROOT;
+      consumer.accept(value);
+      return;
+    }
+    int top = depth - 1;
+    JSONValue container = containers[top];
+    if (container.isObject()) {
+      ((JSONObject) container).add(new JSONPair(keys[top], value, colonPositions[top]));
+      keys[top] = null;
+      colonPositions[top] = null;
+      state = OBJECT_SEPARATOR;
+    } else {
+      ((JSONArray) container).add(value);
+      state = ARRAY_SEPARATOR;
+    }
+  }
+
+  private Position getPosition() {
+    return new Position(tokenLine, tokenRow);
+  }
+
+  private String getString() {
+    return new String(token, 0, tokenLength, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+  }
+
+  private String getKey() {
+    if (escaped) {
+      return JSONString.fromSource(getString(), null).toString();
+    }
+    if (!ascii) {
+      return getString();
+    }
+    return words.symbols().get(token, 0, tokenLength);
+  }
+
+  private String getValue(TokenType type) {
+    switch (type) {
+      case LEFT_BRACE:
+        return "{";
+      case RIGHT_BRACE:
+        return "}";
+      case LEFT_BRACKET:
+        return "[";
+      case RIGHT_BRACKET:
+        return "]";
+      case COLON:
+        return ":";
+      case COMMA:
+        return ",";
+      case STRING:
+        return '"' + getString() + '"';
+      case NUMBER:
+        return words.getNumber().toString();
+      default:
+        return new String(token, 0, tokenLength, StandardCharsets.UTF_8);
+    }
+  }
+}
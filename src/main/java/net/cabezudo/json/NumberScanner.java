@@ -0,0 +1,335 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import net.cabezudo.json.values.JSONNumber;
+
+/**
+ * Reads the number tokens of a lexer. The scan validates the number and keeps its significant digits in a {@code long} and its power of ten, so the common numbers are converted
+ * to {@code long}, {@code double} and {@link JSONNumber} values without create a {@code BigDecimal}. The {@code BigDecimal} is created only for the numbers with more digits
+ * than a {@code long} or with an unusual format and when it is requested.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class NumberScanner {
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  // The significant digits of a number with more digits don't fit in a double without rounding.
+  private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+  private static final long MAX_MANTISSA_BEFORE_DIGIT = Long.MAX_VALUE / 10;
+
+  private char[] chars;
+  private int offset;
+  private int length;
+  private BigDecimal number;
+  // True if the number is in negative, mantissa and exponent: the value is mantissa × 10^exponent with the sign.
+  private boolean exact;
+  private boolean negative;
+  private long mantissa;
+  private int digits;
+  private long exponent;
+
+  /**
+   * Read a number. A number with ASCII digits and an exponent of less than ten digits is read by the scanner. Any other text is read by {@code BigDecimal}, so the numbers
+   * accepted are the same numbers accepted by {@code BigDecimal}.
+   *
+   * @param numberChars the characters with the number.
+   * @param numberOffset the index of the first character of the number.
+   * @param numberLength the number of characters of the number.
+   * @return {@code true} if the text is a number.
+   */
+  boolean scan(char[] numberChars, int numberOffset, int numberLength) {
+    chars = numberChars;
+    offset = numberOffset;
+    length = numberLength;
+    number = null;
+    exact = false;
+    if (scanSimple()) {
+      return true;
+    }
+    // Let BigDecimal decide the uncommon cases, like a big exponent.
+    try {
+      number = new BigDecimal(numberChars, numberOffset, numberLength);
+      return true;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private boolean scanSimple() {
+    int i = offset;
+    int end = offset + length;
+    boolean minus = false;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+      minus = chars[i] == '-';
+      i++;
+    }
+    long value = 0;
+    int significantDigits = 0;
+    int allDigits = 0;
+    long power = 0;
+    boolean overflow = false;
+    boolean fraction = false;
+    for (; i < end; i++) {
+      char c = chars[i];
+      if (c == '.') {
+        if (fraction) {
+          return false;
+        }
+        fraction = true;
+        continue;
+      }
+      int digit = c - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      allDigits++;
+      if (fraction) {
+        power--;
+      }
+      if (value == 0 && digit == 0) {
+        continue;
+      }
+      significantDigits++;
+      if (value < MAX_MANTISSA_BEFORE_DIGIT || (value == MAX_MANTISSA_BEFORE_DIGIT && digit <= Long.MAX_VALUE % 10)) {
+        value = value * 10 + digit;
+      } else {
+        overflow = true;
+      }
+    }
+    if (allDigits == 0) {
+      return false;
+    }
+    if (i < end) {
+      if (chars[i] != 'e' && chars[i] != 'E') {
+        return false;
+      }
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+        negativeExponent = chars[i] == '-';
+        i++;
+      }
+      int exponentDigits = 0;
+      int exponentValue = 0;
+      for (; i < end; i++) {
+        int digit = chars[i] - '0';
+        if (digit < 0 || digit > 9) {
+          return false;
+        }
+        exponentValue = exponentValue * 10 + digit;
+        if (++exponentDigits > 9) {
+          return false;
+        }
+      }
+      if (exponentDigits == 0) {
+        return false;
+      }
+      power += negativeExponent ? -exponentValue : exponentValue;
+    }
+    if (overflow || power < Integer.MIN_VALUE + 1 || power > Integer.MAX_VALUE) {
+      // A valid number that is converted from its text.
+      return true;
+    }
+    exact = true;
+    negative = minus;
+    mantissa = value;
+    digits = significantDigits;
+    exponent = power;
+    return true;
+  }
+
+  /**
+   * Forget the number read.
+   */
+  void reset() {
+    chars = null;
+    number = null;
+    exact = false;
+  }
+
+  /**
+   * Return the number as a {@code BigDecimal}. The {@code BigDecimal} has the same unscaled value and scale that the {@code BigDecimal} created from the text of the number.
+   *
+   * @return the number.
+   */
+  BigDecimal getBigDecimal() {
+    if (number == null) {
+      number = exact ? BigDecimal.valueOf(negative ? -mantissa : mantissa, (int) -exponent) : new BigDecimal(chars, offset, length);
+    }
+    return number;
+  }
+
+  /**
+   * Return the number as a {@code long}.
+   *
+   * @return the number.
+   * @throws ArithmeticException if the number has a nonzero fractional part or it is out of the range of a {@code long}.
+   */
+  long getLong() {
+    if (exact && exponent == 0) {
+      return negative ? -mantissa : mantissa;
+    }
+    return getBigDecimal().longValueExact();
+  }
+
+  /**
+   * Return the number as a {@link JSONNumber}.
+   *
+   * @return a new {@link JSONNumber} with the value of the number.
+   */
+  JSONNumber getJSONNumber() {
+    if (exact) {
+      return new JSONNumber(negative ? -mantissa : mantissa, (int) -exponent);
+    }
+    return new JSONNumber(getBigDecimal());
+  }
+
+  /**
+   * Return the nearest {@code double} to the number. A number with up to fifteen significant digits and a power of ten up to 22 is converted with a single multiplication or
+   * division, that is exact because both operands are exact doubles. The other numbers with the digits in a {@code long} are converted with the Eisel-Lemire algorithm, and
+   * only the numbers that the algorithm can't round with certainty, the subnormal numbers and the numbers with more digits are converted using {@code Double.parseDouble}.
+   *
+   * @return the nearest {@code double} to the number.
+   */
+  double getDouble() {
+    if (!exact) {
+      return number == null ? Double.parseDouble(new String(chars, offset, length)) : number.doubleValue();
+    }
+    double result;
+    if (mantissa == 0) {
+      result = 0;
+    } else if (digits <= MAX_EXACT_DOUBLE_DIGITS && exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+      result = mantissa * POWERS_OF_TEN[(int) exponent];
+    } else if (digits <= MAX_EXACT_DOUBLE_DIGITS && exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      result = mantissa / POWERS_OF_TEN[(int) -exponent];
+    } else {
+      result = eiselLemire(mantissa, exponent);
+      if (Double.isNaN(result)) {
+        return Double.parseDouble(new String(chars, offset, length));
+      }
+    }
+    return negative ? -result : result;
+  }
+
+  /**
+   * Return the nearest {@code double} to {@code mantissa × 10^exponent} using the Eisel-Lemire algorithm. The mantissa is multiplied by a truncated 128 bits approximation of
+   * the power of ten, and the result is used only if the error of the approximation can't change the rounding.
+   *
+   * @param mantissa the significant digits of the number, greater than zero.
+   * @param exponent the power of ten.
+   * @return the nearest positive {@code double} or {@code NaN} if the algorithm can't decide the rounding or the result is not a normal number.
+   */
+  static double eiselLemire(long mantissa, long exponent) {
+    if (exponent < PowersOfFive.MIN_EXPONENT || exponent > PowersOfFive.MAX_EXPONENT) {
+      return Double.NaN;
+    }
+    int q = (int) exponent;
+    int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+    long w = mantissa << leadingZeros;
+    int index = 2 * (q - PowersOfFive.MIN_EXPONENT);
+    long high = unsignedMultiplyHigh(w, PowersOfFive.TABLE[index]);
+    long low = w * PowersOfFive.TABLE[index];
+    if ((high & 0x1FF) == 0x1FF) {
+      // The bits used to round can be wrong, add the product with the next 64 bits of the power.
+      long secondHigh = unsignedMultiplyHigh(w, PowersOfFive.TABLE[index + 1]);
+      low += secondHigh;
+      if (Long.compareUnsigned(secondHigh, low) > 0) {
+        high++;
+      }
+      if ((high & 0x1FF) == 0x1FF && low == -1) {
+        return Double.NaN;
+      }
+    }
+    int upperBit = (int) (high >>> 63);
+    int shift = upperBit + 9;
+    long bits = high >>> shift;
+    // floor(q × log2(10)) + 63 + the exponent bias of a double.
+    int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - leadingZeros + 1023;
+    if (power2 <= 0) {
+      return Double.NaN;
+    }
+    if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (bits & 3) == 1 && (bits << shift) == high) {
+      // The number is exactly between two doubles, round to the even double.
+      bits &= ~1L;
+    }
+    bits += bits & 1;
+    bits >>>= 1;
+    if (bits >= (2L << 52)) {
+      bits = 1L << 52;
+      power2++;
+    }
+    bits &= ~(1L << 52);
+    if (power2 >= 0x7FF) {
+      return Double.NaN;
+    }
+    return Double.longBitsToDouble(bits | ((long) power2 << 52));
+  }
+
+  private static long unsignedMultiplyHigh(long x, long y) {
+    return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+  }
+
+  /**
+   * The powers of five from 5^-342 to 5^308 with the most significant bit set, truncated to 128 bits and stored like two {@code long} values. The powers of ten have the same
+   * significant bits that the powers of five, only the power of two is different. The table is created the first time a number needs it.
+   */
+  private static final class PowersOfFive {
+
+    static final int MIN_EXPONENT = -342;
+    static final int MAX_EXPONENT = 308;
+    static final long[] TABLE = createTable();
+
+    private static long[] createTable() {
+      long[] table = new long[2 * (MAX_EXPONENT - MIN_EXPONENT + 1)];
+      BigInteger twoTo128 = BigInteger.ONE.shiftLeft(128);
+      int index = 0;
+      for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+        BigInteger value;
+        if (q < 0) {
+          // The reciprocal is rounded up, so the product is never lower than the exact value.
+          BigInteger power = BigInteger.valueOf(5).pow(-q);
+          int z = power.bitLength();
+          int b = q >= -27 ? z + 127 : 2 * z + 128;
+          value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+          while (value.compareTo(twoTo128) >= 0) {
+            value = value.shiftRight(1);
+          }
+        } else {
+          value = BigInteger.valueOf(5).pow(q);
+          int bitLength = value.bitLength();
+          value = bitLength < 128 ? value.shiftLeft(128 - bitLength) : value.shiftRight(bitLength - 128);
+        }
+        table[index++] = value.shiftRight(64).longValue();
+        table[index++] = value.longValue();
+      }
+      return table;
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * Parse the elements of a root array in parallel.
+ * <p>
+ * The characters between the brackets are split in chunks at commas that look like the separator of two elements, but a comma found in the middle of the document can be inside
+ * a string or inside an element. Every chunk is parsed as a list of elements by a different task. The first chunk starts at the start of the array, so if it is parsed as complete
+ * elements that end just before the next comma, that comma is a real separator and the next chunk starts at the start of an element. The chunks are checked in order this way and
+ * when a chunk fails the rest of the array is parsed by a single lexer from the start of that chunk. The lines of the chunks are counted before they are parsed, so the positions
+ * are the same positions reported by a sequential parse.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class ParallelArrayParser {
+
+  static final int MIN_CHUNK_SIZE = 1 << 16;
+
+  private final char[] chars;
+  private int[] starts;
+  private int[] ends;
+  private int[] lines;
+  private int[] lineStarts;
+
+  private ParallelArrayParser(char[] chars) {
+    this.chars = chars;
+  }
+
+  static JSONValue parse(char[] chars) throws JSONParseException {
+    int chunks = Math.min(chars.length / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 4);
+    return parse(chars, chunks);
+  }
+
+  static JSONValue parse(char[] chars, int chunks) throws JSONParseException {
+    int open = skipWhitespace(chars, 0);
+    int close = chars.length - 1;
+    while (close > open && Lexer.isWhitespace(chars[close])) {
+      close--;
+    }
+    if (chunks < 2 || open >= close || chars[open] != '[' || chars[close] != ']') {
+      return JSON.parse(new CharArrayLexer(chars));
+    }
+    return new ParallelArrayParser(chars).parse(open, close, chunks);
+  }
+
+  private static int skipWhitespace(char[] chars, int i) {
+    while (i < chars.length && Lexer.isWhitespace(chars[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  private JSONValue parse(int open, int close, int chunks) throws JSONParseException {
+    CharArrayLexer lexer = new CharArrayLexer(chars);
+    lexer.next();
+    JSONArray jsonArray = new JSONArray(lexer.getPosition());
+
+    split(open + 1, close, chunks);
+    countLines(open + 1);
+
+    int count = starts.length;
+    List<List<JSONValue>> results = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      results.add(null);
+    }
+    IntStream.range(0, count).parallel().forEach(i -> results.set(i, parseChunk(i, ends[i], i == count - 1)));
+
+    for (int i = 0; i < count; i++) {
+      List<JSONValue> values = results.get(i);
+      if (values == null) {
+        // The split was wrong or the document is not valid, parse the rest of the array with a single lexer.
+        List<JSONValue> rest = parseChunk(i, close, true);
+        if (rest == null) {
+          return JSON.parse(new CharArrayLexer(chars));
+        }
+        rest.forEach(jsonArray::add);
+        break;
+      }
+      values.forEach(jsonArray::add);
+    }
+    return jsonArray;
+  }
+
+  private void split(int start, int end, int chunks) {
+    int element = skipWhitespace(chars, start);
+    int signature = signatureLength(element, end);
+    int size = (end - start) / chunks;
+    List<Integer> separators = new ArrayList<>(chunks);
+    int from = start;
+    for (int i = 1; i < chunks; i++) {
+      int to = Math.min(start + (i + 1) * size, end);
+      int separatorFrom = Math.max(from, start + i * size);
+      int separator = findSeparator(separatorFrom, to, element, signature);
+      if (separator < 0 && signature > 1) {
+        separator = findSeparator(separatorFrom, to, element, 1);
+      }
+      if (separator >= 0) {
+        separators.add(separator);
+        from = separator + 1;
+      }
+    }
+    int count = separators.size() + 1;
+    starts = new int[count];
+    ends = new int[count];
+    starts[0] = start;
+    for (int i = 0; i < separators.size(); i++) {
+      ends[i] = separators.get(i);
+      starts[i + 1] = separators.get(i) + 1;
+    }
+    ends[count - 1] = end;
+  }
+
+  /**
+   * Return the length of the text at the start of the first element used to recognize the start of the other elements. The elements of a large array are usually objects with
+   * the same first property, so for an object the signature is the text until the colon of the first property. For an array the signature is the bracket and the values don't
+   * have a signature.
+   */
+  private int signatureLength(int element, int end) {
+    if (element >= end) {
+      return 0;
+    }
+    if (chars[element] == '{') {
+      for (int i = element + 1; i < end && i - element < 64; i++) {
+        if (chars[i] == ':') {
+          return i - element + 1;
+        }
+      }
+      return 1;
+    }
+    return chars[element] == '[' ? 1 : 0;
+  }
+
+  private int findSeparator(int from, int to, int element, int signature) {
+    for (int i = from; i < to; i++) {
+      if (chars[i] != ',') {
+        continue;
+      }
+      int next = skipWhitespace(chars, i + 1);
+      if (next + signature > chars.length) {
+        return -1;
+      }
+      int j = 0;
+      while (j < signature && chars[next + j] == chars[element + j]) {
+        j++;
+      }
+      if (j == signature) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void countLines(int start) {
+    int count = starts.length;
+    int[] newLines = new int[count];
+    int[] lastNewLines = new int[count];
+    IntStream.range(0, count).parallel().forEach(i -> {
+      int n = 0;
+      int lastNewLine = -1;
+      for (int j = starts[i]; j < ends[i]; j++) {
+        if (isNewLine(j)) {
+          n++;
+          lastNewLine = j;
+        }
+      }
+      newLines[i] = n;
+      lastNewLines[i] = lastNewLine;
+    });
+
+    lines = new int[count];
+    lineStarts = new int[count];
+    int line = 1;
+    int lineStart = 0;
+    for (int j = 0; j < start; j++) {
+      if (isNewLine(j)) {
+        line++;
+        lineStart = j + 1;
+      }
+    }
+    for (int i = 0; i < count; i++) {
+      lines[i] = line;
+      lineStarts[i] = lineStart;
+      line += newLines[i];
+      if (lastNewLines[i] >= 0) {
+        lineStart = lastNewLines[i] + 1;
+      }
+    }
+  }
+
+  // A new line escaped by a backslash is not counted, like the lexers do.
+  private boolean isNewLine(int j) {
+    if (chars[j] != '\n') {
+      return false;
+    }
+    int k = j - 1;
+    while (k >= 0 && chars[k] == '\\') {
+      k--;
+    }
+    return (j - k) % 2 == 1;
+  }
+
+  /**
+   * Parse the elements of a chunk. The chunk is valid if it has complete elements separated by commas. Only the last chunk can be empty or end with a comma, because the comma
+   * at the end of a chunk in the middle is followed by the separator of the next chunk.
+   *
+   * @param i the index of the chunk.
+   * @param end the index after the last character of the chunk.
+   * @param last {@code true} if the chunk ends at the right bracket of the array.
+   * @return the elements of the chunk or {@code null} if the chunk is not valid.
+   */
+  private List<JSONValue> parseChunk(int i, int end, boolean last) {
+    CharArrayLexer lexer = new CharArrayLexer(chars, starts[i], end - starts[i], lines[i], lineStarts[i]);
+    JSONReader reader = new JSONReader(lexer, true);
+    List<JSONValue> values = new ArrayList<>();
+    try {
+      while (reader.nextToken() != TokenType.END) {
+        values.add(reader.readValue());
+        TokenType separator = lexer.next();
+        if (separator == TokenType.END) {
+          return values;
+        }
+        if (separator != TokenType.COMMA) {
+          return null;
+        }
+      }
+    } catch (JSONParseException | RuntimeException e) {
+      // The chunk is parsed again in order, so the first error of the source is the one reported.
+      return null;
+    }
+    return last ? values : null;
+  }
+}
@@ -0,0 +1,238 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONNull;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * A set of paths used to parse only a part of a JSON document.
+ * <p>
+ * The paths use the syntax of {@link net.cabezudo.json.values.JSONObject#digValue(String)}: the properties are separated by dots and the elements of an array are specified
+ * using the index in brackets. The index {@code [*]} selects all the elements of an array. The parser creates only the values in the paths, the other values are skipped without
+ * create them, so the structure returned is sparse. The values in an array that are before a selected element are replaced by {@code null} in order to keep the index of the
+ * elements selected, so the same paths can be used to dig into the structure.
+ *
+ * <pre>
+ * Projection projection = new Projection("customer.id", "items.[*].sku", "total");
+ * JSONObject order = JSON.parse(string, projection).toJSONObject();
+ * String sku = order.digString("items.[0].sku");
+ * </pre>
+ *
+ * A projection can be used to parse many documents and by many threads at the same time.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public final class Projection {
+
+  private static final String ALL_ELEMENTS = "[*]";
+
+  private final Node root;
+
+  /**
+   * Create a projection with the paths passed.
+   *
+   * @param paths the paths of the values to parse.
+   */
+  public Projection(String... paths) {
+    this(Arrays.asList(paths));
+  }
+
+  /**
+   * Create a projection with the paths in a collection.
+   *
+   * @param paths the paths of the values to parse.
+   */
+  public Projection(Collection<String> paths) {
+    if (paths == null || paths.isEmpty()) {
+      throw new IllegalArgumentException("The projection needs at least one path.");
+    }
+    List<List<String>> segments = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      segments.add(split(path));
+    }
+    root = new Node(segments);
+  }
+
+  private static List<String> split(String path) {
+    if (path == null || path.isEmpty()) {
+      throw new IllegalArgumentException("Invalid parameter '" + path + "'.");
+    }
+    List<String> segments = new ArrayList<>();
+    int start = 0;
+    for (;;) {
+      int point = path.indexOf('.', start);
+      String segment = point == -1 ? path.substring(start) : path.substring(start, point);
+      if (segment.isEmpty()) {
+        throw new IllegalArgumentException("Invalid parameter '" + path + "'.");
+      }
+      if (segment.charAt(0) == '[' && !segment.equals(ALL_ELEMENTS)) {
+        index(segment, path);
+      }
+      segments.add(segment);
+      if (point == -1) {
+        return segments;
+      }
+      start = point + 1;
+    }
+  }
+
+  private static int index(String segment, String path) {
+    if (segment.length() < 3 || segment.charAt(segment.length() - 1) != ']') {
+      throw new IllegalArgumentException("Invalid parameter '" + path + "'.");
+    }
+    try {
+      int index = Integer.parseInt(segment.substring(1, segment.length() - 1));
+      if (index < 0) {
+        throw new IllegalArgumentException("Invalid parameter '" + path + "'.");
+      }
+      return index;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid parameter '" + path + "'.", e);
+    }
+  }
+
+  /**
+   * Read the current value of a reader using the projection.
+   *
+   * @param reader the reader positioned in the first token of the value.
+   * @return the value or {@code null} if the value is not an object or an array and the projection selects values inside it.
+   * @throws JSONParseException if the source is not a valid JSON document.
+   */
+  JSONValue read(JSONReader reader) throws JSONParseException {
+    return read(reader, root);
+  }
+
+  private JSONValue read(JSONReader reader, Node node) throws JSONParseException {
+    if (node.all) {
+      return reader.readValue();
+    }
+    switch (reader.getToken()) {
+      case LEFT_BRACE:
+        return readObject(reader, node);
+      case LEFT_BRACKET:
+        return readArray(reader, node);
+      default:
+        return null;
+    }
+  }
+
+  private JSONObject readObject(JSONReader reader, Node node) throws JSONParseException {
+    JSONObject jsonObject = new JSONObject(reader.getPosition());
+    while (reader.nextToken() != TokenType.RIGHT_BRACE) {
+      String key = reader.getString();
+      reader.nextToken();
+      Position pairPosition = reader.getColonPosition();
+      Node child = node.properties.get(key);
+      if (child == null) {
+        reader.skipValue();
+        continue;
+      }
+      JSONValue jsonValue = read(reader, child);
+      if (jsonValue != null) {
+        jsonObject.add(new JSONPair(key, jsonValue, pairPosition));
+      }
+    }
+    return jsonObject;
+  }
+
+  private JSONArray readArray(JSONReader reader, Node node) throws JSONParseException {
+    JSONArray jsonArray = new JSONArray(reader.getPosition());
+    int index = 0;
+    while (reader.nextToken() != TokenType.RIGHT_BRACKET) {
+      Node child = node.elements.getOrDefault(index, node.anyElement);
+      if (child == null) {
+        reader.skipValue();
+        if (index < node.lastIndex) {
+          jsonArray.add(new JSONNull());
+        }
+      } else {
+        JSONValue jsonValue = read(reader, child);
+        jsonArray.add(jsonValue == null ? new JSONNull() : jsonValue);
+      }
+      index++;
+    }
+    return jsonArray;
+  }
+
+  /**
+   * The values selected by the paths at one level of the document.
+   */
+  private static final class Node {
+
+    private boolean all;
+    private Map<String, Node> properties = Collections.emptyMap();
+    private Map<Integer, Node> elements = Collections.emptyMap();
+    private Node anyElement;
+    private int lastIndex = -1;
+
+    private Node(List<List<String>> paths) {
+      Map<String, List<List<String>>> propertyPaths = new LinkedHashMap<>();
+      Map<Integer, List<List<String>>> elementPaths = new LinkedHashMap<>();
+      List<List<String>> anyElementPaths = new ArrayList<>();
+      for (List<String> path : paths) {
+        if (path.isEmpty()) {
+          all = true;
+          return;
+        }
+        String segment = path.get(0);
+        List<String> rest = path.subList(1, path.size());
+        if (segment.equals(ALL_ELEMENTS)) {
+          anyElementPaths.add(rest);
+        } else if (segment.charAt(0) == '[') {
+          elementPaths.computeIfAbsent(index(segment, segment), key -> new ArrayList<>()).add(rest);
+        } else {
+          propertyPaths.computeIfAbsent(segment, key -> new ArrayList<>()).add(rest);
+        }
+      }
+      if (!propertyPaths.isEmpty()) {
+        properties = new HashMap<>();
+        propertyPaths.forEach((name, list) -> properties.put(name, new Node(list)));
+      }
+      if (!anyElementPaths.isEmpty()) {
+        anyElement = new Node(anyElementPaths);
+      }
+      if (!elementPaths.isEmpty()) {
+        elements = new HashMap<>();
+        elementPaths.forEach((index, list) -> {
+          list.addAll(anyElementPaths);
+          elements.put(index, new Node(list));
+          lastIndex = Math.max(lastIndex, index);
+        });
+      }
+    }
+  }
+}
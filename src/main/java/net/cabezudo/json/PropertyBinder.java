@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.ObjectException;
+
+/**
+ * The information needed to set the value of a JSON property into a field annotated with {@link net.cabezudo.json.annotations.JSONProperty}. The primitive fields are set
+ * without boxing the value.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class PropertyBinder {
+
+  @FunctionalInterface
+  private interface Setter {
+
+    void set(Object object, JSONReader reader) throws JSONParseException, IllegalAccessException;
+  }
+
+  private final String name;
+  private final Field field;
+  private final Setter setter;
+
+  PropertyBinder(Field field, JSONProperty property) {
+    String propertyName = property.name();
+    if (JSONProperty.DEFAULT_NAME.equals(propertyName)) {
+      propertyName = field.getName();
+    }
+    this.name = propertyName;
+    this.field = field;
+    try {
+      field.setAccessible(true);
+    } catch (RuntimeException e) {
+      throw new ObjectException("I can't access the field " + field.getName() + " in the class " + field.getDeclaringClass().getName() + ".", e);
+    }
+    this.setter = createSetter(field, property.field());
+  }
+
+  private static Setter createSetter(Field field, String referenceFieldName) {
+    Class<?> type = field.getType();
+    if (type == int.class) {
+      return (object, reader) -> field.setInt(object, Binders.toInt(reader, type));
+    }
+    if (type == long.class) {
+      return (object, reader) -> field.setLong(object, Binders.toLong(reader, type));
+    }
+    if (type == double.class) {
+      return (object, reader) -> field.setDouble(object, Binders.toDouble(reader, type));
+    }
+    if (type == boolean.class) {
+      return (object, reader) -> field.setBoolean(object, Binders.toBoolean(reader, type));
+    }
+    if (type == float.class) {
+      return (object, reader) -> field.setFloat(object, Binders.toFloat(reader, type));
+    }
+    if (type == short.class) {
+      return (object, reader) -> field.setShort(object, Binders.toShort(reader, type));
+    }
+    if (type == byte.class) {
+      return (object, reader) -> field.setByte(object, Binders.toByte(reader, type));
+    }
+    if (type == char.class) {
+      return (object, reader) -> field.setChar(object, Binders.toChar(reader, type));
+    }
+    Type genericType = field.getGenericType();
+    ValueBinder binder = Binders.of(genericType, referenceFieldName);
+    return (object, reader) -> field.set(object, binder.read(reader));
+  }
+
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Read the current value of the reader and set it in the field of the object passed.
+   *
+   * @param object the object that has the field.
+   * @param reader the reader positioned on the first token of the value.
+   * @throws JSONParseException if the source is not a valid JSON document.
+   */
+  void read(Object object, JSONReader reader) throws JSONParseException {
+    try {
+      setter.set(object, reader);
+    } catch (IllegalAccessException e) {
+      throw new ObjectException("I can't set the field " + field.getName() + " in the object " + object.getClass().getName() + ".", e);
+    }
+  }
+}
@@ -0,0 +1,304 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.NotPropertiesException;
+import net.cabezudo.json.exceptions.ObjectException;
+import net.cabezudo.json.values.JSONBoolean;
+import net.cabezudo.json.values.JSONNull;
+import net.cabezudo.json.values.JSONNumber;
+import net.cabezudo.json.values.JSONValue;
+
+/**
+ * The information needed to convert a field annotated with {@link net.cabezudo.json.annotations.JSONProperty} into a JSON property. The descriptor is created once for each
+ * field and reused for every object converted.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class PropertyDescriptor {
+
+  private final String name;
+  private final String getterName;
+  private final ToIntFunction<Object> intGetter;
+  private final ToLongFunction<Object> longGetter;
+  private final ToDoubleFunction<Object> doubleGetter;
+  private final Predicate<Object> booleanGetter;
+  private final Function<Object, Object> getter;
+  private final boolean dontShowIfNull;
+  private final boolean dontShowIfZero;
+  private final boolean dontShowIfEmpty;
+  private final String referenceFieldName;
+
+  PropertyDescriptor(Class<?> objectClass, Field field, JSONProperty property) {
+    String propertyName = property.name();
+    if (JSONProperty.DEFAULT_NAME.equals(propertyName)) {
+      propertyName = field.getName();
+    }
+    this.name = propertyName;
+    this.dontShowIfNull = property.dontShowIfNull();
+    this.dontShowIfZero = property.dontShowIfZero();
+    this.dontShowIfEmpty = property.dontShowIfEmpty();
+    this.referenceFieldName = property.field();
+
+    this.getterName = getGetterName(field, propertyName);
+    Method method;
+    try {
+      method = objectClass.getMethod(getterName);
+    } catch (NoSuchMethodException e) {
+      throw new ObjectException("I can't find the getter '" + getterName + "' in the object " + objectClass.getName(), e);
+    }
+
+    // The primitive values use a specialized function to avoid the boxing. If the function can't be generated the value is read as an object.
+    Class<?> type = method.getReturnType();
+    this.intGetter = type == int.class || type == short.class || type == byte.class ? Accessors.toIntFunction(method) : null;
+    this.longGetter = type == long.class ? Accessors.toLongFunction(method) : null;
+    this.doubleGetter = type == double.class || type == float.class ? Accessors.toDoubleFunction(method) : null;
+    this.booleanGetter = type == boolean.class ? Accessors.predicate(method) : null;
+    if (intGetter == null && longGetter == null && doubleGetter == null && booleanGetter == null) {
+      this.getter = Accessors.function(method);
+    } else {
+      this.getter = null;
+    }
+  }
+
+  private static String getGetterName(Field field, String fieldName) {
+    Class<?> fieldType = field.getType();
+    String getterPrefix;
+
+    if (fieldType == boolean.class
+            || fieldType == Boolean.class) {
+      getterPrefix = "is";
+    } else {
+      getterPrefix = "get";
+    }
+    return getterPrefix + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+  }
+
+  String getName() {
+    return name;
+  }
+
+  private ObjectException getterException(Object object, Exception e) {
+    return new ObjectException("The method  " + getterName + " for the object " + object.getClass().getName() + " throw an error.", e);
+  }
+
+  private JSONValue getPrimitiveValue(Object object) {
+    try {
+      if (intGetter != null) {
+        return new JSONNumber(intGetter.applyAsInt(object));
+      }
+      if (longGetter != null) {
+        return new JSONNumber(longGetter.applyAsLong(object));
+      }
+      if (doubleGetter != null) {
+        return new JSONNumber(doubleGetter.applyAsDouble(object));
+      }
+      return JSONBoolean.get(booleanGetter.test(object));
+    } catch (ObjectException e) {
+      throw e;
+    } catch (Exception e) {
+      throw getterException(object, e);
+    }
+  }
+
+  private Object getFieldValue(Object object) {
+    try {
+      return getter.apply(object);
+    } catch (ObjectException e) {
+      throw e;
+    } catch (Exception e) {
+      throw getterException(object, e);
+    }
+  }
+
+  /**
+   * Return the value of the property in the object passed converted to a JSON value.
+   *
+   * @param object the object that has the property.
+   * @return the JSON value of the property or {@code null} if the property must not be shown.
+   */
+  JSONValue getJSONValue(Object object) {
+    JSONValue jsonValue;
+    Object fieldValue = null;
+    if (getter == null) {
+      jsonValue = getPrimitiveValue(object);
+    } else {
+      fieldValue = getFieldValue(object);
+      jsonValue = JSONFactory.get(fieldValue);
+    }
+
+    if (jsonValue == null) {
+      try {
+        jsonValue = JSON.toJSONTree(fieldValue);
+      } catch (NotPropertiesException e) {
+        throw new NotPropertiesException("The field named '" + name + "' contain an object " + fieldValue.getClass().getName() + " doesn't have properties.");
+      }
+    } else if (isHidden(jsonValue)) {
+      return null;
+    }
+    jsonValue.setReferenceFieldName(referenceFieldName);
+    return jsonValue;
+  }
+
+  private boolean isHidden(JSONValue jsonValue) {
+    if (dontShowIfNull && jsonValue instanceof JSONNull) {
+      return true;
+    }
+    if (jsonValue.isNumber() && dontShowIfZero && jsonValue.toInteger() == 0) {
+      return true;
+    }
+    return dontShowIfEmpty && (jsonValue.isArray() || jsonValue.isObject()) && jsonValue.isEmpty();
+  }
+
+  private JSONWriter name(JSONWriter writer, boolean first) throws IOException {
+    if (first) {
+      writer.beginObject();
+    }
+    return writer.name(name);
+  }
+
+  /**
+   * Write the property of the object passed directly to a {@link JSONWriter}, without create the JSON structure. The result is the same as the pair created with
+   * {@link #getJSONValue(Object)}.
+   *
+   * @param object the object that has the property.
+   * @param writer the writer used to write the property.
+   * @param first {@code true} if no property of the object was written yet, in that case the method writes the start of the object before the property.
+   * @return {@code true} if the property was written, {@code false} if the property must not be shown.
+   * @throws IOException if an I/O error occurs.
+   */
+  boolean write(Object object, JSONWriter writer, boolean first) throws IOException {
+    if (getter == null) {
+      return writePrimitive(object, writer, first);
+    }
+    Object fieldValue = getFieldValue(object);
+    if (fieldValue == null) {
+      if (dontShowIfNull) {
+        return false;
+      }
+      name(writer, first).nullValue();
+      return true;
+    }
+    if (fieldValue instanceof String || fieldValue instanceof Character) {
+      name(writer, first).value(fieldValue.toString());
+      return true;
+    }
+    if (fieldValue instanceof Integer || fieldValue instanceof Long || fieldValue instanceof Short || fieldValue instanceof Byte) {
+      long value = ((Number) fieldValue).longValue();
+      if (dontShowIfZero && value == 0) {
+        return false;
+      }
+      name(writer, first).value(value);
+      return true;
+    }
+    if (fieldValue instanceof Boolean) {
+      name(writer, first).value(((Boolean) fieldValue).booleanValue());
+      return true;
+    }
+    if (fieldValue instanceof byte[]) {
+      byte[] array = (byte[]) fieldValue;
+      if (dontShowIfEmpty && array.length == 0) {
+        return false;
+      }
+      name(writer, first).beginArray();
+      for (byte b : array) {
+        writer.value(b);
+      }
+      writer.endArray();
+      return true;
+    }
+    if (fieldValue instanceof int[]) {
+      int[] array = (int[]) fieldValue;
+      if (dontShowIfEmpty && array.length == 0) {
+        return false;
+      }
+      name(writer, first).beginArray();
+      for (int i : array) {
+        writer.value(i);
+      }
+      writer.endArray();
+      return true;
+    }
+
+    JSONValue jsonValue = JSONFactory.get(fieldValue);
+    if (jsonValue == null) {
+      name(writer, first);
+      try {
+        JSON.write(fieldValue, writer);
+      } catch (NotPropertiesException e) {
+        throw new NotPropertiesException("The field named '" + name + "' contain an object " + fieldValue.getClass().getName() + " doesn't have properties.");
+      }
+      return true;
+    }
+    if (isHidden(jsonValue)) {
+      return false;
+    }
+    name(writer, first);
+    jsonValue.writeTo(writer);
+    return true;
+  }
+
+  private boolean writePrimitive(Object object, JSONWriter writer, boolean first) throws IOException {
+    if (booleanGetter != null) {
+      boolean value;
+      try {
+        value = booleanGetter.test(object);
+      } catch (Exception e) {
+        throw getterException(object, e);
+      }
+      name(writer, first).value(value);
+      return true;
+    }
+    if (doubleGetter != null) {
+      JSONValue jsonValue = getPrimitiveValue(object);
+      if (isHidden(jsonValue)) {
+        return false;
+      }
+      name(writer, first);
+      jsonValue.writeTo(writer);
+      return true;
+    }
+    long value;
+    try {
+      value = intGetter != null ? intGetter.applyAsInt(object) : longGetter.applyAsLong(object);
+    } catch (Exception e) {
+      throw getterException(object, e);
+    }
+    if (dontShowIfZero && value == 0) {
+      return false;
+    }
+    name(writer, first).value(value);
+    return true;
+  }
+}
@@ -0,0 +1,254 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * A {@link Lexer} that reads the tokens from a {@code Reader} using a fixed size buffer. Only the current token is copied, so the memory used doesn't depend on the size of the
+ * source.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+class ReaderLexer extends Lexer {
+
+  static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final Reader reader;
+  private final char[] buffer;
+  private int index;
+  private int limit;
+  private long bufferOffset;
+  private boolean eof;
+
+  private int line = 1;
+  private long lineStart;
+
+  private char[] text = new char[64];
+  private int textLength;
+  private boolean escaped;
+
+  ReaderLexer(Reader reader) {
+    this(reader, DEFAULT_BUFFER_SIZE);
+  }
+
+  ReaderLexer(Reader reader, int bufferSize) {
+    this.reader = reader;
+    this.buffer = new char[bufferSize];
+  }
+
+  private boolean fill() {
+    if (eof) {
+      return false;
+    }
+    bufferOffset += limit;
+    index = 0;
+    limit = 0;
+    try {
+      int n;
+      do {
+        n = reader.read(buffer, 0, buffer.length);
+      } while (n == 0);
+      if (n < 0) {
+        eof = true;
+        return false;
+      }
+      limit = n;
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int getRow() {
+    return (int) (bufferOffset + index - lineStart + 1);
+  }
+
+  private void newLine() {
+    line++;
+    lineStart = bufferOffset + index + 1;
+  }
+
+  private void append(int start) {
+    int length = index - start;
+    if (textLength + length > text.length) {
+      text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+    }
+    System.arraycopy(buffer, start, text, textLength, length);
+    textLength += length;
+  }
+
+  @Override
+  TokenType next() throws JSONParseException {
+    for (;;) {
+      if (index >= limit && !fill()) {
+        return setToken(TokenType.END, line, getRow());
+      }
+      char c = buffer[index];
+      if (!isWhitespace(c)) {
+        break;
+      }
+      if (c == '\n') {
+        newLine();
+      }
+      index++;
+    }
+    int row = getRow();
+    char c = buffer[index];
+    TokenType type;
+    switch (c) {
+      case '{':
+        type = TokenType.LEFT_BRACE;
+        break;
+      case '}':
+        type = TokenType.RIGHT_BRACE;
+        break;
+      case '[':
+        type = TokenType.LEFT_BRACKET;
+        break;
+      case ']':
+        type = TokenType.RIGHT_BRACKET;
+        break;
+      case ':':
+        type = TokenType.COLON;
+        break;
+      case ',':
+        type = TokenType.COMMA;
+        break;
+      case '"':
+        int tokenLine = line;
+        index++;
+        readString();
+        return setToken(TokenType.STRING, tokenLine, row);
+      default:
+        readWord();
+        return setToken(classifyWord(text, 0, textLength, line, row), line, row);
+    }
+    text[0] = c;
+    textLength = 1;
+    index++;
+    return setToken(type, line, row);
+  }
+
+  private void readString() throws EOSException {
+    textLength = 0;
+    escaped = false;
+    int start = index;
+    for (;;) {
+      if (index >= limit) {
+        append(start);
+        if (!fill()) {
+          throw new EOSException(new Position(line, getRow()));
+        }
+        start = 0;
+      }
+      char c = buffer[index];
+      if (c == '"') {
+        append(start);
+        index++;
+        return;
+      }
+      if (c == '\\') {
+        escaped = true;
+        index++;
+        if (index >= limit) {
+          append(start);
+          if (!fill()) {
+            throw new EOSException(new Position(line, getRow()));
+          }
+          start = 0;
+        }
+      } else if (c == '\n') {
+        newLine();
+      }
+      index++;
+    }
+  }
+
+  private void readWord() {
+    textLength = 0;
+    int start = index;
+    for (;;) {
+      if (index >= limit) {
+        append(start);
+        if (!fill()) {
+          return;
+        }
+        start = 0;
+      }
+      if (isDelimiter(buffer[index])) {
+        append(start);
+        return;
+      }
+      index++;
+    }
+  }
+
+  @Override
+  String getString() {
+    return new String(text, 0, textLength);
+  }
+
+  @Override
+  String getDecodedString() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return getString();
+  }
+
+  @Override
+  String getKey() {
+    if (escaped) {
+      return super.getDecodedString();
+    }
+    return symbols().get(text, 0, textLength);
+  }
+
+  @Override
+  String getValue() {
+    switch (getType()) {
+      case STRING:
+        return '"' + getString() + '"';
+      case NUMBER:
+        return getNumber().toString();
+      case END:
+      case NONE:
+        return "";
+      default:
+        return getString();
+    }
+  }
+
+  @Override
+  void close() throws IOException {
+    reader.close();
+  }
+}
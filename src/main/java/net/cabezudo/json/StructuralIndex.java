@@ -0,0 +1,280 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Find the structural characters of a UTF-8 source eight bytes at a time. This is the first stage of the {@link IndexedLexer}.
+ * <p>
+ * The source is read as {@code long} values and every word is compared with the characters searched using arithmetic on the whole word, so the bytes are not compared one at a
+ * time. The result of a comparison is a word with the high bit set in the bytes found. The quotes that are not escaped are used to find the bytes inside the strings, and the
+ * results are combined to keep only the bytes that the second stage must visit:
+ * <ul>
+ * <li>the characters <code>{ } [ ] : ,</code> outside the strings;</li>
+ * <li>the quotes that are not escaped;</li>
+ * <li>the first byte of every word, like a number or a literal;</li>
+ * <li>the backslashes inside the strings, so the strings with escape sequences are known;</li>
+ * <li>the new lines, used to count the lines.</li>
+ * </ul>
+ * The index is created in parts of {@value #CHUNK_SIZE} bytes, so the memory used doesn't depend on the size of the source. With every position the index keeps the number of
+ * bytes before the position that doesn't start a character, used to count the rows in characters.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class StructuralIndex {
+
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH = 0x8080808080808080L;
+  private static final long LOW = 0x7F7F7F7F7F7F7F7FL;
+  private static final long CASE = 0x2020202020202020L;
+  private static final long SPACES = 0x2020202020202020L;
+
+  private final ByteBuffer words;
+  private final int end;
+  private int position;
+
+  private final ByteBuffer tail = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+  // A word has at most eight positions, so there is room for the positions of a whole part.
+  private final int[] positions;
+  private int[] adjusts;
+  private int count;
+  // True if the current part of the index only has ASCII characters, then the adjusts are not saved.
+  private boolean ascii;
+
+  // The state at the end of the last word.
+  private long inString;
+  private long escaped;
+  private long inWord;
+  private int adjust;
+
+  /**
+   * Create an index for the bytes of an array.
+   *
+   * @param bytes the array with the source.
+   * @param start the index of the first byte of the source.
+   * @param end the index after the last byte of the source.
+   */
+  StructuralIndex(byte[] bytes, int start, int end) {
+    this.words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    this.position = start;
+    this.end = end;
+    this.positions = new int[Math.min(CHUNK_SIZE, end - start) + 8];
+  }
+
+  /**
+   * Create the index for the next part of the source. The positions of the previous part are replaced.
+   * <p>
+   * The loop is in a single method with the state in local variables, so the compiler can keep the state in registers. The uncommon cases, the escape sequences and the
+   * characters that are not ASCII, are in other methods.
+   *
+   * @return {@code false} if there are no more bytes in the source.
+   */
+  boolean next() {
+    count = 0;
+    ascii = true;
+    if (position >= end) {
+      return false;
+    }
+    int chunkEnd = position + Math.min(CHUNK_SIZE, end - position);
+    int lastWord = chunkEnd - 8;
+    ByteBuffer source = words;
+    int[] p = positions;
+    long stringState = inString;
+    long escapeState = escaped;
+    long wordState = inWord;
+    for (int offset = position; offset < chunkEnd; offset += 8) {
+      long word = offset <= lastWord ? source.getLong(offset) : tail(offset, chunkEnd);
+
+      long quotes = equal(word, '"');
+      long backslashes = equal(word, '\\');
+      long lower = word | CASE;
+      long structurals = equal(lower, '{') | equal(lower, '}') | equal(word, ':') | equal(word, ',');
+      long newLines = equal(word, '\n');
+      long whitespaces = less(word, ' ' + 1);
+      if ((less(word, ' ') & ~newLines) != 0) {
+        // There are tabs, carriage returns or control characters. The control characters are not whitespaces.
+        whitespaces = newLines | equal(word, ' ') | equal(word, '\t') | equal(word, '\r');
+      }
+
+      long escapedBytes = escapeState;
+      if ((backslashes | escapeState) != 0) {
+        escapedBytes = escapedBytes(backslashes, escapeState);
+        escapeState = (backslashes & ~escapedBytes) >>> 56;
+      }
+
+      long realQuotes = quotes & ~escapedBytes;
+      long strings = (prefixXor(realQuotes) ^ stringState) & HIGH;
+      stringState = (strings >> 63) & HIGH;
+
+      long wordBytes = ~(structurals | whitespaces | quotes | strings) & HIGH;
+      long wordStarts = wordBytes & ~(wordBytes << 8 | wordState);
+      wordState = wordBytes >>> 56;
+
+      long marks = (structurals & ~strings) | realQuotes | wordStarts | newLines | (backslashes & strings);
+      if (!ascii || (word & HIGH) != 0) {
+        addAdjusted(marks, offset, word);
+        continue;
+      }
+      // Four positions are always written without check the number of positions, the positions after the count are overwritten later. A word has less than four positions
+      // most of the times.
+      int c = count;
+      int n = Long.bitCount(marks);
+      count = c + n;
+      p[c] = offset + (Long.numberOfTrailingZeros(marks) >>> 3);
+      marks &= marks - 1;
+      p[c + 1] = offset + (Long.numberOfTrailingZeros(marks) >>> 3);
+      marks &= marks - 1;
+      p[c + 2] = offset + (Long.numberOfTrailingZeros(marks) >>> 3);
+      marks &= marks - 1;
+      p[c + 3] = offset + (Long.numberOfTrailingZeros(marks) >>> 3);
+      if (n > 4) {
+        marks &= marks - 1;
+        for (int i = c + 4; marks != 0; i++) {
+          p[i] = offset + (Long.numberOfTrailingZeros(marks) >>> 3);
+          marks &= marks - 1;
+        }
+      }
+    }
+    inString = stringState;
+    escaped = escapeState;
+    inWord = wordState;
+    position = chunkEnd;
+    return true;
+  }
+
+  /**
+   * Return the number of positions in the current part of the index.
+   */
+  int count() {
+    return count;
+  }
+
+  /**
+   * Return a position of the current part of the index.
+   */
+  int position(int i) {
+    return positions[i];
+  }
+
+  /**
+   * Return the number of bytes that doesn't start a character before a position of the current part of the index. A byte of a four bytes character is not counted because the
+   * character is counted as two characters.
+   */
+  int adjust(int i) {
+    return ascii ? adjust : adjusts[i];
+  }
+
+  /**
+   * Return the number of bytes that doesn't start a character in the bytes indexed.
+   */
+  int adjust() {
+    return adjust;
+  }
+
+  /**
+   * Read the last bytes of the source, less than eight, in a word filled with spaces.
+   */
+  private long tail(int offset, int chunkEnd) {
+    tail.putLong(0, SPACES);
+    for (int i = offset; i < chunkEnd; i++) {
+      tail.put(i - offset, words.get(i));
+    }
+    return tail.getLong(0);
+  }
+
+  /**
+   * Return a word with the high bit set in the bytes escaped by a backslash. A backslash escaped is not an escape character.
+   *
+   * @param backslashes the backslashes of the word.
+   * @param escapedFirst the high bit of the first byte is set if the first byte is escaped by the last backslash of the previous word.
+   */
+  private static long escapedBytes(long backslashes, long escapedFirst) {
+    long escapedBytes = escapedFirst;
+    long escapers = backslashes & ~escapedFirst;
+    while (escapers != 0) {
+      long bit = escapers & -escapers;
+      long next = bit << 8;
+      escapedBytes |= next;
+      escapers &= ~(bit | next);
+    }
+    return escapedBytes;
+  }
+
+  /**
+   * Add the positions of a word and the number of bytes that doesn't start a character before every position.
+   */
+  private void addAdjusted(long marks, int offset, long word) {
+    if (ascii) {
+      ascii = false;
+      if (adjusts == null) {
+        adjusts = new int[positions.length];
+      }
+      Arrays.fill(adjusts, 0, count, adjust);
+    }
+    long continuations = word & ~(word << 1) & HIGH;
+    long leads = word & (word << 1) & (word << 2) & (word << 3) & ~(word << 4) & HIGH;
+    while (marks != 0) {
+      int bit = Long.numberOfTrailingZeros(marks);
+      long before = (1L << bit) - 1;
+      positions[count] = offset + (bit >>> 3);
+      adjusts[count] = adjust + Long.bitCount(continuations & before) - Long.bitCount(leads & before);
+      count++;
+      marks &= marks - 1;
+    }
+    adjust += Long.bitCount(continuations) - Long.bitCount(leads);
+  }
+
+  /**
+   * Return a word with the high bit set in the bytes of the word equal to the character.
+   */
+  private static long equal(long word, char c) {
+    long bytes = word ^ (c * ONES);
+    return ~(((bytes & LOW) + LOW) | bytes) & HIGH;
+  }
+
+  /**
+   * Return a word with the high bit set in the bytes of the word that are less than the value. The value must be less than 128.
+   */
+  private static long less(long word, int value) {
+    return ~((word | HIGH) - value * ONES) & ~word & HIGH;
+  }
+
+  /**
+   * Return a word where the high bit of every byte is the exclusive or of the high bits of the byte and the bytes before it. The bytes between an opening quote and a closing
+   * quote are marked.
+   */
+  private static long prefixXor(long bits) {
+    bits ^= bits << 8;
+    bits ^= bits << 16;
+    bits ^= bits << 32;
+    return bits;
+  }
+}
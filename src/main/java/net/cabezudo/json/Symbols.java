@@ -0,0 +1,199 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A table with the names of the properties read by a parser. The documents use the same names many times, so the table returns the same {@code String} for the same name and
+ * the name is created only the first time it is found. The characters are compared in the source, so a name found in the table doesn't create a new object.
+ * <p>
+ * The table of a parser keeps up to {@value #MAX_SIZE} names. When the table is full it is cleared, so the names of the next documents are kept again. A name is searched in at
+ * most {@value #MAX_PROBES} places of the table; the names that need more places, like the names with the same hash code of a malicious document, are not kept. Behind the tables
+ * of the parsers there is a small table shared by all the parsers, so the documents parsed one after another use the same names too. The shared table has a fixed size and a name
+ * can replace another name in the same place, so it never grows. Every place of the shared table has a complete {@code String} or {@code null}, so it can be used by many threads
+ * without locks.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class Symbols {
+
+  static final int MAX_SIZE = 4096;
+  static final int MAX_LENGTH = 64;
+  static final int MAX_PROBES = 8;
+
+  private static final int SHARED_SIZE = 4096;
+  private static final String[] SHARED = new String[SHARED_SIZE];
+
+  private static final int INITIAL_SIZE = 64;
+
+  private String[] table = new String[INITIAL_SIZE];
+  private int size;
+
+  /**
+   * Remove all the names of the table. The shared table is not changed.
+   */
+  void clear() {
+    if (size > 0) {
+      table = new String[INITIAL_SIZE];
+      size = 0;
+    }
+  }
+
+  /**
+   * Return the name with the characters passed.
+   *
+   * @param chars the array with the characters of the name.
+   * @param offset the index of the first character of the name.
+   * @param length the number of characters of the name.
+   * @return a {@code String} with the name.
+   */
+  String get(char[] chars, int offset, int length) {
+    if (length > MAX_LENGTH) {
+      return new String(chars, offset, length);
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    int mask = table.length - 1;
+    int slot = spread(hash) & mask;
+    String symbol;
+    for (int probes = 0; (symbol = table[slot]) != null; probes++) {
+      if (symbol.hashCode() == hash && equal(symbol, chars, offset, length)) {
+        return symbol;
+      }
+      if (probes == MAX_PROBES) {
+        slot = -1;
+        break;
+      }
+      slot = (slot + 1) & mask;
+    }
+    int sharedSlot = spread(hash) & (SHARED_SIZE - 1);
+    symbol = SHARED[sharedSlot];
+    if (symbol == null || symbol.hashCode() != hash || !equal(symbol, chars, offset, length)) {
+      symbol = new String(chars, offset, length);
+      SHARED[sharedSlot] = symbol;
+    }
+    return add(slot, symbol);
+  }
+
+  /**
+   * Return the name with the ASCII characters passed.
+   *
+   * @param bytes the array with the bytes of the name.
+   * @param offset the index of the first byte of the name.
+   * @param length the number of bytes of the name.
+   * @return a {@code String} with the name or {@code null} if there is a byte that is not an ASCII character.
+   */
+  String get(byte[] bytes, int offset, int length) {
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      byte b = bytes[i];
+      if (b < 0) {
+        return null;
+      }
+      hash = 31 * hash + b;
+    }
+    if (length > MAX_LENGTH) {
+      return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+    int mask = table.length - 1;
+    int slot = spread(hash) & mask;
+    String symbol;
+    for (int probes = 0; (symbol = table[slot]) != null; probes++) {
+      if (symbol.hashCode() == hash && equal(symbol, bytes, offset, length)) {
+        return symbol;
+      }
+      if (probes == MAX_PROBES) {
+        slot = -1;
+        break;
+      }
+      slot = (slot + 1) & mask;
+    }
+    int sharedSlot = spread(hash) & (SHARED_SIZE - 1);
+    symbol = SHARED[sharedSlot];
+    if (symbol == null || symbol.hashCode() != hash || !equal(symbol, bytes, offset, length)) {
+      symbol = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+      SHARED[sharedSlot] = symbol;
+    }
+    return add(slot, symbol);
+  }
+
+  private String add(int slot, String symbol) {
+    if (slot < 0) {
+      return symbol;
+    }
+    if (size == MAX_SIZE) {
+      clear();
+      slot = spread(symbol.hashCode()) & (table.length - 1);
+    }
+    table[slot] = symbol;
+    size++;
+    if (size * 2 > table.length) {
+      String[] old = table;
+      table = new String[old.length * 2];
+      int mask = table.length - 1;
+      for (String s : old) {
+        if (s != null) {
+          int i = spread(s.hashCode()) & mask;
+          while (table[i] != null) {
+            i = (i + 1) & mask;
+          }
+          table[i] = s;
+        }
+      }
+    }
+    return symbol;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equal(String symbol, char[] chars, int offset, int length) {
+    if (symbol.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (symbol.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean equal(String symbol, byte[] bytes, int offset, int length) {
+    if (symbol.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (symbol.charAt(i) != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -24,10 +24,12 @@
 package net.cabezudo.json;
 
 /**
+ * The types of token reported by the lexer and by the {@link net.cabezudo.json.JSONReader}.
+ *
  * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
  * @version 0.9, 10/02/2014
  */
-enum TokenType {
+public enum TokenType {
 
   NONE("none"),
   LEFT_BRACE("left brace"),
@@ -36,13 +38,13 @@ enum TokenType {
   COMMA("comma"),
   LEFT_BRACKET("left bracket"),
   RIGHT_BRACKET("right bracket"),
-  SPACE("space"),
-  NEWLINE("newline"),
   STRING("string"),
+  KEY("key"),
   TRUE("true"),
   FALSE("false"),
   NULL("null"),
-  NUMBER("number");
+  NUMBER("number"),
+  END("end");
 
   private final String name;
 
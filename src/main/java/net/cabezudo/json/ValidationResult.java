@@ -0,0 +1,86 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.JSONParseException;
+
+/**
+ * The result of the validation of a JSON document with {@link JSON#validate(CharSequence)}. If the document is not valid the result has the first error found and its position.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public final class ValidationResult {
+
+  static final ValidationResult VALID = new ValidationResult(null);
+
+  private final JSONParseException exception;
+
+  ValidationResult(JSONParseException exception) {
+    this.exception = exception;
+  }
+
+  /**
+   * Return if the document is a valid JSON document.
+   *
+   * @return {@code true} if the document is valid, {@code false} otherwise.
+   */
+  public boolean isValid() {
+    return exception == null;
+  }
+
+  /**
+   * Return the message of the first error found.
+   *
+   * @return the message of the error or {@code null} if the document is valid.
+   */
+  public String getMessage() {
+    return exception == null ? null : exception.getMessage();
+  }
+
+  /**
+   * Return the position of the first error found.
+   *
+   * @return the {@link Position} of the error or {@code null} if the document is valid.
+   */
+  public Position getPosition() {
+    return exception == null ? null : exception.getPosition();
+  }
+
+  /**
+   * Return the exception with the first error found. For a syntax error it is the exception that {@link JSON#parse(String)} throws for the same document. For a name repeated in
+   * an object or a name with an invalid escape sequence, where the parser throws an unchecked exception, it is a
+   * {@link net.cabezudo.json.exceptions.JSONParseException} with the position of the name.
+   *
+   * @return the {@link net.cabezudo.json.exceptions.JSONParseException} with the first error or {@code null} if the document is valid.
+   */
+  public JSONParseException getException() {
+    return exception;
+  }
+
+  @Override
+  public String toString() {
+    return exception == null ? "Valid" : exception.getMessage() + exception.getPosition();
+  }
+}
@@ -43,4 +43,13 @@ public class EOSException extends JSONParseException {
   public EOSException(Position position) {
     super("Unexpected end of string", position);
   }
+
+  private EOSException(EOSException exception, Position position) {
+    super(exception, position);
+  }
+
+  @Override
+  public EOSException withPosition(Position position) {
+    return new EOSException(this, position);
+  }
 }
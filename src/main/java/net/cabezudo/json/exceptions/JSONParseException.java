@@ -67,6 +67,31 @@ public class JSONParseException extends Exception {
     this.position = position;
   }
 
+  /**
+   * Constructs a copy of a {@link net.cabezudo.json.exceptions.JSONParseException} with the same
+   * detail message and another {@link net.cabezudo.json.Position}. The exception copied is the
+   * cause of the new exception.
+   *
+   * @param exception the exception to copy.
+   * @param position the position to store.
+   */
+  protected JSONParseException(JSONParseException exception, Position position) {
+    super(exception.getMessage(), exception);
+    this.position = position;
+  }
+
+  /**
+   * Create a copy of {@code this} exception, of the same type, with another position. It is used
+   * when the source parsed is a part of a bigger source and the position must be relative to the
+   * complete source.
+   *
+   * @param position the position for the new exception.
+   * @return a new exception with the same type and message and the position passed.
+   */
+  public JSONParseException withPosition(Position position) {
+    return new JSONParseException(this, position);
+  }
+
   /**
    * Retrieve a {@link net.cabezudo.json.Position} object used to store additional data about the
    * exception.
@@ -0,0 +1,55 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2017 Esteban Cabezudo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.cabezudo.json.exceptions;
+
+/**
+ * Wraps a {@link net.cabezudo.json.exceptions.JSONParseException} with an unchecked exception. It is thrown by the methods that can't throw a checked exception, like the
+ * methods of an {@code Iterator} or a {@code Stream}.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class UncheckedJSONParseException extends RuntimeException {
+
+  private static final long serialVersionUID = 2370581460187310295L;
+
+  /**
+   * Constructs a {@link net.cabezudo.json.exceptions.UncheckedJSONParseException} with the parse exception as the cause. The detail message is the message of the cause.
+   *
+   * @param cause the {@link net.cabezudo.json.exceptions.JSONParseException} to wrap.
+   */
+  public UncheckedJSONParseException(JSONParseException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  /**
+   * Returns the cause of this exception.
+   *
+   * @return the {@link net.cabezudo.json.exceptions.JSONParseException} wrapped by this exception.
+   */
+  @Override
+  public synchronized JSONParseException getCause() {
+    return (JSONParseException) super.getCause();
+  }
+}
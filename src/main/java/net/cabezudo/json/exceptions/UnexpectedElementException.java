@@ -76,4 +76,13 @@ public class UnexpectedElementException extends JSONParseException {
   public UnexpectedElementException(String expected, String value, Position position) {
     this(expected, value, null, position);
   }
+
+  private UnexpectedElementException(UnexpectedElementException exception, Position position) {
+    super(exception, position);
+  }
+
+  @Override
+  public UnexpectedElementException withPosition(Position position) {
+    return new UnexpectedElementException(this, position);
+  }
 }
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -31,6 +32,7 @@ import java.util.Iterator;
 import java.util.List;
 import net.cabezudo.json.JSON;
 import net.cabezudo.json.JSONElement;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.ElementNotExistException;
 import net.cabezudo.json.exceptions.PropertyNotExistException;
@@ -59,6 +61,19 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
     super(position);
   }
 
+  /**
+   * Load the elements of {@code this} array before they are used. The arrays created by the parser have all the elements loaded, so this method does nothing. The arrays created
+   * by a lazy parse override this method to read the elements from the source the first time they are used.
+   */
+  protected void load() {
+    // Nothing to load.
+  }
+
+  private List<JSONValue> list() {
+    load();
+    return list;
+  }
+
   /**
    * Construct a {@link net.cabezudo.json.values.JSONArray} using the values in the {@code List} provided.
    *
@@ -110,18 +125,18 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
 
   private void internalAdd(JSONValue jsonValue) {
     if (jsonValue == null) {
-      list.add(new JSONNull());
+      list().add(new JSONNull());
     } else {
-      list.add(jsonValue);
+      list().add(jsonValue);
     }
   }
 
   private void internalAdd(Object object) {
     if (object == null) {
-      list.add(new JSONNull());
+      list().add(new JSONNull());
     } else {
       JSONValue jsonValue = JSON.toJSONTree(object);
-      list.add(jsonValue);
+      list().add(jsonValue);
     }
   }
 
@@ -172,7 +187,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the element removed.
    */
   public JSONElement remove(int index) {
-    return list.remove(index);
+    return list().remove(index);
   }
 
   /**
@@ -182,7 +197,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the element in the position {@code index}.
    */
   public JSONElement getElement(int index) {
-    return list.get(index);
+    return list().get(index);
   }
 
   /**
@@ -192,10 +207,10 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return a {@link JSONValue} or null if the {@code index} is out of range.
    */
   public JSONValue getNullValue(int index) {
-    if (index < 0 || index >= list.size()) {
+    if (index < 0 || index >= list().size()) {
       return null;
     }
-    return list.get(index);
+    return list().get(index);
   }
 
   /**
@@ -218,7 +233,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
   @Override
   public JSONArray toReferencedElement() {
     JSONArray jsonArray = new JSONArray();
-    for (JSONElement jsonElement : list) {
+    for (JSONElement jsonElement : list()) {
       jsonArray.add(jsonElement.toReferencedElement());
     }
     return jsonArray;
@@ -246,7 +261,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public Boolean hasElements() {
-    return !list.isEmpty();
+    return !list().isEmpty();
   }
 
   /**
@@ -276,7 +291,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public Iterator<JSONValue> iterator() {
-    return list.iterator();
+    return list().iterator();
   }
 
   /**
@@ -287,7 +302,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the {@link net.cabezudo.json.values.JSONValue} element previously at the specified position.
    */
   public JSONValue setValue(int index, JSONValue jsonValue) {
-    return list.set(index, jsonValue);
+    return list().set(index, jsonValue);
   }
 
   /**
@@ -298,7 +313,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    * @return the number of elements in {@code this} {@link net.cabezudo.json.values.JSONArray}.
    */
   public int size() {
-    return list.size();
+    return list().size();
   }
 
   /**
@@ -308,9 +323,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public JSONValue[] toArray() {
-    JSONValue[] array = new JSONValue[list.size()];
+    JSONValue[] array = new JSONValue[list().size()];
     int i = 0;
-    for (JSONValue jsonValue : list) {
+    for (JSONValue jsonValue : list()) {
       array[i] = jsonValue;
       i++;
     }
@@ -324,9 +339,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public byte[] toByteArray() {
-    byte[] byteArray = new byte[list.size()];
+    byte[] byteArray = new byte[list().size()];
     int i = 0;
-    for (JSONValue jsonValue : list) {
+    for (JSONValue jsonValue : list()) {
       byteArray[i] = jsonValue.toByte();
       i++;
     }
@@ -340,9 +355,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public int[] toIntArray() {
-    int[] intArray = new int[list.size()];
+    int[] intArray = new int[list().size()];
     int i = 0;
-    for (JSONValue jsonValue : list) {
+    for (JSONValue jsonValue : list()) {
       intArray[i] = jsonValue.toInt();
       i++;
     }
@@ -356,9 +371,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public double[] toDoubleArray() {
-    double[] doubleArray = new double[list.size()];
+    double[] doubleArray = new double[list().size()];
     int i = 0;
-    for (JSONValue jsonValue : list) {
+    for (JSONValue jsonValue : list()) {
       doubleArray[i] = jsonValue.toDouble();
       i++;
     }
@@ -366,22 +381,18 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
   }
 
   /**
-   * Create a JSON string representation of {@code this} {@link net.cabezudo.json.values.JSONArray} including the JSON string representation of the elements.
+   * Write {@code this} {@link net.cabezudo.json.values.JSONArray} and its elements to a {@link net.cabezudo.json.JSONWriter}.
    *
-   * @return a {@code String} representation of {@code this} {@link net.cabezudo.json.values.JSONArray}.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    StringBuilder sb = new StringBuilder("[ ");
-    if (list.size() > 0) {
-      for (JSONValue jsonElement : list) {
-        sb.append(jsonElement.toJSON());
-        sb.append(", ");
-      }
-      sb = new StringBuilder(sb.substring(0, sb.length() - 2));
+  public void writeTo(JSONWriter writer) throws IOException {
+    writer.beginArray();
+    for (JSONValue jsonElement : list()) {
+      jsonElement.writeTo(writer);
     }
-    sb.append(" ]");
-    return sb.toString();
+    writer.endArray();
   }
 
   /**
@@ -412,7 +423,7 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
   @Override
   public List<JSONValue> toList() {
     List<JSONValue> newList = new ArrayList<>();
-    for (JSONValue jsonValue : list) {
+    for (JSONValue jsonValue : list()) {
       newList.add(jsonValue);
     }
     return newList;
@@ -425,9 +436,9 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
    */
   @Override
   public String[] toStringArray() {
-    String[] array = new String[list.size()];
+    String[] array = new String[list().size()];
     int i = 0;
-    for (JSONValue jsonElement : list) {
+    for (JSONValue jsonElement : list()) {
       array[i] = jsonElement.toString();
       i++;
     }
@@ -1249,8 +1260,8 @@ public class JSONArray extends JSONValue<JSONArray> implements Iterable<JSONValu
       sb.append(JSON.getIndent(indent));
     }
     sb.append("[\n");
-    if (!list.isEmpty()) {
-      list.forEach(entry -> {
+    if (!list().isEmpty()) {
+      list().forEach(entry -> {
         entry.toFormatedString(sb, indent + 1, true);
         sb.append(",\n");
       });
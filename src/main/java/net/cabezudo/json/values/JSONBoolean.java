@@ -23,10 +23,12 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 
 /**
@@ -192,13 +194,14 @@ public class JSONBoolean extends JSONValue<JSONBoolean> {
   }
 
   /**
-   * Convert {@code this} object to a {@code String} object.
+   * Write {@code this} object to a {@link net.cabezudo.json.JSONWriter} as {@code true} or {@code false}.
    *
-   * @return a {@code String} object with a value of {@code true} it {@code this} represents {@code true}; {@code false} otherwise.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    return value ? "true" : "false";
+  public void writeTo(JSONWriter writer) throws IOException {
+    writer.value(value);
   }
 
   /**
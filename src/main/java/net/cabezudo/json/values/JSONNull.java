@@ -23,9 +23,11 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 
 /**
@@ -119,13 +121,14 @@ public class JSONNull extends JSONValue<JSONNull> {
   }
 
   /**
-   * Convert {@code this} object to a string with the representation of the JSON structure in a JSON string form.
+   * Write {@code this} object to a {@link net.cabezudo.json.JSONWriter}.
    *
-   * @return a {@code String} with the JSON string representation of {@code this} object.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    return NULL;
+  public void writeTo(JSONWriter writer) throws IOException {
+    writer.nullValue();
   }
 
   /**
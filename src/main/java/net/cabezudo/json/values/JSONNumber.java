@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -30,6 +31,7 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 
 /**
@@ -46,7 +48,25 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   public static final int DEFAULT_SCALE = 6;
 
-  private final BigDecimal value;
+  // The numbers that fit in a long are stored like a BigDecimal without trailing zeros: an unscaled value and a scale. The BigDecimal is created only when it is requested. The
+  // numbers that don't fit use INFLATED as scale and keep the BigDecimal in value.
+  private static final int INFLATED = Integer.MIN_VALUE;
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+  private static final long MAX_EXACT_FLOAT = 1L << 24;
+  private static final double MAX_ROUNDED_DOUBLE = (double) (1L << 52) / 1_000_000;
+  private static final double SCALE_FACTOR = 1_000_000;
+  private static final long[] LONG_POWERS_OF_TEN = {
+    1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+    10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+  };
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+  private long unscaledValue;
+  private int scale;
+  private BigDecimal value;
 
   /**
    * Construct a new {@code String} value.
@@ -63,7 +83,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Byte} with the number.
    */
   public JSONNumber(Byte value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -72,7 +92,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Short} with the number.
    */
   public JSONNumber(Short value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -81,7 +101,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Integer} with the number.
    */
   public JSONNumber(Integer value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
   }
 
   /**
@@ -90,7 +110,48 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Long} with the number.
    */
   public JSONNumber(Long value) {
-    this(new BigDecimal(value));
+    this(value.longValue());
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.JSONNumber} using a primitive {@code long} value. The number is stored without create a {@code BigDecimal}.
+   *
+   * @param value a {@code long} with the number.
+   */
+  public JSONNumber(long value) {
+    super(null);
+    setCompact(value, 0);
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.JSONNumber} using an unscaled value and a scale, like {@code BigDecimal.valueOf(unscaledValue, scale)}. The value is rounded to
+   * {@link #DEFAULT_SCALE} decimals using {@code RoundingMode.HALF_UP} like the {@code BigDecimal} constructor does, but without create a {@code BigDecimal} for the common
+   * values.
+   *
+   * @param unscaledValue the unscaled value of the number.
+   * @param scale the number of digits to the right of the decimal point, if it is negative the unscaled value is multiplied by ten to the power of the negation of the scale.
+   */
+  public JSONNumber(long unscaledValue, int scale) {
+    super(null);
+    if (scale > DEFAULT_SCALE) {
+      int removedDigits = scale - DEFAULT_SCALE;
+      if (removedDigits >= LONG_POWERS_OF_TEN.length || unscaledValue == Long.MIN_VALUE) {
+        setNormalized(normalize(BigDecimal.valueOf(unscaledValue, scale)));
+        return;
+      }
+      long divisor = LONG_POWERS_OF_TEN[removedDigits];
+      long magnitude = Math.abs(unscaledValue);
+      long rounded = magnitude / divisor;
+      if (2 * (magnitude % divisor) >= divisor) {
+        rounded++;
+      }
+      unscaledValue = unscaledValue < 0 ? -rounded : rounded;
+      scale = DEFAULT_SCALE;
+    }
+    setCompact(unscaledValue, scale);
+    if (this.scale < -(LONG_POWERS_OF_TEN.length - 1)) {
+      setNormalized(BigDecimal.valueOf(this.unscaledValue, this.scale));
+    }
   }
 
   /**
@@ -99,7 +160,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Float} with the number.
    */
   public JSONNumber(Float value) {
-    this(new BigDecimal(value));
+    this(value.doubleValue());
   }
 
   /**
@@ -108,7 +169,33 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    * @param value a {@code Double} with the number.
    */
   public JSONNumber(Double value) {
-    this(new BigDecimal(value));
+    this(value.doubleValue());
+  }
+
+  /**
+   * Construct a {@link net.cabezudo.json.values.JSONNumber} using a primitive {@code double} value. The value is rounded to {@link #DEFAULT_SCALE} decimals using
+   * {@code RoundingMode.HALF_UP} over the exact binary value of the {@code double}, like the {@code BigDecimal} constructor does, but without create a {@code BigDecimal} for the
+   * common values.
+   *
+   * @param value a {@code double} with the number.
+   * @throws NumberFormatException if the value is infinite or NaN.
+   */
+  public JSONNumber(double value) {
+    super(null);
+    double magnitude = Math.abs(value);
+    if (magnitude < MAX_ROUNDED_DOUBLE) {
+      // product + error is the exact value of magnitude * 10^6, so the rounding is done over the exact product.
+      double product = magnitude * SCALE_FACTOR;
+      double error = Math.fma(magnitude, SCALE_FACTOR, -product);
+      double floor = Math.floor(product);
+      long rounded = (long) floor;
+      if ((product - floor) - 0.5 >= -error) {
+        rounded++;
+      }
+      setCompact(value < 0 ? -rounded : rounded, DEFAULT_SCALE);
+    } else {
+      setNormalized(normalize(new BigDecimal(value)));
+    }
   }
 
   /**
@@ -132,7 +219,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
     if (value == null) {
       throw new IllegalArgumentException("You can't create an object using null.");
     }
-    this.value = value.round(MathContext.UNLIMITED).setScale(DEFAULT_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+    setNormalized(normalize(value));
   }
 
   /**
@@ -145,7 +232,79 @@ public class JSONNumber extends JSONValue<JSONNumber> {
     if (value == null) {
       throw new IllegalArgumentException("You can't create an object using null.");
     }
-    this.value = new BigDecimal(value).setScale(DEFAULT_SCALE).stripTrailingZeros();
+    if (value.bitLength() < Long.SIZE) {
+      setCompact(value.longValue(), 0);
+    } else {
+      setNormalized(new BigDecimal(value).setScale(DEFAULT_SCALE).stripTrailingZeros());
+    }
+  }
+
+  private static BigDecimal normalize(BigDecimal value) {
+    return value.round(MathContext.UNLIMITED).setScale(DEFAULT_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+  }
+
+  private void setCompact(long unscaledValue, int scale) {
+    if (unscaledValue == 0) {
+      scale = 0;
+    } else {
+      while (unscaledValue % 10 == 0) {
+        unscaledValue /= 10;
+        scale--;
+      }
+    }
+    this.unscaledValue = unscaledValue;
+    this.scale = scale;
+  }
+
+  private void setNormalized(BigDecimal value) {
+    if (value.scale() >= -(LONG_POWERS_OF_TEN.length - 1) && value.unscaledValue().bitLength() < Long.SIZE) {
+      this.unscaledValue = value.unscaledValue().longValue();
+      this.scale = value.scale();
+    } else {
+      this.scale = INFLATED;
+      this.value = value;
+    }
+  }
+
+  private long longValueExact() {
+    if (scale == INFLATED) {
+      return value.longValueExact();
+    }
+    if (scale == 0) {
+      return unscaledValue;
+    }
+    if (scale > 0) {
+      throw new ArithmeticException("Rounding necessary");
+    }
+    return Math.multiplyExact(unscaledValue, LONG_POWERS_OF_TEN[-scale]);
+  }
+
+  /**
+   * Return the value of {@code this} object as a primitive {@code long} without create objects.
+   *
+   * @return a primitive {@code long} value if the conversion is possible.
+   * @throws ArithmeticException if the number has a nonzero fractional part or it is out of the range of a {@code long}.
+   */
+  public long longValue() {
+    return longValueExact();
+  }
+
+  /**
+   * Return the value of {@code this} object as a primitive {@code double} without create objects for the common values.
+   *
+   * @return the nearest {@code double} to the value.
+   */
+  public double doubleValue() {
+    if (scale != INFLATED && unscaledValue > -MAX_EXACT_DOUBLE && unscaledValue < MAX_EXACT_DOUBLE) {
+      // Both operands are exact, so the result of one operation is correctly rounded.
+      if (scale >= 0) {
+        return unscaledValue / DOUBLE_POWERS_OF_TEN[scale];
+      }
+      if (-scale < DOUBLE_POWERS_OF_TEN.length) {
+        return unscaledValue * DOUBLE_POWERS_OF_TEN[-scale];
+      }
+    }
+    return toBigDecimal().doubleValue();
   }
 
   /**
@@ -159,7 +318,34 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int compareTo(JSONNumber jsonNumber) {
-    return value.compareTo(jsonNumber.value);
+    if (scale != INFLATED && jsonNumber.scale != INFLATED) {
+      if (scale == jsonNumber.scale) {
+        return Long.compare(unscaledValue, jsonNumber.unscaledValue);
+      }
+      int signum = Long.signum(unscaledValue);
+      int otherSignum = Long.signum(jsonNumber.unscaledValue);
+      if (signum != otherSignum) {
+        return signum < otherSignum ? -1 : 1;
+      }
+      int difference = scale - jsonNumber.scale;
+      if (difference > 0 && difference < LONG_POWERS_OF_TEN.length) {
+        long power = LONG_POWERS_OF_TEN[difference];
+        if (fitsProduct(jsonNumber.unscaledValue, power)) {
+          return Long.compare(unscaledValue, jsonNumber.unscaledValue * power);
+        }
+      } else if (difference < 0 && -difference < LONG_POWERS_OF_TEN.length) {
+        long power = LONG_POWERS_OF_TEN[-difference];
+        if (fitsProduct(unscaledValue, power)) {
+          return Long.compare(unscaledValue * power, jsonNumber.unscaledValue);
+        }
+      }
+    }
+    return toBigDecimal().compareTo(jsonNumber.toBigDecimal());
+  }
+
+  // Whether value * power doesn't overflow. Math.abs(Long.MIN_VALUE) is negative, so Long.MIN_VALUE is checked apart.
+  private static boolean fitsProduct(long value, long power) {
+    return value != Long.MIN_VALUE && Math.abs(value) <= Long.MAX_VALUE / power;
   }
 
   /**
@@ -180,7 +366,13 @@ public class JSONNumber extends JSONValue<JSONNumber> {
       return false;
     }
     final JSONNumber jsonNumber = (JSONNumber) o;
-    return value.equals(jsonNumber.value);
+    if (scale != jsonNumber.scale) {
+      return false;
+    }
+    if (scale == INFLATED) {
+      return value.equals(jsonNumber.value);
+    }
+    return unscaledValue == jsonNumber.unscaledValue;
   }
 
   /**
@@ -200,7 +392,13 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int hashCode() {
-    return value.hashCode();
+    if (scale == INFLATED) {
+      return value.hashCode();
+    }
+    // The same hash code of the equivalent BigDecimal.
+    long magnitude = Math.abs(unscaledValue);
+    int hash = (int) (((int) (magnitude >>> 32)) * 31 + (magnitude & 0xFFFFFFFFL));
+    return 31 * (unscaledValue < 0 ? -hash : hash) + scale;
   }
 
   /**
@@ -220,6 +418,9 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public BigDecimal toBigDecimal() {
+    if (value == null) {
+      value = BigDecimal.valueOf(unscaledValue, scale);
+    }
     return value;
   }
 
@@ -230,7 +431,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public BigInteger toBigInteger() {
-    return value.toBigInteger();
+    return toBigDecimal().toBigInteger();
   }
 
   /**
@@ -240,8 +441,11 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Byte toByte() {
-    byte b = value.byteValueExact();
-    return b;
+    long l = longValueExact();
+    if ((byte) l != l) {
+      throw new ArithmeticException("Overflow");
+    }
+    return (byte) l;
   }
 
   /**
@@ -276,8 +480,22 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Character toCharacter() {
-    Character character = (char) value.intValue();
-    return character;
+    if (scale == 0) {
+      return (char) unscaledValue;
+    }
+    return (char) toBigDecimal().intValue();
+  }
+
+  /**
+   * Return the signum function of {@code this} number.
+   *
+   * @return -1, 0, or 1 as the value of {@code this} number is negative, zero, or positive.
+   */
+  public int signum() {
+    if (scale == INFLATED) {
+      return value.signum();
+    }
+    return Long.signum(unscaledValue);
   }
 
   /**
@@ -287,7 +505,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Double toDouble() {
-    return value.doubleValue();
+    return doubleValue();
   }
 
   /**
@@ -297,8 +515,15 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Float toFloat() {
-    float f = value.floatValue();
-    return f;
+    if (scale != INFLATED && unscaledValue > -MAX_EXACT_FLOAT && unscaledValue < MAX_EXACT_FLOAT) {
+      if (scale >= 0 && scale < FLOAT_POWERS_OF_TEN.length) {
+        return unscaledValue / FLOAT_POWERS_OF_TEN[scale];
+      }
+      if (scale < 0 && -scale < FLOAT_POWERS_OF_TEN.length) {
+        return unscaledValue * FLOAT_POWERS_OF_TEN[-scale];
+      }
+    }
+    return toBigDecimal().floatValue();
   }
 
   /**
@@ -308,7 +533,10 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public int toInt() {
-    return value.intValueExact();
+    if (scale == INFLATED) {
+      return value.intValueExact();
+    }
+    return Math.toIntExact(longValueExact());
   }
 
   /**
@@ -318,20 +546,22 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Integer toInteger() {
-    return value.intValueExact();
+    return toInt();
   }
 
   /**
-   * Convert {@code this} object to a string with the representation of the JSON structure in a JSON string form.
+   * Write {@code this} object to a {@link net.cabezudo.json.JSONWriter} using the plain notation.
    *
-   * @return a {@code String} with the JSON string representation of {@code this} object.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    if (value.compareTo(BigDecimal.ZERO) == 0) { // To fix Java 7 trailing bug
-      return "0";
+  public void writeTo(JSONWriter writer) throws IOException {
+    if (scale == INFLATED) {
+      writer.value(value);
+    } else {
+      writer.value(unscaledValue, scale);
     }
-    return value.stripTrailingZeros().toPlainString();
   }
 
   /**
@@ -342,7 +572,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
   @Override
   public JSONArray toJSONArray() {
     JSONArray jsonArray = new JSONArray();
-    jsonArray.add(value);
+    jsonArray.add(toBigDecimal());
     return jsonArray;
   }
 
@@ -353,7 +583,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public JSONString toJSONString() {
-    JSONString jsonString = new JSONString(value);
+    JSONString jsonString = new JSONString(toBigDecimal());
     return jsonString;
   }
 
@@ -376,7 +606,7 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Long toLong() {
-    return value.longValueExact();
+    return longValueExact();
   }
 
   /**
@@ -386,8 +616,11 @@ public class JSONNumber extends JSONValue<JSONNumber> {
    */
   @Override
   public Short toShort() {
-    short s = value.shortValueExact();
-    return s;
+    long l = longValueExact();
+    if ((short) l != l) {
+      throw new ArithmeticException("Overflow");
+    }
+    return (short) l;
   }
 
   /**
@@ -408,13 +641,13 @@ public class JSONNumber extends JSONValue<JSONNumber> {
   @Override
   public String[] toStringArray() {
     String[] s = new String[1];
-    s[0] = value.toString();
+    s[0] = toBigDecimal().toString();
     return s;
   }
 
   @Override
   public void toFormatedString(StringBuilder sb, int indent, boolean inclueFisrt) {
-    sb.append(value.toPlainString());
+    sb.append(toJSON());
   }
 
 }
@@ -23,20 +23,21 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.NoSuchElementException;
 import net.cabezudo.json.JSON;
 import net.cabezudo.json.JSONElement;
 import net.cabezudo.json.JSONPair;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.InvalidReferencedValue;
 import net.cabezudo.json.exceptions.JSONParseException;
@@ -55,10 +56,23 @@ import net.cabezudo.json.exceptions.PropertyNotExistException;
  */
 public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPair> {
 
-  private final Set<String> keys = new TreeSet<>();
-
-  private final List<JSONPair> list = new ArrayList<>();
-  private final Map<String, JSONPair> map = new HashMap<>();
+  private static final int INDEX_THRESHOLD = 8;
+  private static final int MAX_PROBES = 16;
+  private static final String[] EMPTY_KEYS = {};
+  private static final int[] EMPTY_HASHES = {};
+  private static final JSONPair[] EMPTY_PAIRS = {};
+
+  // The properties are stored in insertion order in parallel arrays. The small objects search the keys with a linear scan, the hash index is created only when the object has
+  // more than INDEX_THRESHOLD properties. The index is an open addressing table with the position of the property plus one, zero is an empty slot. The hashes of the keys are
+  // compared before the keys. If a key needs more than MAX_PROBES probes, like the keys with the same hash code in a malicious document, the index is replaced by a HashMap
+  // that keeps the colliding keys in a tree.
+  private String[] keys = EMPTY_KEYS;
+  private int[] hashes = EMPTY_HASHES;
+  private JSONPair[] pairs = EMPTY_PAIRS;
+  private int size;
+  private int[] index;
+  private HashMap<String, Integer> map;
+  private String[] sortedKeys;
 
   /**
    * Create a new {@link net.cabezudo.json.values.JSONObject} object using a JSON string.
@@ -141,23 +155,154 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   }
 
   private void copy(JSONObject jsonObject) {
-    for (JSONPair jsonPair : jsonObject.list) {
-      this.add(jsonPair);
+    jsonObject.load();
+    for (int i = 0; i < jsonObject.size; i++) {
+      this.add(jsonObject.pairs[i]);
     }
   }
 
+  /**
+   * Load the properties of {@code this} object before they are used. The objects created by the parser have all the properties loaded, so this method does nothing. The objects
+   * created by a lazy parse override this method to read the properties from the source the first time they are used.
+   */
+  protected void load() {
+    // Nothing to load.
+  }
+
+  /**
+   * Return a list with the names of the properties of {@code this} object in natural order. The sorted names are created the first time the method is called after a change.
+   *
+   * @return a new {@code List} with the names of the properties sorted.
+   */
   public List<String> getKeyList() {
-    return new ArrayList<String>(keys);
+    load();
+    if (sortedKeys == null) {
+      String[] array = Arrays.copyOf(keys, size);
+      Arrays.sort(array);
+      sortedKeys = array;
+    }
+    return new ArrayList<>(Arrays.asList(sortedKeys));
+  }
+
+  private static int hash(String key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private int indexOf(String key) {
+    load();
+    int h = hash(key);
+    if (map != null) {
+      Integer position = map.get(key);
+      return position == null ? -1 : position;
+    }
+    if (index == null) {
+      for (int i = 0; i < size; i++) {
+        if (hashes[i] == h && key.equals(keys[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    int mask = index.length - 1;
+    for (int slot = h & mask;; slot = (slot + 1) & mask) {
+      int entry = index[slot];
+      if (entry == 0) {
+        return -1;
+      }
+      if (hashes[entry - 1] == h && key.equals(keys[entry - 1])) {
+        return entry - 1;
+      }
+    }
+  }
+
+  private void buildIndex() {
+    map = null;
+    if (size <= INDEX_THRESHOLD) {
+      index = null;
+      return;
+    }
+    index = new int[Integer.highestOneBit(size) << 2];
+    for (int i = 0; i < size && index != null; i++) {
+      addToIndex(i);
+    }
+  }
+
+  private void addToIndex(int position) {
+    if (map != null) {
+      map.put(keys[position], position);
+      return;
+    }
+    int mask = index.length - 1;
+    int slot = hashes[position] & mask;
+    for (int probes = 0; index[slot] != 0; probes++) {
+      if (probes == MAX_PROBES) {
+        buildMap();
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = position + 1;
+  }
+
+  private void buildMap() {
+    index = null;
+    map = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      map.put(keys[i], i);
+    }
+  }
+
+  private JSONPair pairAt(int position) {
+    load();
+    if (position < 0 || position >= size) {
+      throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+    }
+    return pairs[position];
   }
 
   private JSONPair privateAdd(JSONPair jsonPair) {
+    load();
     String key = jsonPair.getKey();
-    if (map.containsKey(key)) {
+    if (indexOf(key) >= 0) {
       throw new RuntimeException("The object " + this.toJSON() + " already has the key " + key + ".");
     }
-    list.add(jsonPair);
-    keys.add(key);
-    return map.put(key, jsonPair);
+    if (size == pairs.length) {
+      int capacity = size == 0 ? 4 : size + (size >> 1);
+      keys = Arrays.copyOf(keys, capacity);
+      hashes = Arrays.copyOf(hashes, capacity);
+      pairs = Arrays.copyOf(pairs, capacity);
+    }
+    keys[size] = key;
+    hashes[size] = hash(key);
+    pairs[size] = jsonPair;
+    size++;
+    sortedKeys = null;
+    if (map == null && (index == null || size * 2 > index.length)) {
+      buildIndex();
+    } else {
+      addToIndex(size - 1);
+    }
+    return jsonPair;
+  }
+
+  private JSONPair removeAt(int position) {
+    load();
+    JSONPair element = pairs[position];
+    int moved = size - position - 1;
+    if (moved > 0) {
+      System.arraycopy(keys, position + 1, keys, position, moved);
+      System.arraycopy(hashes, position + 1, hashes, position, moved);
+      System.arraycopy(pairs, position + 1, pairs, position, moved);
+    }
+    size--;
+    keys[size] = null;
+    pairs[size] = null;
+    sortedKeys = null;
+    if (index != null || map != null) {
+      buildIndex();
+    }
+    return element;
   }
 
   /**
@@ -177,7 +322,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which to add the properties..
    */
   public void merge(JSONObject jsonObject) {
-    jsonObject.list.forEach((jsonPair) -> {
+    jsonObject.forEach((jsonPair) -> {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -198,7 +343,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @param jsonObject the {@link net.cabezudo.json.values.JSONObject} from which to add the properties..
    */
   public void replace(JSONObject jsonObject) {
-    jsonObject.list.forEach((jsonPair) -> {
+    jsonObject.forEach((jsonPair) -> {
       String key = jsonPair.getKey();
       JSONValue value = this.getNullValue(key);
       if (value == null) {
@@ -223,7 +368,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return <tt>true</tt> if this {@link net.cabezudo.json.values.JSONObject} contains the specified element
    */
   public boolean contains(String propertyName) {
-    return this.keys.contains(propertyName);
+    return indexOf(propertyName) >= 0;
   }
 
   /**
@@ -302,10 +447,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the {@link net.cabezudo.json.JSONPair} object removed from {@code this} {@link net.cabezudo.json.values.JSONObject} object.
    */
   public JSONPair remove(String propertyName) {
-    JSONPair element = map.get(propertyName);
-    list.remove(element);
-    keys.remove(propertyName);
-    return map.remove(propertyName);
+    int position = indexOf(propertyName);
+    if (position < 0) {
+      return null;
+    }
+    return removeAt(position);
   }
 
   /**
@@ -315,11 +461,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the {@code net.cabezudo.json.JSONPair} object removed from {@code this} {@code net.cabezudo.json.values.JSONObject} object.
    */
   public JSONPair remove(int index) {
-    JSONPair element = list.get(index);
-    list.remove(element);
-    String propertyName = element.getKey();
-    keys.remove(propertyName);
-    return map.remove(propertyName);
+    pairAt(index);
+    return removeAt(index);
   }
 
   /**
@@ -903,12 +1046,24 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   }
 
   /**
-   * Return a unmodifiable list of all childs of type {@link net.cabezudo.json.JSONPair} of the object in the natural order.
+   * Return a unmodifiable list of all childs of type {@link net.cabezudo.json.JSONPair} of the object in the natural order. The list is a live view of {@code this} object, the
+   * properties added or removed after the call are reflected in the list.
    *
    * @return a {@code List<JSONPair>} object with the child's.
    */
   public List<JSONPair> getChilds() {
-    return Collections.unmodifiableList(list);
+    return new AbstractList<JSONPair>() {
+      @Override
+      public JSONPair get(int position) {
+        return pairAt(position);
+      }
+
+      @Override
+      public int size() {
+        load();
+        return size;
+      }
+    };
   }
 
   /**
@@ -1319,11 +1474,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@link net.cabezudo.json.JSONPair}.
    */
   public JSONPair getNullElement(String propertyName) {
-    JSONPair jsonPair = map.get(propertyName);
-    if (jsonPair == null) {
+    int position = indexOf(propertyName);
+    if (position < 0) {
       return null;
     }
-    return jsonPair;
+    return pairs[position];
   }
 
   /**
@@ -1333,10 +1488,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@link net.cabezudo.json.JSONPair}.
    */
   public JSONPair getNullElement(int index) {
-    if (index < 0 || index > list.size()) {
+    load();
+    if (index < 0 || index > size) {
       return null;
     }
-    JSONPair jsonPair = list.get(index);
+    JSONPair jsonPair = pairAt(index);
     return jsonPair;
   }
 
@@ -1546,11 +1702,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
     if (propertyName == null || propertyName.isEmpty()) {
       throw new IllegalArgumentException("Invalid parameter '" + propertyName + "'.");
     }
-    JSONPair jsonPair = map.get(propertyName);
-    if (jsonPair == null) {
+    int position = indexOf(propertyName);
+    if (position < 0) {
       return null;
     }
-    return jsonPair.getValue();
+    return pairs[position].getValue();
   }
 
   /**
@@ -1560,10 +1716,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a {@link net.cabezudo.json.values.JSONValue}.
    */
   public JSONValue getNullValue(int index) {
-    if (index < 0 || index > list.size()) {
+    load();
+    if (index < 0 || index > size) {
       return null;
     }
-    JSONPair jsonPair = list.get(index);
+    JSONPair jsonPair = pairAt(index);
     return jsonPair.getValue();
   }
 
@@ -1601,7 +1758,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   @Override
   public JSONValue toReferencedElement() {
     String referenceFieldNameToSearch = getReferenceFieldName();
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : this) {
       String keyName = jsonPair.getKey();
       if (keyName.equals(referenceFieldNameToSearch)) {
         JSONValue jsonReferenceValue = jsonPair.getValue();
@@ -1612,10 +1769,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
       }
     }
     JSONObject jsonObject = new JSONObject();
-    if (list.size() > 0) {
-      for (JSONPair jsonPair : list) {
-        jsonObject.add(jsonPair.toReferencedElement());
-      }
+    for (JSONPair jsonPair : this) {
+      jsonObject.add(jsonPair.toReferencedElement());
     }
     return jsonObject;
   }
@@ -1630,7 +1785,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   public JSONObject toReferencedObject() {
     JSONObject jsonReferencedObject = new JSONObject();
 
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : this) {
       JSONValue jsonValue = jsonPair.getValue();
       JSONElement referencedElement = jsonValue.toReferencedElement();
 
@@ -1728,7 +1883,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return {@code true} if, and only if, {@code this} object has childs, {@code false} otherwise.
    */
   public boolean hasChilds() {
-    return !list.isEmpty();
+    load();
+    return size > 0;
   }
 
   /**
@@ -1738,7 +1894,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public boolean isEmpty() {
-    return list.isEmpty();
+    load();
+    return size == 0;
   }
 
   /**
@@ -1768,7 +1925,35 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public Iterator<JSONPair> iterator() {
-    return list.iterator();
+    load();
+    return new Iterator<JSONPair>() {
+      private int cursor;
+      private int last = -1;
+
+      @Override
+      public boolean hasNext() {
+        return cursor < size;
+      }
+
+      @Override
+      public JSONPair next() {
+        if (cursor >= size) {
+          throw new NoSuchElementException();
+        }
+        last = cursor;
+        return pairs[cursor++];
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        removeAt(last);
+        cursor = last;
+        last = -1;
+      }
+    };
   }
 
   /**
@@ -1779,7 +1964,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return the number of properties in {@code this} {@link net.cabezudo.json.values.JSONObject}.
    */
   public int size() {
-    return list.size();
+    load();
+    return size;
   }
 
   /**
@@ -1790,10 +1976,11 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    */
   @Override
   public JSONValue[] toArray() {
-    JSONValue[] array = new JSONValue[list.size()];
+    load();
+    JSONValue[] array = new JSONValue[size];
 
     int i = 0;
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : this) {
       JSONValue value = jsonPair.getValue();
       array[i] = value;
       i++;
@@ -1802,22 +1989,18 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   }
 
   /**
-   * Create a JSON string representation of {@code this} {@link net.cabezudo.json.values.JSONObject} including the JSON string representation of the properties.
+   * Write {@code this} {@link net.cabezudo.json.values.JSONObject} and its properties to a {@link net.cabezudo.json.JSONWriter}.
    *
-   * @return a {@code String} representation of {@code this} {@link net.cabezudo.json.values.JSONObject}.
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public String toJSON() {
-    StringBuilder sb = new StringBuilder("{ ");
-    if (map.size() > 0) {
-      for (JSONPair jsonPair : list) {
-        sb.append(jsonPair.toJSON());
-        sb.append(", ");
-      }
-      sb = new StringBuilder(sb.substring(0, sb.length() - 2));
+  public void writeTo(JSONWriter writer) throws IOException {
+    writer.beginObject();
+    for (JSONPair jsonPair : this) {
+      jsonPair.writeTo(writer);
     }
-    sb.append(" }");
-    return sb.toString();
+    writer.endObject();
   }
 
   /**
@@ -1828,7 +2011,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
   @Override
   public JSONArray toJSONArray() {
     JSONArray jsonArray = new JSONArray();
-    for (JSONPair jsonPair : list) {
+    for (JSONPair jsonPair : this) {
       jsonArray.add(jsonPair.getValue());
     }
     return jsonArray;
@@ -1840,14 +2023,8 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
    * @return a primitive array of {@link net.cabezudo.json.values.JSONPair} with the values of {@code this} object names and properties.
    */
   public JSONPair[] toJSONPairArray() {
-    int size = list.size();
-    JSONPair[] jsonPairArray = new JSONPair[size];
-
-    for (int i = 0; i < size; i++) {
-      JSONPair jsonPair = list.get(i);
-      jsonPairArray[i] = jsonPair;
-    }
-    return jsonPairArray;
+    load();
+    return Arrays.copyOf(pairs, size);
   }
 
   /**
@@ -1886,7 +2063,7 @@ public class JSONObject extends JSONValue<JSONObject> implements Iterable<JSONPa
       sb.append(JSON.getIndent(indent));
     }
     sb.append("{\n");
-    list.forEach(entry -> {
+    forEach(entry -> {
       sb.append(JSON.getIndent(indent + 1));
       entry.toFormatedString(sb, indent + 1, false);
       sb.append(",\n");
@@ -23,6 +23,7 @@
  */
 package net.cabezudo.json.values;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
@@ -33,6 +34,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONWriter;
 import net.cabezudo.json.Position;
 import net.cabezudo.json.exceptions.JSONConversionException;
 
@@ -44,7 +46,12 @@ import net.cabezudo.json.exceptions.JSONConversionException;
  */
 public class JSONString extends JSONValue<JSONString> {
 
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  // The value as it is written in a JSON source, with the escape sequences.
   private final String value;
+  // The value with the escape sequences replaced, created the first time is used. It is the same object that the value if the value doesn't have escape sequences.
+  private String decoded;
 
   /**
    * Initializes a newly created {@link net.cabezudo.json.values.JSONString} object so that it represents the same string as the argument.
@@ -56,15 +63,34 @@ public class JSONString extends JSONValue<JSONString> {
   }
 
   /**
-   * Initializes a newly created {@link net.cabezudo.json.values.JSONString} object so that it represents the same string as the argument.
+   * Initializes a newly created {@link net.cabezudo.json.values.JSONString} object so that it represents the same string as the argument. The quotation marks, the backslashes
+   * and the control characters of the value are escaped when the string is written.
    *
    * @param value A {@code String}
    * @param position The position of the {@code String} in origen
    */
   public JSONString(String value, Position position) {
+    super(position);
+    this.value = value == null ? null : escape(value);
+    this.decoded = value;
+  }
+
+  private JSONString(Position position, String source) {
     super(position);
     // TODO validate the scape character sequence fir de string value
-    this.value = value;
+    this.value = source;
+  }
+
+  /**
+   * Create a {@link net.cabezudo.json.values.JSONString} object with the text of a string as it is in a JSON source, without the quotation marks and with the escape sequences
+   * of the source. The text is written without changes. This method is used by the parsers.
+   *
+   * @param source the text of the string in the source.
+   * @param position the position of the string in the source.
+   * @return a {@link net.cabezudo.json.values.JSONString} for the text of the source.
+   */
+  public static JSONString fromSource(String source, Position position) {
+    return new JSONString(position, source);
   }
 
   /**
@@ -74,7 +100,8 @@ public class JSONString extends JSONValue<JSONString> {
    */
   public JSONString(Character character) {
     super(null);
-    this.value = character.toString();
+    this.decoded = character.toString();
+    this.value = escape(decoded);
   }
 
   /**
@@ -182,7 +209,7 @@ public class JSONString extends JSONValue<JSONString> {
   @Override
   public JSONValue[] toArray() {
     JSONValue array[] = new JSONValue[1];
-    array[0] = new JSONString(value, getPosition());
+    array[0] = new JSONString(getPosition(), value);
     return array;
   }
 
@@ -284,7 +311,7 @@ public class JSONString extends JSONValue<JSONString> {
    */
   @Override
   public Character toCharacter() {
-    return value.charAt(0);
+    return toString().charAt(0);
   }
 
   /**
@@ -335,18 +362,34 @@ public class JSONString extends JSONValue<JSONString> {
     return Integer.valueOf(value);
   }
 
+  /**
+   * Write {@code this} {@link net.cabezudo.json.values.JSONString} to a {@link net.cabezudo.json.JSONWriter} in double quotes. A string of a source is written with the escape
+   * sequences of the source and a string created from a Java value is written escaped.
+   *
+   * @param writer the {@link net.cabezudo.json.JSONWriter} used to write the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void writeTo(JSONWriter writer) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else {
+      writer.escapedValue(value);
+    }
+  }
+
   /**
    * Return a {@code String} with the value of {@code this} {@link net.cabezudo.json.values.JSONString} object converted to a JSON valid representation. A JSON string is always a
    * string in double quotes. This method is used to create JSON strings.
    *
-   * @return a {@code String} with the JSON formated {@code String}.
+   * @return a {@code String} with the JSON formated {@code String} or {@code null} if the value is {@code null}.
    */
   @Override
   public String toJSON() {
     if (value == null) {
       return null;
     }
-    return "\"" + value + "\"";
+    return super.toJSON();
   }
 
   /**
@@ -357,7 +400,7 @@ public class JSONString extends JSONValue<JSONString> {
    */
   @Override
   public JSONArray toJSONArray() {
-    return new JSONArray(value);
+    return new JSONArray(fromSource(value, null));
   }
 
   /**
@@ -368,7 +411,7 @@ public class JSONString extends JSONValue<JSONString> {
    */
   @Override
   public JSONString toJSONString() {
-    return new JSONString(value, getPosition());
+    return new JSONString(getPosition(), value);
   }
 
   /**
@@ -410,76 +453,136 @@ public class JSONString extends JSONValue<JSONString> {
 
   /**
    * Returns a string representation of the {@code this} object. The string representation for the object is the {@code String} represented for the
-   * {@link net.cabezudo.json.values.JSONString} object and is the same object that the internal {@code String} value of the object.
+   * {@link net.cabezudo.json.values.JSONString} object with the escape sequences replaced. If the value doesn't have escape sequences the representation is the same object that
+   * the internal {@code String} value of the object, otherwise the sequences are replaced the first time the method is called and the result is kept.
    *
    * @return a {@code String} representation of the value of {@code this} object.
    */
   @Override
   public String toString() {
-    return replaceEscapeCharacters(value);
+    String string = decoded;
+    if (string == null) {
+      string = value.indexOf('\\') < 0 ? value : replaceEscapeCharacters(value);
+      decoded = string;
+    }
+    return string;
+  }
+
+  private static String replaceEscapeCharacters(String value) {
+    int length = value.length();
+    StringBuilder sb = new StringBuilder(length);
+    int start = 0;
+    int i = value.indexOf('\\');
+    while (i >= 0) {
+      sb.append(value, start, i);
+      i++;
+      if (i >= length) {
+        throw new InvalidStringException("Invalid char sequence");
+      }
+      switch (value.charAt(i)) {
+        case '\"':
+          sb.append('"');
+          break;
+        case '\\':
+          sb.append('\\');
+          break;
+        case '/':
+          sb.append('/');
+          break;
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'u':
+          // The surrogate pairs are written as two escape sequences, every sequence adds one of the two chars of the pair.
+          sb.append(getHex(value, i));
+          i += 4;
+          break;
+        default:
+          throw new InvalidStringException("Invalid char sequence");
+      }
+      start = i + 1;
+      i = value.indexOf('\\', start);
+    }
+    sb.append(value, start, length);
+    return sb.toString();
   }
 
-  private String replaceEscapeCharacters(String value) {
-    StringBuilder sb = new StringBuilder(value.length());
-    char[] chars = value.toCharArray();
+  private static String escape(String value) {
+    int length = value.length();
     int i = 0;
-    while (i < chars.length) {
-      char c = chars[i];
-      if (c == '\\') {
-        i++;
-        switch (chars[i]) {
-          case '\"':
-            sb.append('"');
-            break;
-          case '\\':
-            sb.append('\\');
-            break;
-          case '/':
-            sb.append('/');
-            break;
-          case 'b':
-            sb.append('\b');
-            break;
-          case 'f':
-            sb.append('\f');
-            break;
-          case 'n':
-            sb.append('\n');
-            break;
-          case 'r':
-            sb.append('\r');
-            break;
-          case 't':
-            sb.append('\t');
-            break;
-          case 'u':
-            sb.append(getHex(chars, i));
-            break;
-          default:
-            throw new InvalidStringException("Invalid char sequence");
-        }
-      } else {
-        sb.append(c);
+    while (i < length) {
+      char c = value.charAt(i);
+      if (c < 0x20 || c == '"' || c == '\\') {
+        break;
       }
       i++;
     }
+    if (i == length) {
+      return value;
+    }
+    StringBuilder sb = new StringBuilder(length + 16);
+    sb.append(value, 0, i);
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\b':
+          sb.append("\\b");
+          break;
+        case '\f':
+          sb.append("\\f");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            sb.append(c);
+          }
+          break;
+      }
+    }
     return sb.toString();
   }
 
-  private char getHex(char[] chars, int i) {
-    if (i + 4 > chars.length) {
+  private static char getHex(String value, int i) {
+    if (i + 4 >= value.length()) {
       throw new InvalidStringException("Invalid char sequence");
     }
-    if (!isHexDigit(chars[i + 1]) || !isHexDigit(chars[i + 2]) || !isHexDigit(chars[i + 3]) || !isHexDigit(chars[i + 4])) {
-      throw new InvalidStringException("Invalid char sequence");
+    int c = 0;
+    for (int j = i + 1; j <= i + 4; j++) {
+      int digit = Character.digit(value.charAt(j), 16);
+      if (digit < 0) {
+        throw new InvalidStringException("Invalid char sequence");
+      }
+      c = (c << 4) | digit;
     }
-    String hex = Character.toString(chars[i + 1]) + chars[i + 2] + chars[i + 3] + chars[i + 4];
-    return (char) Integer.parseInt(hex, 16);
-  }
-
-  private boolean isHexDigit(char value) {
-    char c = Character.toLowerCase(value);
-    return Character.isDigit(c) || c == 'a' || c == 'b' || c == 'c' || c == 'd' || c == 'e' || c == 'f';
+    return (char) c;
   }
 
   /**
@@ -490,7 +593,7 @@ public class JSONString extends JSONValue<JSONString> {
   @Override
   public String[] toStringArray() {
     String[] array = new String[1];
-    array[0] = value;
+    array[0] = toString();
     return array;
   }
 
@@ -0,0 +1,51 @@
+package net.cabezudo.json;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.ObjectException;
+import net.cabezudo.json.objects.Book;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class AccessorsTest {
+
+  public static class Failing {
+
+    @JSONProperty
+    private String name;
+
+    public String getName() {
+      throw new IllegalStateException("No name.");
+    }
+  }
+
+  @Test
+  public void testGeneratedFunctions() throws NoSuchMethodException {
+    Book book = new Book(69, "Rayuela");
+
+    ToIntFunction<Object> id = Accessors.toIntFunction(Book.class.getMethod("getId"));
+    assertNotNull(id);
+    assertEquals(69, id.applyAsInt(book));
+
+    Function<Object, Object> name = Accessors.function(Book.class.getMethod("getName"));
+    assertEquals("Rayuela", name.apply(book));
+  }
+
+  @Test
+  public void testGetterException() {
+    try {
+      JSON.toJSONTree(new Failing());
+    } catch (ObjectException e) {
+      assertEquals(IllegalStateException.class, e.getCause().getClass());
+      return;
+    }
+    fail("The getter exception must be wrapped in an ObjectException.");
+  }
+}
@@ -0,0 +1,125 @@
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ByteBufferLexerTest {
+
+  /**
+   * A lexer that receives the source in small parts, like the lexers for big files.
+   */
+  private static class PartsLexer extends ByteBufferLexer {
+
+    private final byte[] bytes;
+    private final int size;
+
+    PartsLexer(byte[] bytes, int size) {
+      super(ByteBuffer.wrap(bytes, 0, Math.min(size, bytes.length)));
+      this.bytes = bytes;
+      this.size = size;
+    }
+
+    @Override
+    ByteBuffer more(long position, int available) {
+      int start = (int) position;
+      int end = Math.min(bytes.length, start + available + size);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(0, end - start));
+      buffer.put(bytes, start, end - start);
+      buffer.flip();
+      return buffer;
+    }
+  }
+
+  @Test
+  public void testParseBytes() throws JSONParseException, PropertyNotExistException {
+    byte[] bytes = TestDocuments.DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    JSONObject expected = JSON.parse(TestDocuments.DOCUMENT).toJSONObject();
+    JSONObject jsonObject = JSON.parse(bytes, 0, bytes.length).toJSONObject();
+    assertEquals(expected.toJSON(), jsonObject.toJSON());
+    assertEquals("Ciudad de México", jsonObject.getString("city"));
+    assertEquals("你好, \"world\" \t é", jsonObject.getString("greeting"));
+    assertEquals("\uD83D\uDE00", jsonObject.getString("emoji"));
+    assertEquals("", jsonObject.digString("ñandú.a"));
+  }
+
+  @Test
+  public void testParseBuffer() throws JSONParseException {
+    byte[] bytes = ("xx" + TestDocuments.DOCUMENT + "yy").getBytes(StandardCharsets.UTF_8);
+    String expected = JSON.parse(TestDocuments.DOCUMENT).toJSON();
+    assertEquals(expected, JSON.parse(bytes, 2, bytes.length - 4).toJSON());
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    direct.position(2);
+    direct.limit(bytes.length - 2);
+    assertEquals(expected, JSON.parse(direct).toJSON());
+    assertEquals(2, direct.position());
+
+    assertEquals(expected, JSON.parse(ByteBuffer.wrap(bytes, 2, bytes.length - 4).asReadOnlyBuffer()).toJSON());
+  }
+
+  @Test
+  public void testParts() throws JSONParseException {
+    byte[] bytes = TestDocuments.DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    String expected = JSON.parse(TestDocuments.DOCUMENT).toJSON();
+    for (int size = 1; size < 12; size++) {
+      assertEquals(expected, JSON.parse(new PartsLexer(bytes, size)).toJSON());
+    }
+  }
+
+  @Test
+  public void testByteOrderMark() throws JSONParseException {
+    byte[] document = "{ \"a\": 1 }".getBytes(StandardCharsets.UTF_8);
+    byte[] bytes = new byte[document.length + 3];
+    bytes[0] = (byte) 0xEF;
+    bytes[1] = (byte) 0xBB;
+    bytes[2] = (byte) 0xBF;
+    System.arraycopy(document, 0, bytes, 3, document.length);
+    assertEquals("{ \"a\": 1 }", JSON.parse(bytes, 0, bytes.length).toJSON());
+  }
+
+  @Test
+  public void testErrorPosition() {
+    String[] documents = {
+      "{ \"ñandú\": \"México\", \"b\" 1 }",
+      "{ \"a\": \"\uD83D\uDE00\uD83D\uDE00\",\n  \"b\": \"é\" ] }",
+      "{ \"a\": [ 1, 2 ],\u00A0\u00A0tru }",
+      "{ \"a\": \"ñ"
+    };
+    for (String document : documents) {
+      byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+      JSONParseException expected = null;
+      try {
+        JSON.parse(document);
+        fail("The document must be invalid: " + document);
+      } catch (JSONParseException e) {
+        expected = e;
+      }
+      try {
+        JSON.parse(bytes, 0, bytes.length);
+        fail("The document must be invalid: " + document);
+      } catch (JSONParseException e) {
+        assertEquals(expected.getClass(), e.getClass());
+        assertEquals(expected.getMessage(), e.getMessage());
+        assertEquals(expected.getPosition(), e.getPosition());
+      }
+    }
+  }
+
+  @Test(expected = EOSException.class)
+  public void testEndOfSource() throws JSONParseException {
+    byte[] bytes = "{ \"a\": [ 1, 2 ".getBytes(StandardCharsets.UTF_8);
+    JSON.parse(ByteBuffer.wrap(bytes));
+  }
+}
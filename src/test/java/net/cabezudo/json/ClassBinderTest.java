@@ -0,0 +1,205 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import net.cabezudo.json.annotations.JSONProperty;
+import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.objects.Book;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ClassBinderTest {
+
+  @Test
+  public void testBinderIsCached() {
+    assertSame(ClassBinder.get(Author.class), ClassBinder.get(Author.class));
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException, JSONParseException {
+    Author author = new Author();
+    author.id = 7;
+    author.name = "Jorge Luis Borges";
+    author.born = 1899L;
+    author.rating = 4.5;
+    author.alive = false;
+    author.initial = 'J';
+    author.price = new BigDecimal("12.50");
+    author.scores = new int[]{3, 1, 2};
+    author.tags = Arrays.asList("short", "story");
+    author.friend = new Author();
+    author.friend.id = 8;
+    author.friend.name = "Adolfo";
+    author.friend.tags = new ArrayList<>();
+    author.friend.scores = new int[0];
+
+    StringBuilder sb = new StringBuilder();
+    JSON.write(author, sb);
+    Author result = JSON.fromJSON(sb.toString(), Author.class);
+
+    assertEquals(7, result.id);
+    assertEquals("Jorge Luis Borges", result.name);
+    assertEquals(Long.valueOf(1899), result.born);
+    assertEquals(4.5, result.rating, 0);
+    assertEquals(false, result.alive);
+    assertEquals('J', result.initial);
+    assertEquals(new BigDecimal("12.5"), result.price);
+    assertArrayEquals(new int[]{3, 1, 2}, result.scores);
+    assertEquals(Arrays.asList("short", "story"), result.tags);
+    assertEquals(8, result.friend.id);
+    assertEquals("Adolfo", result.friend.name);
+    assertNull(result.friend.friend);
+    assertEquals(sb.toString(), JSON.toJSONTree(result).toJSON());
+  }
+
+  @Test
+  public void testPropertyNameAndUnknownProperties() throws JSONParseException {
+    String json = "{ \"unknown\": { \"a\": [ 1, { \"b\": 2 } ] }, \"title\": \"\\\"Ficciones\\\"\", \"pages\": 203, \"other\": [ 1, 2 ], "
+            + "\"themes\": [ \"labyrinth\", \"mirror\", \"labyrinth\" ], \"data\": { \"x\": 1 } }";
+    Volume volume = JSON.fromJSON(json, Volume.class);
+    assertEquals("\"Ficciones\"", volume.name);
+    assertEquals(203, volume.pages);
+    assertEquals(2, volume.themes.size());
+    assertTrue(volume.themes.contains("mirror"));
+    assertEquals("{ \"x\": 1 }", volume.data.toJSON());
+  }
+
+  @Test
+  public void testReference() throws JSONParseException {
+    Volume volume = JSON.fromJSON("{ \"author\": 9, \"title\": \"Ficciones\" }", Volume.class);
+    assertEquals(9, volume.author.id);
+    assertNull(volume.author.name);
+  }
+
+  @Test
+  public void testFromReader() throws IOException, JSONParseException {
+    Volume[] volumes = JSON.fromJSON(new StringReader("[ { \"title\": \"A\" }, null, { \"title\": \"B\", \"pages\": 10 } ]"), Volume[].class);
+    assertEquals(3, volumes.length);
+    assertEquals("A", volumes[0].name);
+    assertNull(volumes[1]);
+    assertEquals(10, volumes[2].pages);
+  }
+
+  @Test
+  public void testConversionError() throws JSONParseException {
+    try {
+      JSON.fromJSON("{ \"title\": \"A\",\n  \"pages\": \"ten\" }", Volume.class);
+      fail("The conversion must fail.");
+    } catch (JSONConversionException e) {
+      assertEquals("I can't convert a string to a int. Line 2, row 12", e.getMessage());
+    }
+    try {
+      JSON.fromJSON("{ \"pages\": 1.5 }", Volume.class);
+      fail("The conversion must fail.");
+    } catch (JSONConversionException e) {
+      assertEquals("I can't convert a number to a int. Line 1, row 12", e.getMessage());
+    }
+  }
+
+  @Test(expected = JSONConversionException.class)
+  public void testWithoutConstructor() throws JSONParseException {
+    JSON.fromJSON("{ \"id\": 1, \"name\": \"Evolution\" }", Book.class);
+  }
+
+  @Test(expected = JSONParseException.class)
+  public void testInvalidDocument() throws JSONParseException {
+    JSON.fromJSON("{ \"title\": \"A\" ", Volume.class);
+  }
+
+  public static class Author {
+
+    @JSONProperty
+    private int id;
+    @JSONProperty(dontShowIfNull = true)
+    private String name;
+    @JSONProperty(dontShowIfNull = true)
+    private Long born;
+    @JSONProperty
+    private double rating;
+    @JSONProperty
+    private boolean alive = true;
+    @JSONProperty
+    private char initial = 'x';
+    @JSONProperty(dontShowIfNull = true)
+    private BigDecimal price;
+    @JSONProperty
+    private int[] scores;
+    @JSONProperty
+    private List<String> tags;
+    @JSONProperty(dontShowIfNull = true)
+    private Author friend;
+
+    public int getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Long getBorn() {
+      return born;
+    }
+
+    public double getRating() {
+      return rating;
+    }
+
+    public boolean isAlive() {
+      return alive;
+    }
+
+    public char getInitial() {
+      return initial;
+    }
+
+    public BigDecimal getPrice() {
+      return price;
+    }
+
+    public int[] getScores() {
+      return scores;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public Author getFriend() {
+      return friend;
+    }
+  }
+
+  static class Volume {
+
+    @JSONProperty(name = "title")
+    private String name;
+    @JSONProperty
+    private int pages;
+    @JSONProperty
+    private Set<String> themes;
+    @JSONProperty
+    private JSONObject data;
+    @JSONProperty
+    private Author author;
+
+    private Volume() {
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package net.cabezudo.json;
+
+import net.cabezudo.json.objects.Book;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ClassDescriptorTest {
+
+  @Test
+  public void testDescriptorIsCached() {
+    ClassDescriptor descriptor = ClassDescriptor.get(Book.class);
+    assertSame(descriptor, ClassDescriptor.get(Book.class));
+    assertEquals(2, descriptor.getProperties().length);
+    assertEquals("id", descriptor.getProperties()[0].getName());
+    assertEquals("name", descriptor.getProperties()[1].getName());
+  }
+
+  @Test
+  public void testConvertWithCachedDescriptor() {
+    for (int i = 0; i < 3; i++) {
+      assertEquals("{ \"id\": " + i + ", \"name\": \"Book " + i + "\" }", JSON.toJSONTree(new Book(i, "Book " + i)).toJSON());
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class IndexedLexerTest {
+
+  private static final String[] STRINGS = {
+    "", "Esteban", "a \\\"quoted\\\" word", "\\\\", "\\\\\\\\", "ends with \\\\\\\"", "{ [ : , ] }", "tab\\t", "Ciudad de México", "你好",
+    "😀 smile", "line\nbreak", "\\u00e9"
+  };
+  private static final String[] WORDS = { "0", "-12", "3.1416", "1e10", "-2.5E-3", "true", "FALSE", "null" };
+  private static final String[] SPACES = { "", " ", "  ", "\n", "\r\n", "\t", "\u00A0", " \u00A0\n" };
+
+  private static void assertSameTokens(String document) throws JSONParseException {
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    Lexer expected = new ByteBufferLexer(ByteBuffer.wrap(bytes));
+    Lexer lexer = new IndexedLexer(bytes, 0, bytes.length);
+    TokenType type;
+    do {
+      type = expected.next();
+      assertEquals(type, lexer.next());
+      assertEquals(expected.getPosition(), lexer.getPosition());
+      assertEquals(expected.getValue(), lexer.getValue());
+      if (type == TokenType.STRING) {
+        assertEquals(expected.getDecodedString(), lexer.getDecodedString());
+      }
+    } while (type != TokenType.END);
+  }
+
+  private static String randomDocument(Random random, int size) {
+    StringBuilder sb = new StringBuilder("[");
+    while (sb.length() < size) {
+      sb.append(SPACES[random.nextInt(SPACES.length)]);
+      if (random.nextBoolean()) {
+        sb.append('"').append(STRINGS[random.nextInt(STRINGS.length)]).append('"');
+      } else {
+        sb.append(WORDS[random.nextInt(WORDS.length)]);
+      }
+      sb.append(SPACES[random.nextInt(SPACES.length)]);
+      switch (random.nextInt(6)) {
+        case 0:
+          sb.append("{ \"key\": ");
+          break;
+        case 1:
+          sb.append(" }, [");
+          break;
+        case 2:
+          sb.append("], ");
+          break;
+        default:
+          sb.append(", ");
+          break;
+      }
+    }
+    return sb.append(']').toString();
+  }
+
+  @Test
+  public void testSameTokens() throws JSONParseException {
+    Random random = new Random(20161016);
+    for (int i = 0; i < 200; i++) {
+      assertSameTokens(randomDocument(random, random.nextInt(400)));
+    }
+  }
+
+  @Test
+  public void testSameTokensInBigDocument() throws JSONParseException {
+    assertSameTokens(randomDocument(new Random(7), 3 * StructuralIndex.CHUNK_SIZE));
+  }
+
+  @Test
+  public void testBlockBoundaries() throws JSONParseException {
+    for (int i = 0; i < 130; i++) {
+      StringBuilder sb = new StringBuilder();
+      for (int j = 0; j < i; j++) {
+        sb.append(' ');
+      }
+      assertSameTokens(sb + "{ \"a\\\\\": \"b\\\"c\", \"ñ\": [ 12345, \u00A0true, \"\\\\\\\\\" ] }");
+      assertSameTokens(sb + "[ 1\u00A02, 3\u00A0\u00A0, \u00A0 4 ]");
+    }
+  }
+
+  @Test
+  public void testDocument() throws JSONParseException {
+    assertSameTokens(TestDocuments.DOCUMENT);
+  }
+
+  @Test
+  public void testByteOrderMark() throws JSONParseException {
+    assertSameTokens("\uFEFF{ \"a\": 1 }");
+  }
+
+  @Test
+  public void testErrors() {
+    String[] documents = { "{ \"a\": \"open", "[ 1, 2, ", "[ 1, tru ]", "[ 1, \"é\" x ]", "[ 1\\\" ]", "" };
+    for (String document : documents) {
+      JSONParseException expected = null;
+      try {
+        JSON.parse(new ByteBufferLexer(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8))));
+        fail("No exception for " + document);
+      } catch (JSONParseException e) {
+        expected = e;
+      }
+      byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+      try {
+        JSON.parse(new IndexedLexer(bytes, 0, bytes.length));
+        fail("No exception for " + document);
+      } catch (JSONParseException e) {
+        assertEquals(expected.getMessage(), e.getMessage());
+        assertEquals(expected.getPosition(), e.getPosition());
+      }
+    }
+  }
+
+  @Test
+  public void testParseBigArray() throws JSONParseException {
+    StringBuilder sb = new StringBuilder("{ \"records\": [");
+    int count = 0;
+    while (sb.length() < 256 * 1024) {
+      sb.append("{ \"id\": ").append(count++).append(", \"name\": \"Name ").append(count).append("\", \"tags\": [ \"a\", \"b\\\"\" ] }, ");
+    }
+    String document = sb.append("] }").toString();
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    JSONObject expected = JSON.parse(document).toJSONObject();
+    JSONObject jsonObject = JSON.parseIndexed(bytes, 0, bytes.length).toJSONObject();
+    assertEquals(expected.toJSON(), jsonObject.toJSON());
+  }
+}
@@ -0,0 +1,267 @@
+package net.cabezudo.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UncheckedJSONParseException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.objects.Book;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONString;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONLinesTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static final String RECORDS = "{ \"id\": 1, \"name\": \"Evolution\" }\n"
+          + "\n"
+          + "[ 1, 2, 3 ]\r\n"
+          + "\"text\"\n"
+          + "12.5\n"
+          + "true\n"
+          + "null\n"
+          + "{ \"id\": 2, \"name\": \"Origin\" }";
+
+  private List<String> toJSON(JSONLinesReader reader) throws JSONParseException {
+    List<String> list = new ArrayList<>();
+    JSONValue value;
+    while ((value = reader.read()) != null) {
+      list.add(value.toJSON());
+    }
+    return list;
+  }
+
+  @Test
+  public void testRead() throws IOException, JSONParseException {
+    try (JSONLinesReader reader = new JSONLinesReader(new ReaderLexer(new StringReader(RECORDS), 5))) {
+      List<String> list = toJSON(reader);
+      assertEquals(7, list.size());
+      assertEquals("{ \"id\": 1, \"name\": \"Evolution\" }", list.get(0));
+      assertEquals("[ 1, 2, 3 ]", list.get(1));
+      assertEquals("\"text\"", list.get(2));
+      assertEquals("12.5", list.get(3));
+      assertEquals("true", list.get(4));
+      assertEquals("null", list.get(5));
+      assertEquals("{ \"id\": 2, \"name\": \"Origin\" }", list.get(6));
+      assertNull(reader.read());
+    }
+  }
+
+  @Test
+  public void testEmpty() throws IOException, JSONParseException {
+    try (JSONLinesReader reader = new JSONLinesReader(new StringReader(" \n\n"))) {
+      assertNull(reader.read());
+      assertFalse(reader.iterator().hasNext());
+    }
+  }
+
+  @Test
+  public void testIterator() throws IOException {
+    try (JSONLinesReader reader = new JSONLinesReader(new ByteArrayInputStream(RECORDS.getBytes(StandardCharsets.UTF_8)))) {
+      Iterator<JSONValue> iterator = reader.iterator();
+      assertTrue(iterator.hasNext());
+      assertTrue(iterator.hasNext());
+      assertEquals("{ \"id\": 1, \"name\": \"Evolution\" }", iterator.next().toJSON());
+      int count = 1;
+      while (iterator.hasNext()) {
+        iterator.next();
+        count++;
+      }
+      assertEquals(7, count);
+    }
+  }
+
+  @Test
+  public void testStream() throws IOException {
+    try (JSONLinesReader reader = new JSONLinesReader(new StringReader(RECORDS))) {
+      List<String> names = reader.stream()
+              .filter(JSONValue::isObject)
+              .map(value -> ((JSONObject) value).getNullString("name"))
+              .collect(Collectors.toList());
+      assertEquals(2, names.size());
+      assertEquals("Evolution", names.get(0));
+      assertEquals("Origin", names.get(1));
+    }
+  }
+
+  @Test
+  public void testErrors() throws IOException {
+    try (JSONLinesReader reader = new JSONLinesReader(new StringReader("{ \"id\": 1 }\n{ \"id\": 2 \n{ \"id\": 3 }"))) {
+      assertEquals("{ \"id\": 1 }", reader.read().toJSON());
+      reader.read();
+      fail("Must throw an exception");
+    } catch (UnexpectedElementException e) {
+      assertEquals(3, e.getPosition().getLine());
+      assertEquals(1, e.getPosition().getRow());
+    } catch (JSONParseException e) {
+      fail("Unexpected exception " + e);
+    }
+
+    try (JSONLinesReader reader = new JSONLinesReader(new StringReader("[ 1 ]\n:"))) {
+      reader.stream().count();
+      fail("Must throw an exception");
+    } catch (UncheckedJSONParseException e) {
+      assertTrue(e.getCause() instanceof UnexpectedElementException);
+      assertEquals(2, e.getCause().getPosition().getLine());
+    }
+  }
+
+  @Test
+  public void testWrite() throws IOException, JSONParseException {
+    StringWriter sw = new StringWriter();
+    try (JSONLinesWriter writer = new JSONLinesWriter(sw)) {
+      writer.write(JSON.parse("{ \"id\": 1, \"list\": [ 1, 2 ] }"));
+      writer.write(new Book(2, "Origin"));
+      writer.writeAll(Arrays.asList("text", 12, null));
+    }
+    assertEquals("{ \"id\": 1, \"list\": [ 1, 2 ] }\n{ \"id\": 2, \"name\": \"Origin\" }\n\"text\"\n12\nnull\n", sw.toString());
+  }
+
+  @Test
+  public void testWriteEscapedStrings() throws IOException {
+    StringWriter sw = new StringWriter();
+    try (JSONLinesWriter writer = new JSONLinesWriter(sw)) {
+      writer.write(new JSONString("a \"quoted\" line\n"));
+      writer.write(new JSONArray("q\""));
+      writer.write(new Book(1, "The \"double\""));
+    }
+    assertEquals("\"a \\\"quoted\\\" line\\n\"\n[ \"q\\\"\" ]\n{ \"id\": 1, \"name\": \"The \\\"double\\\"\" }\n", sw.toString());
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException, JSONParseException {
+    Path path = folder.newFile().toPath();
+    try (JSONLinesWriter writer = new JSONLinesWriter(path)) {
+      for (int i = 0; i < 1000; i++) {
+        writer.write(new Book(i, "Libro número " + i));
+      }
+    }
+    try (JSONLinesWriter writer = new JSONLinesWriter(path, StandardOpenOption.APPEND)) {
+      writer.write(new Book(1000, "Último"));
+    }
+    assertEquals(1001, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+
+    long sum = 0;
+    try (JSONLinesReader reader = new JSONLinesReader(path)) {
+      JSONValue value;
+      while ((value = reader.read()) != null) {
+        sum += ((JSONObject) value).getNullInteger("id");
+      }
+    }
+    assertEquals(1000 * 1001 / 2, sum);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JSONLinesWriter writer = new JSONLinesWriter(out)) {
+      writer.write(new Book(3, "Año"));
+    }
+    try (JSONLinesReader reader = new JSONLinesReader(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals("Año", ((JSONObject) reader.read()).getNullString("name"));
+    }
+  }
+
+  private Path createLines(int records) throws IOException {
+    Path path = folder.newFile().toPath();
+    try (JSONLinesWriter writer = new JSONLinesWriter(path)) {
+      for (int i = 0; i < records; i++) {
+        writer.write(new Book(i, "Libro número " + i));
+      }
+    }
+    return path;
+  }
+
+  @Test
+  public void testParallelStreamOrdered() throws IOException, InterruptedException, ExecutionException {
+    Path path = createLines(2000);
+    List<String> expected;
+    try (JSONLinesReader reader = new JSONLinesReader(path)) {
+      expected = reader.stream().map(JSONValue::toJSON).collect(Collectors.toList());
+    }
+    for (long splitSize : new long[]{1, 100, 4096, LinesSpliterator.DEFAULT_SPLIT_SIZE}) {
+      try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(path, true, splitSize)) {
+        assertTrue(stream.isParallel());
+        assertEquals(expected, stream.map(JSONValue::toJSON).collect(Collectors.toList()));
+      }
+    }
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(path, true, 64)) {
+      List<String> list = pool.submit(() -> stream.map(JSONValue::toJSON).collect(Collectors.toList())).get();
+      assertEquals(expected, list);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelStreamUnordered() throws IOException {
+    Path path = createLines(3000);
+    try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(path, false, 256)) {
+      long sum = stream.mapToLong(value -> ((JSONObject) value).getNullInteger("id")).sum();
+      assertEquals(2999 * 3000 / 2, sum);
+    }
+    try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(folder.newFile().toPath())) {
+      assertEquals(0, stream.count());
+    }
+  }
+
+  @Test
+  public void testParallelStreamErrors() throws IOException {
+    Path path = folder.newFile().toPath();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 500; i++) {
+      sb.append(i == 321 ? "{ \"id\": 1,, }" : "{ \"id\": 1 }").append('\n');
+    }
+    Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+    try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(path, false, 100)) {
+      stream.count();
+      fail("Must throw an exception");
+    } catch (UncheckedJSONParseException e) {
+      assertTrue(e.getCause() instanceof UnexpectedElementException);
+      assertEquals(322, e.getCause().getPosition().getLine());
+      assertEquals(11, e.getCause().getPosition().getRow());
+    }
+
+    sb.setLength(0);
+    for (int i = 0; i < 500; i++) {
+      sb.append(i == 499 ? "{ \"id\": [ 1" : "{ \"id\": 1 }").append('\n');
+    }
+    Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+    try (Stream<JSONValue> stream = JSONLinesReader.parallelStream(path, false, 100)) {
+      stream.count();
+      fail("Must throw an exception");
+    } catch (UncheckedJSONParseException e) {
+      assertTrue(e.getCause() instanceof EOSException);
+      assertEquals(500, e.getCause().getPosition().getLine());
+    }
+  }
+}
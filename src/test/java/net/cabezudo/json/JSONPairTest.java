@@ -1,12 +1,21 @@
 package net.cabezudo.json;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONObject;
 import net.cabezudo.json.values.JSONString;
 import net.cabezudo.json.values.JSONValue;
 import static org.junit.Assert.assertEquals;
@@ -42,6 +51,31 @@ public class JSONPairTest {
     assertTrue(comparation < 0);
   }
 
+  @Test
+  public void testPosition() throws JSONParseException, IOException, PropertyNotExistException {
+    Log.debug("Take the position of the colon for a JSONPair.");
+    String document = "{\n  \"a\"  :  1}";
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    List<JSONValue> values = new ArrayList<>();
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+    parser.feed(bytes, 0, bytes.length);
+    parser.endOfInput();
+    JSONValue[] parsed = {
+      JSON.parse(document),
+      JSON.parse(new StringReader(document)),
+      JSON.parse(bytes, 0, bytes.length),
+      JSON.parseIndexed(bytes, 0, bytes.length),
+      JSON.parse(ByteBuffer.wrap(bytes)),
+      JSON.parse((ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()),
+      JSON.parseLazy(document),
+      JSON.parse(document, new Projection("a")),
+      values.get(0)
+    };
+    for (JSONValue value : parsed) {
+      assertEquals(new Position(2, 8), ((JSONObject) value).getElement("a").getPosition());
+    }
+  }
+
   @Test
   public void testEquals() {
     Log.debug("Compare two objects JSONPair for equality.");
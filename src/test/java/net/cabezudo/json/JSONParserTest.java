@@ -0,0 +1,179 @@
+package net.cabezudo.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONParserTest {
+
+  private static final String[] DOCUMENTS = {
+    "{ \"id\": 1, \"name\": \"Evolution\", \"tags\": [ \"a\", \"b\" ] }",
+    "[ 1, 2.5, -3e2, true, false, null ]",
+    "{ \"id\": 2, \"name\": \"Origin\", \"nested\": { \"id\": 3 } }",
+    "\n\n  { \"escaped\": \"a\\\"b\", \"empty\": {} }  "
+  };
+
+  @Test
+  public void testReuse() throws JSONParseException {
+    JSONParser parser = new JSONParser();
+    for (int i = 0; i < 3; i++) {
+      for (String document : DOCUMENTS) {
+        JSONValue expected = JSON.parse(document);
+        assertEquals(expected.toJSON(), parser.parse(document).toJSON());
+        assertEquals(expected.getPosition(), parser.parse(document).getPosition());
+        byte[] bytes = ("  " + document).getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.toJSON(), parser.parse(bytes, 2, bytes.length - 2).toJSON());
+        char[] chars = ("x" + document + "x").toCharArray();
+        assertEquals(expected.toJSON(), parser.parse(chars, 1, chars.length - 2).toJSON());
+      }
+    }
+  }
+
+  @Test
+  public void testErrorsAndReuse() throws JSONParseException {
+    JSONParser parser = new JSONParser();
+    String[] invalid = {"{ \"a\": 1 ", "[ 1 2 ]", "", "{ \"a\":\n x }"};
+    for (String document : invalid) {
+      JSONParseException expected = null;
+      try {
+        parseWithNewLexer(document);
+        fail("Must throw an exception");
+      } catch (JSONParseException e) {
+        expected = e;
+      }
+      try {
+        parser.parse(document);
+        fail("Must throw an exception");
+      } catch (JSONParseException e) {
+        assertEquals(expected, e);
+      }
+      assertEquals(JSON.parse(DOCUMENTS[0]).toJSON(), parser.parse(DOCUMENTS[0]).toJSON());
+    }
+  }
+
+  private JSONValue parseWithNewLexer(String document) throws JSONParseException {
+    return JSON.parse(new CharArrayLexer(document.toCharArray()));
+  }
+
+  @Test
+  public void testLargeDocuments() throws JSONParseException {
+    JSONParser parser = new JSONParser();
+    StringBuilder sb = new StringBuilder("[ ");
+    for (int i = 0; i < 20000; i++) {
+      sb.append(i > 0 ? ", " : "").append(i);
+    }
+    String large = sb.append(" ]").toString();
+    assertEquals(parseWithNewLexer(large).toJSON(), parser.parse(large).toJSON());
+    assertEquals(JSON.parse(DOCUMENTS[1]).toJSON(), parser.parse(DOCUMENTS[1]).toJSON());
+  }
+
+  @Test
+  public void testPositions() throws JSONParseException, PropertyNotExistException {
+    JSONParser parser = new JSONParser().setPositionMode(JSONParser.PositionMode.NONE);
+    assertSame(JSONParser.PositionMode.NONE, parser.getPositionMode());
+    JSONObject object = parser.parse(DOCUMENTS[2]).toJSONObject();
+    assertEquals(JSON.parse(DOCUMENTS[2]).toJSON(), object.toJSON());
+    assertNull(object.getPosition());
+    assertNull(object.getValue("name").getPosition());
+    assertNull(object.getValue("nested").getPosition());
+    try {
+      parser.parse("{ \"a\": [ 1,\n 2 3 ] }");
+      fail("Must throw an exception");
+    } catch (UnexpectedElementException e) {
+      assertEquals(new Position(2, 4), e.getPosition());
+    }
+  }
+
+  @Test
+  public void testOffsetPositions() throws JSONParseException {
+    String document = "\n{ \"id\": 1,\n  \"name\": \"a \\\"quoted\\\" \\/ name\",\n\t\"tags\": [\n    \"x\", { \"y\": [ ] },\n    [ \"z\" ]\n  ],\n"
+            + "  \"text\": \"first\nsecond\", \"last\": { \"k\": \"v\" } }\n";
+    JSONParser parser = new JSONParser().setPositionMode(JSONParser.PositionMode.OFFSET);
+    JSONValue expected = JSON.parse(document);
+    for (int i = 0; i < 2; i++) {
+      JSONValue value = parser.parse(document);
+      assertEquals(expected.toJSON(), value.toJSON());
+      TestDocuments.assertSamePositions(expected, value);
+      char[] chars = ("xx\n" + document).toCharArray();
+      TestDocuments.assertSamePositions(expected, parser.parse(chars, 3, chars.length - 3));
+      byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+      TestDocuments.assertSamePositions(expected, parser.parse(bytes, 0, bytes.length));
+    }
+    try {
+      parser.parse("{ \"a\": [ 1,\n 2 3 ] }");
+      fail("Must throw an exception");
+    } catch (UnexpectedElementException e) {
+      assertEquals(new Position(2, 4), e.getPosition());
+    }
+  }
+
+  @Test
+  public void testNumberMode() throws JSONParseException, PropertyNotExistException {
+    JSONParser parser = new JSONParser().setNumberMode(JSONParser.NumberMode.DOUBLE);
+    assertSame(JSONParser.NumberMode.DOUBLE, parser.getNumberMode());
+    String document = "{ \"a\": 12.25, \"b\": -3e2, \"c\": 0.1, \"d\": 123456789012, \"e\": 1.0000001 }";
+    assertEquals(JSON.parse(document).toJSON(), parser.parse(document).toJSON());
+    JSONObject object = parser.parse(document).toJSONObject();
+    assertEquals(12.25, object.getDouble("a"), 0);
+    assertEquals(0.1, object.getDouble("c"), 0);
+  }
+
+  @Test
+  public void testGetDouble() throws JSONParseException {
+    Random random = new Random(17);
+    String[] fixed = {"0", "-0", "1", "0.1", "1e22", "1e23", "123456789012345", "1234567890123456789", "4.9e-324", "1.7976931348623157e308", "2.2250738585072014E-308",
+      "0.000001", "1E-7", "-12.5e+3", "9007199254740993", "0.30000000000000004", "1e-400", "+5"};
+    for (String number : fixed) {
+      assertDouble(number);
+    }
+    for (int i = 0; i < 10000; i++) {
+      String number = (random.nextBoolean() ? "-" : "") + Math.abs(random.nextLong() % 10_000_000_000L) + "." + random.nextInt(100000) + "e" + (random.nextInt(60) - 30);
+      assertDouble(number);
+      assertDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+    }
+  }
+
+  private void assertDouble(String number) throws JSONParseException {
+    JSONReader reader = new JSONReader(new CharArrayLexer(("[ " + number + " ]").toCharArray()));
+    reader.nextToken();
+    reader.nextToken();
+    assertEquals(number, Double.doubleToLongBits(Double.parseDouble(number)), Double.doubleToLongBits(reader.getDouble()));
+  }
+
+  @Test
+  public void testLimits() throws JSONParseException {
+    JSONParser parser = new JSONParser().setMaxDepth(3).setMaxLength(40);
+    assertEquals("{ \"a\": [ {  } ] }", parser.parse("{ \"a\": [ {} ] }").toJSON());
+    try {
+      parser.parse("{ \"a\": [ { \"b\": [ ] } ] }");
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(new Position(1, 17), e.getPosition());
+    }
+    try {
+      parser.parse("[ \"" + "x".repeat(40) + "\" ]");
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(Position.INITIAL, e.getPosition());
+    }
+    try {
+      new JSONParser().setMaxDepth(0);
+      fail("Must throw an exception");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+}
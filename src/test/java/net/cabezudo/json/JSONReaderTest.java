@@ -0,0 +1,140 @@
+package net.cabezudo.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONReaderTest {
+
+  private JSONReader getReader(String string, int bufferSize) {
+    return new JSONReader(new ReaderLexer(new StringReader(string), bufferSize));
+  }
+
+  @Test
+  public void testNextToken() throws JSONParseException {
+    JSONReader reader = getReader("{ \"a\": [ 1, \"b\", true, false, null ], \"c\": {} }", 4);
+    TokenType[] expected = {
+      TokenType.LEFT_BRACE, TokenType.KEY, TokenType.LEFT_BRACKET, TokenType.NUMBER, TokenType.STRING, TokenType.TRUE, TokenType.FALSE, TokenType.NULL,
+      TokenType.RIGHT_BRACKET, TokenType.KEY, TokenType.LEFT_BRACE, TokenType.RIGHT_BRACE, TokenType.RIGHT_BRACE, TokenType.END
+    };
+    for (TokenType type : expected) {
+      assertEquals(type, reader.nextToken());
+      assertEquals(type, reader.getToken());
+    }
+    assertEquals(TokenType.END, reader.nextToken());
+  }
+
+  @Test
+  public void testValues() throws JSONParseException {
+    JSONReader reader = getReader("{ \"name\": \"George \\\"Baby Face\\\" Nelson\", \"id\": 9007199254740993, \"size\": 12, \"ratio\": 1.25, \"active\": TRUE }", 3);
+    reader.nextToken();
+    assertEquals(TokenType.KEY, reader.nextToken());
+    assertEquals("name", reader.getString());
+    reader.nextToken();
+    assertEquals("George \"Baby Face\" Nelson", reader.getString());
+    reader.nextToken();
+    reader.nextToken();
+    assertEquals(9007199254740993L, reader.getLong());
+    reader.nextToken();
+    reader.nextToken();
+    assertEquals(12, reader.getInt());
+    reader.nextToken();
+    reader.nextToken();
+    assertEquals(1.25, reader.getDouble(), 0);
+    reader.nextToken();
+    reader.nextToken();
+    assertTrue(reader.getBoolean());
+  }
+
+  @Test
+  public void testSkipChildren() throws JSONParseException {
+    JSONReader reader = getReader("[ { \"a\": [ 1, [ 2 ], { \"b\": 3 } ] }, 4 ]", 5);
+    reader.nextToken();
+    assertEquals(TokenType.LEFT_BRACE, reader.nextToken());
+    assertEquals(2, reader.getDepth());
+    reader.skipChildren();
+    assertEquals(TokenType.RIGHT_BRACE, reader.getToken());
+    assertEquals(1, reader.getDepth());
+    assertEquals(TokenType.NUMBER, reader.nextToken());
+    assertEquals(4, reader.getInt());
+  }
+
+  @Test
+  public void testReadValue() throws JSONParseException, PropertyNotExistException {
+    JSONReader reader = getReader("[ { \"a\": 1 }, { \"a\": 2 } ]", 2);
+    reader.nextToken();
+    int sum = 0;
+    while (reader.nextToken() == TokenType.LEFT_BRACE) {
+      JSONObject jsonObject = reader.readValue().toJSONObject();
+      sum += jsonObject.getInteger("a");
+    }
+    assertEquals(TokenType.RIGHT_BRACKET, reader.getToken());
+    assertEquals(3, sum);
+  }
+
+  @Test
+  public void testInputStream() throws JSONParseException, ElementNotExistException, IOException {
+    byte[] data = "[ \"áéíóú\", \"日本\" ]".getBytes(StandardCharsets.UTF_8);
+    try (JSONReader reader = new JSONReader(new ByteArrayInputStream(data))) {
+      reader.nextToken();
+      JSONArray jsonArray = reader.readValue().toJSONArray();
+      assertEquals("áéíóú", jsonArray.getValue(0).toString());
+      assertEquals("日本", jsonArray.getValue(1).toString());
+    }
+  }
+
+  @Test
+  public void testParseReader() throws JSONParseException, IOException {
+    String string = "{\n  \"a\": [ 1, 2 ],\n  \"b\": \"c\"\n}";
+    JSONObject jsonObject = JSON.parse(new StringReader(string)).toJSONObject();
+    assertEquals(JSON.parse(string).toJSON(), jsonObject.toJSON());
+  }
+
+  @Test
+  public void testPositionAcrossBuffers() {
+    String string = "{\n  \"a\": [ 1, 2 ],\n  \"b\": \"c\" x\n}";
+    try {
+      JSON.parse(new ReaderLexer(new StringReader(string), 3));
+      fail("Must throw an UnexpectedElementException.");
+    } catch (UnexpectedElementException e) {
+      assertEquals("Unexpected element: x", e.getMessage());
+      assertEquals(3, e.getPosition().getLine());
+      assertEquals(12, e.getPosition().getRow());
+    } catch (JSONParseException e) {
+      fail(e.getMessage());
+    }
+  }
+
+  @Test(expected = EOSException.class)
+  public void testUnterminatedObject() throws JSONParseException {
+    JSONReader reader = getReader("{ \"a\": [ 1 ]", 4);
+    while (reader.nextToken() != TokenType.END) {
+      assertFalse(reader.getDepth() < 0);
+    }
+  }
+
+  @Test(expected = UnexpectedElementException.class)
+  public void testContentAfterRoot() throws JSONParseException {
+    JSONReader reader = getReader("{} {}", 4);
+    reader.nextToken();
+    reader.skipChildren();
+    reader.nextToken();
+  }
+}
@@ -4,19 +4,25 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.concurrent.Callable;
 import net.cabezudo.json.exceptions.EOSException;
 import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.annotations.JSONProperty;
 import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.NotPropertiesException;
 import net.cabezudo.json.exceptions.PropertyNotExistException;
 import net.cabezudo.json.exceptions.UnexpectedElementException;
 import net.cabezudo.json.objects.Book;
@@ -244,6 +250,64 @@ public class JSONTest {
     assertEquals(expected, jsonValue.toJSON());
   }
 
+  @Test
+  public void testEndOfSourcePositions() throws JSONParseException {
+    checkEOSException("{\"k00\":[{\"k10\":0},-1],\"k21\":9", 1, 28);
+    checkEOSException("{\"a\":1", 1, 5);
+    checkEOSException("{\"a\":1,", 1, 7);
+    checkEOSException("{\"a\":1,\"b\"", 1, 8);
+    checkEOSException("{\"a\"", 1, 1);
+    checkEOSException("{\"a\":", 1, 5);
+    checkEOSException("{ \"a\": [ 1, 2 ", 1, 8);
+    checkEOSException("[\"abc", 1, 6);
+  }
+
+  @Test
+  public void testEscapedCharacterPositions() throws IOException {
+    checkAllParsers("[\"a\\\nb\", x]", new Position(1, 10));
+    checkAllParsers("[\"a\\", new Position(1, 5));
+  }
+
+  private void checkAllParsers(String document, Position expected) throws IOException {
+    byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    List<Callable<?>> parsers = Arrays.asList(
+            () -> JSON.parse(document),
+            () -> JSON.parse(new StringReader(document)),
+            () -> JSON.parse(bytes, 0, bytes.length),
+            () -> JSON.parseIndexed(bytes, 0, bytes.length),
+            () -> JSON.parse(direct),
+            () -> JSON.parseLazy(document),
+            () -> {
+              NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+              });
+              parser.feed(bytes, 0, bytes.length);
+              parser.endOfInput();
+              return null;
+            });
+    for (int i = 0; i < parsers.size(); i++) {
+      try {
+        parsers.get(i).call();
+        fail("Parser " + i + " must throw an exception for " + document);
+      } catch (JSONParseException e) {
+        assertEquals("Parser " + i + " for " + document, expected, e.getPosition());
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  @Test
+  public void testValueAfterRoot() throws JSONParseException {
+    try {
+      JSON.parse("true x");
+      fail("Must throw an exception");
+    } catch (UnexpectedElementException e) {
+      assertEquals(new UnexpectedElementException("true", new Position(1, 1)), e);
+    }
+  }
+
   @Test
   public void testParseWithEndsOfLines() throws PropertyNotExistException {
     String jsonStringData
@@ -266,6 +330,15 @@ public class JSONTest {
     }
   }
 
+  private void checkEOSException(String jsonStringData, int line, int row) throws JSONParseException {
+    try {
+      JSON.parse(jsonStringData);
+      fail("Must throw an exception for " + jsonStringData);
+    } catch (EOSException e) {
+      assertEquals(jsonStringData, new Position(line, row), e.getPosition());
+    }
+  }
+
   private void checkUnexpectedElementException(
           String jsonStringData, String value, int line, int row)
           throws JSONParseException {
@@ -362,4 +435,93 @@ public class JSONTest {
       fail(e.getMessage());
     }
   }
+
+  @Test
+  public void testWrite() throws IOException, JSONParseException, ElementNotExistException {
+    Types types = new Types();
+    StringBuilder sb = new StringBuilder();
+    JSON.write(types, sb);
+    assertEquals(JSON.toJSONTree(types).toJSON(), sb.toString());
+
+    List<Object> list = new ArrayList<>();
+    list.add(new Book(1, "Evolution"));
+    list.add(new Book[]{new Book(2, "The \"double\"\\\n")});
+    list.add("A \"string\"");
+    sb = new StringBuilder();
+    JSON.write(list, sb);
+    String expected = "[ { \"id\": 1, \"name\": \"Evolution\" }, [ { \"id\": 2, \"name\": \"The \\\"double\\\"\\\\\\n\" } ], \"A \\\"string\\\"\" ]";
+    assertEquals(expected, sb.toString());
+    assertEquals(JSON.toJSONTree(list).toJSON(), sb.toString());
+    assertEquals("The \"double\"\\\n", JSON.parse(sb.toString()).toJSONArray().getValue(1).toJSONArray().getValue(0).toJSONObject().getNullString("name"));
+  }
+
+  @Test
+  public void testWriteHiddenProperties() throws IOException {
+    Hidden hidden = new Hidden();
+    StringBuilder sb = new StringBuilder();
+    JSON.write(hidden, sb);
+    assertEquals("{ \"books\": [  ], \"name\": \"hidden\" }", sb.toString());
+    assertEquals(JSON.toJSONTree(hidden).toJSON(), sb.toString());
+
+    hidden.decimal = 3;
+    hidden.number = 2;
+    hidden.numbers = new int[]{1};
+    hidden.books = Arrays.asList(new Book(1, "Evolution"));
+    hidden.value = new BigDecimal("25");
+    sb = new StringBuilder();
+    JSON.write(hidden, sb);
+    assertEquals("{ \"decimal\": 3, \"number\": 2, \"numbers\": [ 1 ], \"books\": [ { \"id\": 1, \"name\": \"Evolution\" } ], \"name\": \"hidden\", \"value\": 25 }", sb.toString());
+    assertEquals(JSON.toJSONTree(hidden).toJSON(), sb.toString());
+  }
+
+  @Test(expected = NotPropertiesException.class)
+  public void testWriteWithoutProperties() throws IOException {
+    JSON.write(new Object(), new StringBuilder());
+  }
+
+  public static class Hidden {
+
+    @JSONProperty(dontShowIfZero = true)
+    private double decimal;
+    @JSONProperty(dontShowIfZero = true)
+    private int number;
+    @JSONProperty(dontShowIfEmpty = true)
+    private int[] numbers = {};
+    @JSONProperty(dontShowIfEmpty = true)
+    private List<Book> books = new ArrayList<>();
+    @JSONProperty(dontShowIfNull = true)
+    private String description;
+    @JSONProperty
+    private final String name = "hidden";
+    @JSONProperty(dontShowIfZero = true)
+    private BigDecimal value = new BigDecimal("0.00");
+
+    public double getDecimal() {
+      return decimal;
+    }
+
+    public int getNumber() {
+      return number;
+    }
+
+    public int[] getNumbers() {
+      return numbers;
+    }
+
+    public List<Book> getBooks() {
+      return books;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public BigDecimal getValue() {
+      return value;
+    }
+  }
 }
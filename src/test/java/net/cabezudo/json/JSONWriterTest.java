@@ -0,0 +1,66 @@
+package net.cabezudo.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class JSONWriterTest {
+
+  @Test
+  public void testWriteTokens() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    JSONWriter writer = new JSONWriter(sb);
+    writer.beginObject()
+            .name("name").value("Esteban")
+            .name("age").value(44)
+            .name("height").value(new BigDecimal("1.80"))
+            .name("active").value(true)
+            .name("books").beginArray().value(1).beginObject().endObject().beginArray().endArray().endArray()
+            .name("empty").nullValue()
+            .endObject();
+    assertEquals("{ \"name\": \"Esteban\", \"age\": 44, \"height\": 1.80, \"active\": true, \"books\": [ 1, {  }, [  ] ], \"empty\": null }", sb.toString());
+    assertEquals(0, writer.getDepth());
+  }
+
+  @Test
+  public void testEscape() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    JSONWriter writer = new JSONWriter(sb);
+    writer.beginArray().value("a\"b\\c\nd\te\u0001").endArray();
+    assertEquals("[ \"a\\\"b\\\\c\\nd\\te\\u0001\" ]", sb.toString());
+  }
+
+  @Test
+  public void testWriteTo() throws JSONParseException, IOException {
+    String jsonString = "{ \"array\": [ 1, 2, \"3\", 4 ], \"boolean\": true, \"null\": null, \"number\": 324.3, \"object\": { \"string\": \"George \\\"Baby Face\\\" Nelson\" } }";
+    JSONObject jsonObject = JSON.parse(jsonString).toJSONObject();
+    StringWriter stringWriter = new StringWriter();
+    jsonObject.writeTo(new JSONWriter(stringWriter));
+    assertEquals(jsonString, stringWriter.toString());
+    assertEquals(jsonString, jsonObject.toJSON());
+  }
+
+  @Test
+  public void testOutputStream() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (JSONWriter writer = new JSONWriter(outputStream)) {
+      writer.beginArray().value("日本").endArray();
+    }
+    assertEquals("[ \"日本\" ]", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnbalancedEnd() throws IOException {
+    new JSONWriter(new StringBuilder()).beginArray().endArray().endArray();
+  }
+}
@@ -0,0 +1,121 @@
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class LazyParseTest {
+
+  private static final String DOCUMENT = "{\n"
+          + "  \"name\": \"Esteban\",\n"
+          + "  \"greeting\": \"Hello \\\"world\\\" { [\",\n"
+          + "  \"age\": 42,\n"
+          + "  \"height\": 1.75e0,\n"
+          + "  \"active\": true,\n"
+          + "  \"nothing\": null,\n"
+          + "  \"address\": {\n"
+          + "    \"street\": \"Calle } ]\",\n"
+          + "    \"location\": { \"lat\": 19.43, \"lng\": -99.13 }\n"
+          + "  },\n"
+          + "  \"books\": [\n"
+          + "    { \"title\": \"One\", \"tags\": [ \"a\", \"b\" ] },\n"
+          + "    { \"title\": \"Two\", \"tags\": [ ] },\n"
+          + "  ],\n"
+          + "  \"matrix\": [ [ 1, 2 ], [ 3, 4 ] ]\n"
+          + "}";
+
+  @Test
+  public void testParseLazy() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONObject expected = JSON.parse(DOCUMENT).toJSONObject();
+    JSONObject jsonObject = JSON.parseLazy(DOCUMENT).toJSONObject();
+    assertTrue(jsonObject instanceof LazyJSONObject);
+    assertEquals(expected.toJSON(), jsonObject.toJSON());
+    assertEquals("Esteban", jsonObject.getString("name"));
+    assertEquals(42, (int) jsonObject.getInteger("age"));
+    assertEquals("Calle } ]", jsonObject.digString("address.street"));
+    assertEquals("-99.13", jsonObject.digValue("address.location.lng").toString());
+    assertEquals("Two", jsonObject.getJSONArray("books").getObject(1).getString("title"));
+  }
+
+  @Test
+  public void testChildrenAreLazy() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONObject jsonObject = JSON.parseLazy(DOCUMENT).toJSONObject();
+    JSONValue address = jsonObject.getValue("address");
+    assertTrue(address instanceof LazyJSONObject);
+    assertSame(address, jsonObject.getValue("address"));
+    JSONArray books = jsonObject.getJSONArray("books");
+    assertTrue(books instanceof LazyJSONArray);
+    assertTrue(books.getObject(0) instanceof LazyJSONObject);
+    assertSame(books.getObject(0), books.getObject(0));
+  }
+
+  @Test
+  public void testPositions() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONObject expected = JSON.parse(DOCUMENT).toJSONObject();
+    JSONObject jsonObject = JSON.parseLazy(DOCUMENT).toJSONObject();
+    assertEquals(expected.getPosition(), jsonObject.getPosition());
+    assertEquals(expected.getElement("address").getPosition(), jsonObject.getElement("address").getPosition());
+    assertEquals(expected.getValue("greeting").getPosition(), jsonObject.getValue("greeting").getPosition());
+    JSONObject expectedLocation = expected.digObject("address.location");
+    JSONObject location = jsonObject.digObject("address.location");
+    assertEquals(expectedLocation.getPosition(), location.getPosition());
+    assertEquals(expectedLocation.getElement("lng").getPosition(), location.getElement("lng").getPosition());
+    JSONArray expectedBooks = expected.getJSONArray("books");
+    JSONArray books = jsonObject.getJSONArray("books");
+    assertEquals(expectedBooks.getObject(1).getPosition(), books.getObject(1).getPosition());
+  }
+
+  @Test
+  public void testChangeLazyObject() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    JSONObject jsonObject = JSON.parseLazy("{ \"a\": 1, \"b\": [ 2 ] }").toJSONObject();
+    jsonObject.add(new JSONPair("c", 3));
+    jsonObject.remove("a");
+    jsonObject.getJSONArray("b").add(4);
+    assertEquals("{ \"b\": [ 2, 4 ], \"c\": 3 }", jsonObject.toJSON());
+  }
+
+  @Test
+  public void testParseLazyErrors() {
+    String[] documents = { "", "{ \"a\": [ 1, 2 }", "{ \"a\": 1 } x", "{ \"a\" 1 }", "[ 1, tru ]" };
+    for (String document : documents) {
+      JSONParseException expected = null;
+      try {
+        JSON.parse(document);
+      } catch (JSONParseException e) {
+        expected = e;
+      }
+      try {
+        JSON.parseLazy(document);
+        fail("No exception for " + document);
+      } catch (JSONParseException e) {
+        assertEquals(expected.getMessage(), e.getMessage());
+        assertEquals(expected.getPosition(), e.getPosition());
+      }
+    }
+  }
+
+  @Test
+  public void testInvalidNames() {
+    String[] documents = { "{ \"a\": 1, \"a\": 2 }", "{\"a\":{\"x\":1,\"x\":2},\"b\":1}", "{\"\\k\":1}" };
+    for (String document : documents) {
+      try {
+        JSON.parseLazy(document);
+        fail("No exception for " + document);
+      } catch (JSONParseException e) {
+        assertEquals(JSON.validate(document).getPosition(), e.getPosition());
+      }
+    }
+  }
+}
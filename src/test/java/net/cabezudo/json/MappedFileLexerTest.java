@@ -0,0 +1,96 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class MappedFileLexerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path createFile(String content) throws IOException {
+    Path path = folder.newFile().toPath();
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return path;
+  }
+
+  private String createDocument(int records) {
+    StringBuilder sb = new StringBuilder("{ \"records\": [\n");
+    for (int i = 0; i < records; i++) {
+      sb.append(i > 0 ? ",\n" : "").append("  { \"id\": ").append(i).append(", \"name\": \"Señor número ").append(i).append("\", \"ratio\": ").append(i / 4.0).append(" }");
+    }
+    return sb.append("\n] }").toString();
+  }
+
+  @Test
+  public void testParsePath() throws IOException, JSONParseException {
+    String document = createDocument(1000);
+    Path path = createFile(document);
+    assertEquals(JSON.parse(document).toJSON(), JSON.parse(path).toJSON());
+    assertEquals(JSON.parse(document).toJSON(), JSON.parse(path, StandardCharsets.UTF_8).toJSON());
+  }
+
+  @Test
+  public void testRegions() throws IOException, JSONParseException {
+    String document = createDocument(50);
+    Path path = createFile(document);
+    String expected = JSON.parse(document).toJSON();
+    for (int regionSize : new int[]{1, 7, 64, 4096}) {
+      MappedFileLexer lexer = MappedFileLexer.open(path, regionSize);
+      try {
+        assertEquals(expected, JSON.parse(lexer).toJSON());
+      } finally {
+        lexer.close();
+      }
+    }
+  }
+
+  @Test
+  public void testReader() throws IOException, JSONParseException {
+    Path path = createFile(createDocument(500));
+    long sum = 0;
+    int count = 0;
+    try (JSONReader reader = new JSONReader(path)) {
+      while (reader.nextToken() != TokenType.END) {
+        if (reader.getToken() == TokenType.KEY && "id".equals(reader.getString())) {
+          reader.nextToken();
+          sum += reader.getLong();
+          count++;
+        }
+      }
+    }
+    assertEquals(500, count);
+    assertEquals(499 * 500 / 2, sum);
+  }
+
+  @Test
+  public void testErrors() throws IOException {
+    try {
+      JSON.parse(createFile("{ \"ñ\": \"México\",\n  \"b\" 1 }"));
+      fail("The document must be invalid.");
+    } catch (UnexpectedElementException e) {
+      assertEquals(new Position(2, 7), e.getPosition());
+    } catch (JSONParseException e) {
+      fail(e.getMessage());
+    }
+    try {
+      JSON.parse(createFile(""));
+      fail("The document must be invalid.");
+    } catch (JSONParseException e) {
+      assertEquals("Empty string.", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package net.cabezudo.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class NonBlockingJSONParserTest {
+
+  @Test
+  public void testEveryBoundary() throws JSONParseException {
+    byte[] bytes = ("\uFEFF" + TestDocuments.DOCUMENT).getBytes(StandardCharsets.UTF_8);
+    JSONValue expected = JSON.parse(bytes, 0, bytes.length);
+    for (int split = 0; split <= bytes.length; split++) {
+      List<JSONValue> values = new ArrayList<>();
+      NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+      parser.feed(bytes, 0, split);
+      parser.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+      parser.endOfInput();
+      assertEquals(1, values.size());
+      assertEquals(expected.toJSON(), values.get(0).toJSON());
+      TestDocuments.assertSamePositions(expected, values.get(0));
+    }
+  }
+
+  @Test
+  public void testRandomChunks() throws JSONParseException {
+    byte[] bytes = TestDocuments.DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    JSONValue expected = JSON.parse(bytes, 0, bytes.length);
+    Random random = new Random(20161016L);
+    for (int i = 0; i < 200; i++) {
+      List<JSONValue> values = new ArrayList<>();
+      NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+      int offset = 0;
+      while (offset < bytes.length) {
+        int length = Math.min(bytes.length - offset, random.nextInt(8));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        buffer.put(bytes, offset, length).flip();
+        parser.feed(buffer);
+        assertEquals(0, buffer.remaining());
+        offset += length;
+      }
+      parser.endOfInput();
+      TestDocuments.assertSamePositions(expected, values.get(0));
+    }
+  }
+
+  @Test
+  public void testSequence() throws JSONParseException {
+    List<JSONValue> values = new ArrayList<>();
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+    feed(parser, "{ \"a\": 1 }\n[ 1, 2 ]\n\"text\" 12");
+    assertEquals(3, values.size());
+    assertEquals("{ \"a\": 1 }", values.get(0).toJSON());
+    assertEquals("[ 1, 2 ]", values.get(1).toJSON());
+    assertEquals("\"text\"", values.get(2).toJSON());
+    assertEquals(new Position(3, 1), values.get(2).getPosition());
+    feed(parser, "3 true\u00A0null");
+    assertEquals(5, values.size());
+    parser.endOfInput();
+    assertEquals(6, values.size());
+    assertEquals("123", values.get(3).toJSON());
+    assertEquals("true", values.get(4).toJSON());
+    assertTrue(values.get(5).isNull());
+  }
+
+  @Test
+  public void testEmptyInput() throws JSONParseException {
+    List<JSONValue> values = new ArrayList<>();
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+    feed(parser, " \n\t");
+    parser.endOfInput();
+    assertEquals(0, values.size());
+  }
+
+  @Test
+  public void testInvalidDocuments() {
+    String[] documents = {
+      "{ \"a\" 1 }", "{ \"a\": 1 \"b\": 2 }", "[ 1 2 ]", "{ 1: 2 }", "[ : ]", "}", "[ 1, nul ]", "{ \"ñ\": [ tru\u00A0] }", "[ 1, 2, { \"a\": xyz } ]"
+    };
+    for (String document : documents) {
+      byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+      Position expected = null;
+      try {
+        JSON.parse(bytes, 0, bytes.length);
+        fail("Must throw an exception for " + document);
+      } catch (JSONParseException e) {
+        expected = e.getPosition();
+      }
+      for (int split = 0; split <= bytes.length; split++) {
+        NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+        });
+        try {
+          parser.feed(bytes, 0, split);
+          parser.feed(bytes, split, bytes.length - split);
+          parser.endOfInput();
+          fail("Must throw an exception for " + document);
+        } catch (JSONParseException e) {
+          assertEquals(document, expected, e.getPosition());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEndOfSource() throws JSONParseException {
+    String[] documents = {"{ \"a\": [ 1, 2 ", "{ \"a\":", "[ \"abc", "{ \"a\": { \"b\": 1 }"};
+    Position[] positions = {new Position(1, 8), new Position(1, 6), new Position(1, 7), new Position(1, 6)};
+    for (int i = 0; i < documents.length; i++) {
+      NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+      });
+      feed(parser, documents[i]);
+      try {
+        parser.endOfInput();
+        fail("Must throw an exception for " + documents[i]);
+      } catch (EOSException e) {
+        assertEquals(documents[i], positions[i], e.getPosition());
+      }
+    }
+  }
+
+  @Test
+  public void testPartialByteOrderMark() throws JSONParseException {
+    for (byte[] bytes : new byte[][]{{(byte) 0xEF}, {(byte) 0xEF, (byte) 0xBB}}) {
+      NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+      });
+      parser.feed(bytes, 0, bytes.length);
+      try {
+        parser.endOfInput();
+        fail("Must throw an exception");
+      } catch (JSONParseException e) {
+        assertEquals(new Position(1, 1), e.getPosition());
+      }
+    }
+    List<JSONValue> values = new ArrayList<>();
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(values::add);
+    parser.feed(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, 0, 3);
+    parser.endOfInput();
+    assertEquals(0, values.size());
+  }
+
+  @Test
+  public void testMaxDepth() throws JSONParseException {
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+    }).setMaxDepth(2);
+    feed(parser, "[ [ 1 ] ]");
+    assertEquals(0, parser.getDepth());
+    try {
+      feed(parser, "\n[ [ [ 1 ] ] ]");
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(new Position(2, 5), e.getPosition());
+    }
+    try {
+      feed(parser, "1");
+      fail("Must throw an exception");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testUseAfterEnd() throws JSONParseException {
+    NonBlockingJSONParser parser = new NonBlockingJSONParser(value -> {
+    });
+    parser.endOfInput();
+    try {
+      feed(parser, "1");
+      fail("Must throw an exception");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+  }
+
+  private static void feed(NonBlockingJSONParser parser, String text) throws JSONParseException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    parser.feed(bytes, 0, bytes.length);
+  }
+}
@@ -0,0 +1,109 @@
+package net.cabezudo.json;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import net.cabezudo.json.values.JSONNumber;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class NumberScannerTest {
+
+  private static final String[] NUMBERS = {
+    "0", "-0", "0.0", "-0.0", "1", "-1", "+5", "5.", ".5", "007", "12.50", "1e2", "1E+2", "15e-3", "-1.5e-10", "123456789012345678", "9223372036854775807",
+    "-9223372036854775808", "9223372036854775808", "12345678901234567890123", "0.1", "0.2", "0.3", "1.7976931348623157e308", "1.7976931348623159e308", "4.9e-324",
+    "2.2250738585072014E-308", "2.2250738585072011e-308", "1e-400", "1e400", "9007199254740993", "9007199254740992.5", "1.00000000000000011102230246251565404236316680908203125",
+    "0.000001", "0.0000005", "-0.0000005", "0.0000004999", "123.4567895", "1e-40", "3.14159265358979323846", "2.718281828459045", "1234567.8901234567"
+  };
+
+  @Test
+  public void testKnownNumbers() {
+    for (String text : NUMBERS) {
+      assertSameNumber(text);
+    }
+  }
+
+  @Test
+  public void testRandomNumbers() {
+    Random random = new Random(20161016L);
+    for (int i = 0; i < 200_000; i++) {
+      String text;
+      switch (i % 6) {
+        case 0:
+          text = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+          break;
+        case 1:
+          text = Double.toString(random.nextDouble() * 1000);
+          break;
+        case 2:
+          text = Long.toString(random.nextLong());
+          break;
+        case 3:
+          text = (random.nextLong() >>> random.nextInt(64)) + "e" + (random.nextInt(700) - 350);
+          break;
+        case 4:
+          text = random.nextInt(10_000_000) / 1000.0 + "";
+          break;
+        default:
+          text = (random.nextInt(2_000_000) - 1_000_000) + "." + random.nextInt(1000) + "e-" + random.nextInt(20);
+          break;
+      }
+      assertSameNumber(text);
+    }
+  }
+
+  @Test
+  public void testHalfwayNumbers() {
+    Random random = new Random(20161016L);
+    for (int i = 0; i < 10_000; i++) {
+      // The decimal value exactly between two doubles has to be rounded to the even double.
+      double value = Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+      BigDecimal next = new BigDecimal(Math.nextUp(value));
+      String text = new BigDecimal(value).add(next).divide(BigDecimal.valueOf(2)).toString();
+      assertSameNumber(text);
+    }
+    for (long mantissa = (1L << 53) + 1; mantissa < (1L << 53) + 100; mantissa += 2) {
+      assertSameNumber(Long.toString(mantissa));
+    }
+  }
+
+  @Test
+  public void testInvalidNumbers() {
+    NumberScanner scanner = new NumberScanner();
+    for (String text : new String[]{"", "-", ".", "1.2.3", "1e", "1e+", "--1", "1x", "0x10", "e5"}) {
+      assertFalse(text, scanner.scan(text.toCharArray(), 0, text.length()));
+    }
+  }
+
+  @Test
+  public void testLong() {
+    NumberScanner scanner = new NumberScanner();
+    assertTrue(scanner.scan("-9223372036854775807".toCharArray(), 0, 20));
+    assertEquals(-9223372036854775807L, scanner.getLong());
+    assertTrue(scanner.scan("15e2".toCharArray(), 0, 4));
+    assertEquals(1500, scanner.getLong());
+    assertTrue(scanner.scan("1.5".toCharArray(), 0, 3));
+    try {
+      scanner.getLong();
+      fail("Must throw an exception");
+    } catch (ArithmeticException e) {
+      // Expected
+    }
+  }
+
+  private static void assertSameNumber(String text) {
+    char[] chars = ("[" + text + "]").toCharArray();
+    NumberScanner scanner = new NumberScanner();
+    assertTrue(text, scanner.scan(chars, 1, text.length()));
+    BigDecimal expected = new BigDecimal(text);
+    assertEquals(text, Double.doubleToLongBits(Double.parseDouble(text)), Double.doubleToLongBits(scanner.getDouble()));
+    assertEquals(text, new JSONNumber(expected), scanner.getJSONNumber());
+    assertEquals(text, expected, scanner.getBigDecimal());
+  }
+}
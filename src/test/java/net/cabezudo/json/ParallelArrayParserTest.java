@@ -0,0 +1,129 @@
+package net.cabezudo.json;
+
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.exceptions.UnexpectedElementException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ParallelArrayParserTest {
+
+  private String createArray(int records) {
+    StringBuilder sb = new StringBuilder("\n[\n");
+    for (int i = 0; i < records; i++) {
+      sb.append(i > 0 ? ",\n" : "")
+              .append("  { \"id\": ").append(i)
+              .append(", \"name\": \"Libro }, { número ").append(i).append("\"")
+              .append(", \"tags\": [ { \"a\": 1 },{ \"b\": [ 2, 3 ] } ] }");
+    }
+    return sb.append("\n]\n").toString();
+  }
+
+  private void assertSame(String document) throws JSONParseException, ElementNotExistException, PropertyNotExistException {
+    JSONValue expected = JSON.parse(document);
+    for (int chunks = 1; chunks <= 17; chunks++) {
+      JSONValue value = ParallelArrayParser.parse(document.toCharArray(), chunks);
+      assertEquals(expected.toJSON(), value.toJSON());
+      assertEquals(expected.getPosition(), value.getPosition());
+      if (expected.isArray()) {
+        JSONArray expectedArray = (JSONArray) expected;
+        JSONArray array = (JSONArray) value;
+        assertEquals(expectedArray.size(), array.size());
+        for (int i = 0; i < array.size(); i++) {
+          assertEquals(expectedArray.getValue(i).getPosition(), array.getValue(i).getPosition());
+          if (array.getValue(i).isObject() && ((JSONObject) array.getValue(i)).getNullValue("name") != null) {
+            JSONObject expectedObject = (JSONObject) expectedArray.getValue(i);
+            JSONObject object = (JSONObject) array.getValue(i);
+            assertEquals(expectedObject.getValue("name").getPosition(), object.getValue("name").getPosition());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParse() throws Exception {
+    assertSame(createArray(1));
+    assertSame(createArray(100));
+    assertSame("[ 1, \"a, b\", true, null, [ 1, 2 ], { \"a\": \",\" }, 2.5 ]");
+    assertSame("[ [ 1, 2 ], [ 3, [ 4, 5 ], [ 6 ] ], [ ], [ 7 ], [ 8, 9, ], ]");
+    assertSame("[ ]");
+    assertSame("[ 1 ]");
+    assertSame("[ 1, 2, ]");
+    assertSame("{ \"a\": [ 1, 2, 3 ] }");
+  }
+
+  @Test
+  public void testParseParallel() throws Exception {
+    String document = createArray(5000);
+    assertEquals(JSON.parse(document).toJSON(), JSON.parseParallel(document).toJSON());
+  }
+
+  private void assertError(String document) {
+    JSONParseException expected = null;
+    try {
+      JSON.parse(document);
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      expected = e;
+    }
+    for (int chunks = 2; chunks <= 9; chunks++) {
+      try {
+        ParallelArrayParser.parse(document.toCharArray(), chunks);
+        fail("Must throw an exception");
+      } catch (JSONParseException e) {
+        assertEquals(expected, e);
+      }
+    }
+  }
+
+  @Test
+  public void testErrors() {
+    assertError("[ 1, 2, 3 4, 5, 6 ]");
+    assertError("[ 1, 2, 3,, 4, 5, 6 ]");
+    assertError("[ , 1, 2, 3, 4, 5, 6 ]");
+    assertError("[ 1, 2, 3, 4, 5, 6 ] ]");
+    assertError("[ { \"a\": 1 }, { \"a\": 2 }, { \"a\" 3 }, { \"a\": 4 } ]");
+    assertError("[ \"a\", \"b, \"c\", \"d\" ]");
+    assertError("[ 1, 2, 3, 4, 5, 6");
+    assertError(createArray(20).replace("\"id\": 17,", "\"id\": 17"));
+  }
+
+  @Test
+  public void testFirstErrorWithErrorsInOtherChunks() throws JSONParseException {
+    String document = createArray(60000)
+            .replace("\"id\": 5,", "\"id\": 5,,")
+            .replace("\"id\": 59999,", "\"id\": 59999, \"id\": 0,");
+    JSONParseException expected = null;
+    try {
+      JSON.parse(document);
+      fail("Must throw an exception");
+    } catch (UnexpectedElementException e) {
+      expected = e;
+    }
+    assertEquals(new Position(8, 13), expected.getPosition());
+    for (int chunks = 2; chunks <= 9; chunks++) {
+      try {
+        ParallelArrayParser.parse(document.toCharArray(), chunks);
+        fail("Must throw an exception");
+      } catch (JSONParseException e) {
+        assertEquals(expected, e);
+      }
+    }
+    try {
+      JSON.parseParallel(document);
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(expected, e);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.StringReader;
+import net.cabezudo.json.exceptions.EOSException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
+import net.cabezudo.json.values.JSONObject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ProjectionTest {
+
+  private static final String ORDER = "{\n"
+          + "  \"id\": 1234,\n"
+          + "  \"customer\": { \"id\": 7, \"name\": \"Esteban\", \"address\": { \"city\": \"México\" } },\n"
+          + "  \"notes\": [ \"a ] } \\\" [ {\", { \"x\": [ [ ], { } ] } ],\n"
+          + "  \"items\": [\n"
+          + "    { \"sku\": \"A-1\", \"quantity\": 2, \"tags\": [ \"new\" ] },\n"
+          + "    { \"sku\": \"B-2\", \"quantity\": 1, \"tags\": [ ] },\n"
+          + "    { \"sku\": \"C-3\", \"quantity\": 5 }\n"
+          + "  ],\n"
+          + "  \"total\": 99.5\n"
+          + "}";
+
+  private String project(String document, String... paths) throws JSONParseException, IOException {
+    Projection projection = new Projection(paths);
+    String result = JSON.parse(document, projection).toJSON();
+    assertEquals(result, JSON.parse(new StringReader(document), projection).toJSON());
+    return result;
+  }
+
+  @Test
+  public void testProjection() throws JSONParseException, IOException, PropertyNotExistException {
+    assertEquals("{ \"customer\": { \"id\": 7 }, \"items\": [ { \"sku\": \"A-1\" }, { \"sku\": \"B-2\" }, { \"sku\": \"C-3\" } ], \"total\": 99.5 }",
+            project(ORDER, "customer.id", "items.[*].sku", "total"));
+
+    JSONObject order = JSON.parse(ORDER, new Projection("customer.id", "items.[*].sku", "total")).toJSONObject();
+    assertEquals("B-2", order.digString("items.[1].sku"));
+    assertEquals(7, (int) order.digInteger("customer.id"));
+    assertNull(order.digNullValue("customer.name"));
+  }
+
+  @Test
+  public void testSubtrees() throws JSONParseException, IOException {
+    assertEquals("{ \"customer\": { \"id\": 7, \"name\": \"Esteban\", \"address\": { \"city\": \"México\" } } }", project(ORDER, "customer", "customer.name"));
+    assertEquals("{ \"notes\": [ \"a ] } \\\" [ {\", { \"x\": [ [  ], {  } ] } ] }", project(ORDER, "notes"));
+    assertEquals("{ \"id\": 1234 }", project(ORDER, "id", "unknown", "unknown.[2].a"));
+    assertEquals("{  }", project(ORDER, "total.value", "id.[0]"));
+  }
+
+  @Test
+  public void testIndexes() throws JSONParseException, IOException, PropertyNotExistException {
+    assertEquals("{ \"items\": [ null, { \"sku\": \"B-2\" } ] }", project(ORDER, "items.[1].sku"));
+    assertEquals("{ \"items\": [ { \"sku\": \"A-1\", \"quantity\": 2 }, { \"sku\": \"B-2\" }, { \"sku\": \"C-3\" } ] }", project(ORDER, "items.[*].sku", "items.[0].quantity"));
+    assertEquals("{ \"items\": [ null, null, { \"sku\": \"C-3\", \"quantity\": 5 } ] }", project(ORDER, "items.[2]"));
+    assertEquals("{ \"notes\": [ null, {  } ] }", project(ORDER, "notes.[*].y"));
+    assertEquals("[ { \"b\": 2 }, { } ]".replace("{ }", "{  }"), project("[ { \"a\": 1, \"b\": 2 }, { \"a\": 3 } ]", "[*].b"));
+
+    JSONObject order = JSON.parse(ORDER, new Projection("items.[1].sku")).toJSONObject();
+    assertEquals("B-2", order.digString("items.[1].sku"));
+  }
+
+  @Test
+  public void testErrors() throws IOException {
+    String document = "{ \"a\": 1, \"skip\": { \"b\": [ 1, 2 }, \"c\": 3 }";
+    JSONParseException expected = null;
+    try {
+      JSON.parse(document);
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      expected = e;
+    }
+    try {
+      JSON.parse("{ \"a\": 1, \"skip\": { \"b\": [ 1, 2 ] ", new Projection("a"));
+      fail("Must throw an exception");
+    } catch (EOSException e) {
+      assertEquals(1, e.getPosition().getLine());
+    } catch (JSONParseException e) {
+      fail("Unexpected exception " + e);
+    }
+    try {
+      JSON.parse("{ \"a\": 1, \"b\": { \"c\": 2 }\n, \"d\" 3 }", new Projection("a"));
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(2, e.getPosition().getLine());
+      assertEquals(7, e.getPosition().getRow());
+    }
+    try {
+      JSON.parse(document, new Projection("skip.b"));
+      fail("Must throw an exception");
+    } catch (JSONParseException e) {
+      assertEquals(expected, e);
+    }
+  }
+
+  @Test
+  public void testInvalidPaths() {
+    for (String path : new String[]{"", "a.", ".a", "a..b", "a.[x]", "a.[-1]", "a.[]", "a.[1"}) {
+      try {
+        new Projection(path);
+        fail("Must throw an exception for " + path);
+      } catch (IllegalArgumentException e) {
+        // Expected
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import net.cabezudo.json.exceptions.ElementNotExistException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.values.JSONArray;
+import net.cabezudo.json.values.JSONObject;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class SymbolsTest {
+
+  private static final String DOCUMENT = "[ { \"id\": 1, \"na\\/me\": \"a\", \"ñandú\": 1 }, { \"id\": 2, \"na/me\": \"b\", \"ñandú\": 2 } ]";
+
+  private static void assertSameKeys(JSONValue value) throws ElementNotExistException {
+    JSONArray array = value.toJSONArray();
+    JSONObject first = array.getObject(0);
+    JSONObject second = array.getObject(1);
+    assertEquals(first.getKeyList(), second.getKeyList());
+    assertSame(first.getChilds().get(0).getKey(), second.getChilds().get(0).getKey());
+    assertEquals("na/me", first.getChilds().get(1).getKey());
+    assertEquals("ñandú", first.getChilds().get(2).getKey());
+  }
+
+  @Test
+  public void testSameKeys() throws JSONParseException, ElementNotExistException, IOException {
+    byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    assertSameKeys(JSON.parse(DOCUMENT));
+    assertSameKeys(JSON.parse(new StringReader(DOCUMENT)));
+    assertSameKeys(JSON.parse(bytes, 0, bytes.length));
+    assertSameKeys(JSON.parse(direct));
+    assertSameKeys(JSON.parseIndexed(bytes, 0, bytes.length));
+    assertSameKeys(JSON.parseLazy(DOCUMENT));
+  }
+
+  @Test
+  public void testSymbols() {
+    Symbols symbols = new Symbols();
+    char[] chars = "xxnamexx".toCharArray();
+    byte[] bytes = "--name--".getBytes(StandardCharsets.US_ASCII);
+    String name = symbols.get(chars, 2, 4);
+    assertEquals("name", name);
+    assertSame(name, symbols.get(chars, 2, 4));
+    assertSame(name, symbols.get(bytes, 2, 4));
+    assertEquals("nam", symbols.get(bytes, 2, 3));
+    assertNull(symbols.get("é".getBytes(StandardCharsets.UTF_8), 0, 2));
+  }
+
+  @Test
+  public void testManySymbols() {
+    Symbols symbols = new Symbols();
+    String[] names = new String[Symbols.MAX_SIZE * 2 + 10];
+    for (int i = 0; i < names.length; i++) {
+      char[] chars = ("key" + i).toCharArray();
+      names[i] = symbols.get(chars, 0, chars.length);
+      assertEquals("key" + i, names[i]);
+    }
+    // The table was cleared when it was full, so the last names are kept.
+    for (int i = names.length - 10; i < names.length; i++) {
+      char[] chars = ("key" + i).toCharArray();
+      assertSame(names[i], symbols.get(chars, 0, chars.length));
+    }
+  }
+
+  @Test
+  public void testCollidingSymbols() {
+    Symbols symbols = new Symbols();
+    // All the combinations of "Aa" and "BB" have the same hash code.
+    for (int i = 0; i < 4096; i++) {
+      StringBuilder sb = new StringBuilder();
+      for (int bit = 0; bit < 12; bit++) {
+        sb.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+      }
+      char[] chars = sb.toString().toCharArray();
+      assertEquals(sb.toString(), symbols.get(chars, 0, chars.length));
+    }
+    char[] chars = "name".toCharArray();
+    String name = symbols.get(chars, 0, chars.length);
+    assertSame(name, symbols.get(chars, 0, chars.length));
+  }
+
+  @Test
+  public void testLongNames() {
+    Symbols symbols = new Symbols();
+    char[] chars = new char[Symbols.MAX_LENGTH + 1];
+    Arrays.fill(chars, 'a');
+    String name = symbols.get(chars, 0, chars.length);
+    assertEquals(new String(chars), name);
+    assertNotSame(name, symbols.get(chars, 0, chars.length));
+  }
+}
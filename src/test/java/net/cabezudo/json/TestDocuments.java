@@ -0,0 +1,54 @@
+package net.cabezudo.json;
+
+import java.util.Iterator;
+import net.cabezudo.json.values.JSONValue;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The documents and the checks shared by the tests of the lexers and the parsers.
+ *
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+final class TestDocuments {
+
+  /**
+   * A document with multibyte characters, a surrogate pair, escape sequences, a big number, uppercase literals and a non breaking space.
+   */
+  static final String DOCUMENT = "{\n"
+          + "  \"name\": \"Esteban\",\n"
+          + "  \"city\": \"Ciudad de México\",\n"
+          + "  \"greeting\": \"你好, \\\"world\\\" \\t \\u00e9\",\n"
+          + "  \"emoji\": \"\uD83D\uDE00\",\n"
+          + "  \"values\": [ 1, -2.5, 3e2, 12345678901234567890.5, true, FALSE, null ],\u00A0\n"
+          + "  \"ñandú\": { \"a\": \"\", \"b\": [ [], {} ] }\n"
+          + "}";
+
+  private TestDocuments() {
+    // Only to avoid the instantiation.
+  }
+
+  /**
+   * Check that two values have the same content and the same positions, including the positions of the pairs and of the values inside.
+   */
+  static void assertSamePositions(JSONValue expected, JSONValue value) {
+    assertEquals(expected.getPosition(), value.getPosition());
+    if (expected.isObject()) {
+      Iterator<JSONPair> pairs = value.toJSONObject().iterator();
+      for (JSONPair expectedPair : expected.toJSONObject()) {
+        JSONPair pair = pairs.next();
+        assertEquals(expectedPair.getPosition(), pair.getPosition());
+        assertEquals(expectedPair.getKey(), pair.getKey());
+        assertSamePositions(expectedPair.getValue(), pair.getValue());
+      }
+    } else if (expected.isArray()) {
+      Iterator<JSONValue> values = value.toJSONArray().iterator();
+      for (JSONValue expectedValue : expected.toJSONArray()) {
+        assertSamePositions(expectedValue, values.next());
+      }
+    } else {
+      assertEquals(expected, value);
+      assertEquals(value, expected);
+    }
+  }
+}
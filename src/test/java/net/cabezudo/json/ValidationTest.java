@@ -0,0 +1,128 @@
+package net.cabezudo.json;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import net.cabezudo.json.exceptions.JSONParseException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author <a href="http://cabezudo.net">Esteban Cabezudo</a>
+ * @version 0.9, 10/16/2026
+ */
+public class ValidationTest {
+
+  private static final String[] VALID = {
+    "{}",
+    "[ ]",
+    "{ \"a\": [ 1, -2.5e3, \"b\", true, false, null, { \"c\": {} } ] }",
+    "\n  [ 1, 2, ]  \n",
+    "{ \"name\": \"Señor \\\"x\\\"\", \"list\": [ [ [ ] ] ] }"
+  };
+
+  private static final String[] INVALID = {
+    "",
+    "   ",
+    "12",
+    "{ \"a\": 1 } x",
+    "{ \"a\" 1 }",
+    "{ \"a\": 1,\n \"b\": }",
+    "{ \"a\": [ 1, 2 }",
+    "[ 1 2 ]",
+    "[ 1, 2",
+    "{ \"a\": \"b }",
+    "{ \"a\": 1.2.3 }",
+    "{ \"a\": tru }",
+    "{ 1: 2 }",
+    "{ \"a\":\n",
+    "[\"a\\\nb\", x]",
+    "[\"a\\",
+    "[\"a\\\\\n\", x]",
+    "{ \"a\": \"b\\\n\",\n \"c\" }",
+    "[ \"a\\\"\n"
+  };
+
+  private void assertValid(String document) throws IOException {
+    assertTrue(document, JSON.validate(document).isValid());
+    assertTrue(document, JSON.validate(new StringBuilder(document)).isValid());
+    assertTrue(document, JSON.validate(document.getBytes(StandardCharsets.UTF_8)).isValid());
+    assertTrue(document, JSON.validate(new StringReader(document)).isValid());
+  }
+
+  private void assertInvalid(String document) throws IOException {
+    JSONParseException expected = null;
+    try {
+      JSON.parse(document);
+      fail("Must throw an exception for " + document);
+    } catch (JSONParseException e) {
+      expected = e;
+    }
+    ValidationResult[] results = {
+      JSON.validate(document), JSON.validate(new StringBuilder(document)), JSON.validate(document.getBytes(StandardCharsets.UTF_8)),
+      JSON.validate(new StringReader(document))
+    };
+    for (ValidationResult result : results) {
+      assertFalse(document, result.isValid());
+      assertEquals(document, expected, result.getException());
+      assertEquals(document, expected.getMessage(), result.getMessage());
+      assertEquals(document, expected.getPosition(), result.getPosition());
+    }
+  }
+
+  @Test
+  public void testValid() throws IOException {
+    for (String document : VALID) {
+      assertValid(document);
+    }
+    ValidationResult result = JSON.validate(VALID[2]);
+    assertNull(result.getException());
+    assertNull(result.getMessage());
+    assertNull(result.getPosition());
+  }
+
+  @Test
+  public void testInvalid() throws IOException {
+    for (String document : INVALID) {
+      assertInvalid(document);
+    }
+    ValidationResult result = JSON.validate("{ \"a\": 1,\n \"b\": }");
+    assertEquals(2, result.getPosition().getLine());
+    assertEquals(7, result.getPosition().getRow());
+  }
+
+  @Test
+  public void testInvalidKeys() throws IOException {
+    String[] documents = {"{ \"a\": 1, \"a\": 2 }", "{ \"\\q\": 1 }", "{ \"x\\u0e9i\": 1 }", "[ { \"a\": 1 }, { \"b\": { \"a\": 1 }, \"c\": 2,\n \"b\": 3 } ]"};
+    Position[] positions = {new Position(1, 11), new Position(1, 3), new Position(1, 3), new Position(2, 2)};
+    for (int i = 0; i < documents.length; i++) {
+      String document = documents[i];
+      try {
+        JSON.parse(document);
+        fail("Must throw an exception for " + document);
+      } catch (JSONParseException | RuntimeException e) {
+        // Expected
+      }
+      ValidationResult[] results = {
+        JSON.validate(document), JSON.validate(new StringBuilder(document)), JSON.validate(document.getBytes(StandardCharsets.UTF_8)),
+        JSON.validate(new StringReader(document))
+      };
+      for (ValidationResult result : results) {
+        assertFalse(document, result.isValid());
+        assertEquals(document, positions[i], result.getPosition());
+      }
+    }
+    assertValid("{ \"a\": { \"a\": 1 }, \"b\": [ { \"a\": 1 }, { \"a\": 2 } ], \"\\u0041\": 1 }");
+  }
+
+  @Test
+  public void testNull() throws IOException {
+    assertFalse(JSON.validate((CharSequence) null).isValid());
+    assertFalse(JSON.validate((byte[]) null).isValid());
+    assertFalse(JSON.validate((StringReader) null).isValid());
+  }
+}
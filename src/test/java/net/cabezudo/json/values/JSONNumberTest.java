@@ -2,8 +2,11 @@ package net.cabezudo.json.values;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Random;
 import net.cabezudo.json.exceptions.ElementNotExistException;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -244,4 +247,79 @@ public class JSONNumberTest {
     assertEquals("69.7", array[0]);
   }
 
+  private static BigDecimal normalize(BigDecimal value) {
+    return value.setScale(JSONNumber.DEFAULT_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+  }
+
+  private static void assertSameAsBigDecimal(JSONNumber jsonNumber, BigDecimal expected) {
+    assertEquals(expected, jsonNumber.toBigDecimal());
+    assertEquals(expected.signum() == 0 ? "0" : expected.toPlainString(), jsonNumber.toJSON());
+    assertEquals(expected.doubleValue(), jsonNumber.toDouble(), 0);
+    assertEquals(expected.floatValue(), jsonNumber.toFloat(), 0);
+    assertEquals(expected.hashCode(), jsonNumber.hashCode());
+  }
+
+  @Test
+  public void testPrimitiveValues() {
+    Random random = new Random(69);
+    long[] longs = {0, 1, -1, 10, 1000, -1200, Long.MAX_VALUE, Long.MIN_VALUE, 1_000_000_000_000_000_000L};
+    for (long l : longs) {
+      JSONNumber jsonNumber = new JSONNumber(l);
+      assertSameAsBigDecimal(jsonNumber, normalize(BigDecimal.valueOf(l)));
+      assertEquals(l, jsonNumber.longValue());
+    }
+    for (int i = 0; i < 10_000; i++) {
+      long l = random.nextLong() >> random.nextInt(64);
+      assertSameAsBigDecimal(new JSONNumber(l), normalize(BigDecimal.valueOf(l)));
+    }
+    double[] doubles = {0.0, -0.0, 0.1, 1.0000005, 2.0000005, -2.0000005, 0.0000005, 69.7, 1e-7, 4.5e9, 1e300, Double.MIN_VALUE};
+    for (double d : doubles) {
+      assertSameAsBigDecimal(new JSONNumber(d), normalize(new BigDecimal(d)));
+    }
+    for (int i = 0; i < 10_000; i++) {
+      double d = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(24) - 12);
+      assertSameAsBigDecimal(new JSONNumber(d), normalize(new BigDecimal(d)));
+      float f = (float) d;
+      assertSameAsBigDecimal(new JSONNumber(f), normalize(new BigDecimal(f)));
+    }
+  }
+
+  @Test
+  public void testCompareMixedScales() {
+    Random random = new Random(7);
+    String[] values = {"0", "1", "-1", "0.000001", "123456.789", "-123456.789", "1E+18", "1E+30", "-1E+30", "9223372036854775807", "92233720368547758070", "0.5"};
+    List<JSONNumber> numbers = new ArrayList<>();
+    for (String value : values) {
+      numbers.add(new JSONNumber(value));
+    }
+    for (int i = 0; i < 1000; i++) {
+      numbers.add(new JSONNumber(BigDecimal.valueOf(random.nextLong(), random.nextInt(30) - 20)));
+    }
+    for (JSONNumber a : numbers) {
+      for (JSONNumber b : numbers) {
+        assertEquals(a.toBigDecimal().compareTo(b.toBigDecimal()), a.compareTo(b));
+        assertEquals(a.toBigDecimal().equals(b.toBigDecimal()), a.equals(b));
+      }
+    }
+  }
+
+  @Test
+  public void testCompareWithMinimumLong() {
+    JSONNumber minimum = new JSONNumber(Long.MIN_VALUE);
+    JSONNumber half = new JSONNumber(-0.5);
+    assertEquals(1, half.compareTo(minimum));
+    assertEquals(-1, minimum.compareTo(half));
+    assertEquals(0, minimum.compareTo(new JSONNumber(Long.MIN_VALUE)));
+    assertEquals(-1, minimum.compareTo(new JSONNumber(BigDecimal.valueOf(Long.MIN_VALUE, -1).negate())));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testToIntegerWithFraction() {
+    new JSONNumber(1.5).toInteger();
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testToByteOverflow() {
+    new JSONNumber(1000).toByte();
+  }
 }
@@ -3,7 +3,10 @@ package net.cabezudo.json.values;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Iterator;
 import java.util.List;
 import net.cabezudo.json.JSON;
 import net.cabezudo.json.JSONElement;
@@ -2095,4 +2098,99 @@ public class JSONObjectTest {
     assertEquals("{ \"id\": 69, \"list\": [ 1, 8, 13 ], \"mostImportantBook\": 8 }", jsonStorageReferencedTree.toJSON());
   }
 
+  @Test
+  public void testManyProperties() throws PropertyNotExistException {
+    JSONObject jsonObject = new JSONObject();
+    for (int i = 99; i >= 0; i--) {
+      jsonObject.add(new JSONPair("key" + i, i));
+    }
+    assertEquals(100, jsonObject.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Integer.valueOf(i), jsonObject.getInteger("key" + i));
+    }
+    assertEquals("key99", jsonObject.getNullElement(0).getKey());
+    assertEquals("key0", jsonObject.getKeyList().get(0));
+
+    for (int i = 0; i < 100; i += 2) {
+      jsonObject.remove("key" + i);
+    }
+    assertEquals(50, jsonObject.size());
+    assertTrue(jsonObject.contains("key51"));
+    assertTrue(!jsonObject.contains("key50"));
+    assertEquals(Integer.valueOf(51), jsonObject.getInteger("key51"));
+
+    Iterator<JSONPair> iterator = jsonObject.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().getValue().toInteger() > 5) {
+        iterator.remove();
+      }
+    }
+    assertEquals("{ \"key5\": 5, \"key3\": 3, \"key1\": 1 }", jsonObject.toJSON());
+    assertEquals(Arrays.asList("key1", "key3", "key5"), jsonObject.getKeyList());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testAddDuplicatedKey() {
+    JSONObject jsonObject = new JSONObject();
+    for (int i = 0; i < 20; i++) {
+      jsonObject.add(new JSONPair("key" + i, i));
+    }
+    jsonObject.add(new JSONPair("key10", 10));
+  }
+
+  @Test
+  public void testCollidingKeys() throws JSONParseException, PropertyNotExistException {
+    // All the combinations of "Aa" and "BB" have the same hash code.
+    List<String> keys = new ArrayList<>();
+    keys.add("");
+    for (int i = 0; i < 12; i++) {
+      List<String> next = new ArrayList<>();
+      for (String key : keys) {
+        next.add(key + "Aa");
+        next.add(key + "BB");
+      }
+      keys = next;
+    }
+    StringBuilder sb = new StringBuilder("{ ");
+    for (int i = 0; i < keys.size(); i++) {
+      assertEquals(keys.get(0).hashCode(), keys.get(i).hashCode());
+      sb.append(i == 0 ? "" : ", ").append('"').append(keys.get(i)).append("\": ").append(i);
+    }
+    sb.append(" }");
+
+    JSONObject jsonObject = JSON.parse(sb.toString()).toJSONObject();
+    assertEquals(keys.size(), jsonObject.size());
+    for (int i = 0; i < keys.size(); i += 97) {
+      assertEquals(Integer.valueOf(i), jsonObject.getInteger(keys.get(i)));
+    }
+    assertTrue(!jsonObject.contains("AaAa"));
+    jsonObject.remove(keys.get(0));
+    assertTrue(!jsonObject.contains(keys.get(0)));
+    assertEquals(Integer.valueOf(1), jsonObject.getInteger(keys.get(1)));
+    assertEquals(keys.get(1), jsonObject.getChilds().get(0).getKey());
+    try {
+      jsonObject.add(new JSONPair(keys.get(2), 2));
+      fail("Must throw an exception");
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testLiveChilds() {
+    JSONObject jsonObject = new JSONObject(new JSONPair("a", 1), new JSONPair("b", 2));
+    List<JSONPair> childs = jsonObject.getChilds();
+    jsonObject.remove("a");
+    assertEquals(1, childs.size());
+    assertEquals("b", childs.get(0).getKey());
+    jsonObject.add(new JSONPair("c", 3));
+    assertEquals(2, childs.size());
+    assertEquals("c", childs.get(1).getKey());
+    try {
+      childs.add(new JSONPair("d", 4));
+      fail("Must throw an exception");
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+  }
 }
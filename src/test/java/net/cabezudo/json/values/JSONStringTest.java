@@ -4,10 +4,15 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
 import java.util.List;
+import net.cabezudo.json.JSON;
+import net.cabezudo.json.JSONPair;
 import net.cabezudo.json.exceptions.ElementNotExistException;
 import net.cabezudo.json.exceptions.JSONConversionException;
+import net.cabezudo.json.exceptions.JSONParseException;
+import net.cabezudo.json.exceptions.PropertyNotExistException;
 import org.junit.Assert;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -304,6 +309,58 @@ public class JSONStringTest {
     assertEquals("Esteban", s);
   }
 
+  @Test
+  public void testToStringWithoutEscapeSequences() {
+    String value = "Esteban Cabezudo";
+    JSONString a = new JSONString(value);
+
+    assertSame(value, a.toString());
+    assertSame(a.toString(), a.toString());
+  }
+
+  @Test
+  public void testToStringWithEscapeSequences() {
+    JSONString a = JSONString.fromSource("a\\\"b\\\\c\\/d\\b\\f\\n\\r\\te", null);
+    assertEquals("a\"b\\c/d\b\f\n\r\te", a.toString());
+    assertSame(a.toString(), a.toString());
+
+    assertEquals("caf\u00e9 \u00e9", JSONString.fromSource("caf\\u00e9 \\u00E9", null).toString());
+    assertEquals("\\u0041", JSONString.fromSource("\\\\u0041", null).toString());
+    assertEquals("smile \ud83d\ude00!", JSONString.fromSource("smile \\ud83d\\ude00!", null).toString());
+    assertEquals(0x1F600, JSONString.fromSource("\\uD83D\\uDE00", null).toString().codePointAt(0));
+  }
+
+  @Test
+  public void testToJSONWithJavaValues() throws JSONParseException, PropertyNotExistException, ElementNotExistException {
+    assertEquals("\"q\\\"\"", new JSONString("q\"").toJSON());
+    assertEquals("q\"", new JSONString("q\"").toString());
+    assertEquals("\"\\\\ \\n \\u0001\"", new JSONString("\\ \n \u0001").toJSON());
+    assertEquals("\"\\\"\"", new JSONString('"').toJSON());
+    assertEquals(new JSONString("q\""), JSON.parse("[ \"q\\\"\" ]").toJSONArray().getValue(0));
+
+    JSONObject object = new JSONObject();
+    object.add(new JSONPair("name", "The \"double\"\\"));
+    String json = object.toJSON();
+    assertEquals("{ \"name\": \"The \\\"double\\\"\\\\\" }", json);
+    assertEquals("The \"double\"\\", JSON.parse(json).toJSONObject().getString("name"));
+  }
+
+  @Test
+  public void testParseUnicodeEscapeSequences() throws JSONParseException, PropertyNotExistException {
+    JSONObject object = JSON.parse("{ \"caf\\u00e9\": \"\\u00e9\\ud83d\\ude00\" }").toJSONObject();
+    assertEquals("\u00e9\ud83d\ude00", object.getString("caf\u00e9"));
+  }
+
+  @Test(expected = InvalidStringException.class)
+  public void testToStringWithInvalidEscapeSequence() {
+    JSONString.fromSource("a\\x", null).toString();
+  }
+
+  @Test(expected = InvalidStringException.class)
+  public void testToStringWithShortUnicodeEscapeSequence() {
+    JSONString.fromSource("a\\u12", null).toString();
+  }
+
   @Test
   public void testToStringArray() {
     JSONString a = new JSONString("Esteban");